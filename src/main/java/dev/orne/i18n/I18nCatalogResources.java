@@ -0,0 +1,58 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Locale;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * I18N messages source that can list all its messages for a locale,
+ * allowing exporting the whole catalog to clients that resolve and format
+ * the texts themselves.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nResources
+ * @see I18nResourcesStringJacksonSerializer
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public interface I18nCatalogResources
+extends I18nResources {
+
+    /**
+     * Returns the unformatted messages available for the specified locale,
+     * including the messages inherited from fallback locales, sorted by
+     * message code.
+     * 
+     * @param locale The locale to retrieve the messages for
+     * @return The unformatted messages, by message code
+     */
+    @NotNull Map<@NotNull String, @NotNull String> getCatalog(
+            @NotNull Locale locale);
+}
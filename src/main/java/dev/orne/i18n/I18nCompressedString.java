@@ -0,0 +1,332 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Immutable implementation of {@code I18nString} populated with
+ * translations that keeps its texts compressed.
+ * <p>
+ * Intended for long, rarely accessed texts, as descriptions in many
+ * languages. Texts are compressed with a {@code I18nTextCompressor},
+ * usually shared by all the texts of a dataset, and decompressed on
+ * access. The compressor caches recently decompressed texts.
+ * <p>
+ * The hash code is computed once, and is equal to the hash code of an
+ * {@code I18nStringMap} with the same default text and translations.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nTextCompressor
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nCompressedString
+implements I18nString, I18nTranslatedString {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The texts compressor. */
+    private final @NotNull I18nTextCompressor compressor;
+    /** The encoded default text. */
+    private final @NotNull Object defaultText;
+    /** The languages of the translations, sorted. */
+    private final @NotNull String[] languages;
+    /** The encoded translations, in languages order. */
+    private final @NotNull Object[] texts;
+    /** The precomputed hash code. */
+    private final int hash;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param compressor The texts compressor
+     * @param defaultText The default text
+     * @param translations The text translations
+     */
+    private I18nCompressedString(
+            final @NotNull I18nTextCompressor compressor,
+            final @NotNull String defaultText,
+            final @NotNull Map<String, String> translations) {
+        super();
+        this.compressor = compressor;
+        this.defaultText = compressor.encode(defaultText);
+        final TreeMap<String, String> sorted = new TreeMap<>(translations);
+        this.languages = sorted.keySet().toArray(new String[sorted.size()]);
+        this.texts = new Object[this.languages.length];
+        int index = 0;
+        for (final String text : sorted.values()) {
+            this.texts[index++] = compressor.encode(text);
+        }
+        this.hash = new HashCodeBuilder()
+                .append(defaultText)
+                .append(translations)
+                .toHashCode();
+    }
+
+    /**
+     * Returns a compressed copy of the specified {@code I18nString}, with
+     * the default text and translations returned by {@code asMap()}.
+     * <p>
+     * Returns {@code source} if already compressed with an equal
+     * compressor.
+     * Will return {@code null} if {@code source} is {@code null}.
+     *
+     * @param source The source of the I18N text
+     * @param compressor The texts compressor
+     * @return The compressed I18N text, or {@code null} if {@code source}
+     * is {@code null}
+     * @see I18nString#asMap()
+     */
+    public static I18nCompressedString of(
+            final I18nString source,
+            final @NotNull I18nTextCompressor compressor) {
+        Validate.notNull(compressor);
+        if (source == null) { return null; }
+        if (source instanceof I18nCompressedString
+                && compressor.equals(((I18nCompressedString) source).compressor)) {
+            return (I18nCompressedString) source;
+        }
+        final I18nStringMap map = source.asMap();
+        return new I18nCompressedString(compressor, map.getDefaultText(), map.getI18n());
+    }
+
+    /**
+     * Returns the texts compressor.
+     *
+     * @return The texts compressor
+     */
+    public @NotNull I18nTextCompressor getCompressor() {
+        return this.compressor;
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text
+     */
+    public @NotNull String getDefaultText() {
+        return this.compressor.decode(this.defaultText);
+    }
+
+    /**
+     * Returns the text translations, decompressing all of them.
+     *
+     * @return A new map with the text translations
+     */
+    public @NotNull Map<@NotNull String, @NotNull String> getI18n() {
+        final Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < this.languages.length; i++) {
+            result.put(this.languages[i], this.compressor.decode(this.texts[i]));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String get() {
+        return get(I18N.getLocale());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The translations are looked up following the fallback chain of the
+     * language tag. Only the returned text is decompressed.
+     *
+     * @see I18nFallbackChain#of(String)
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull String language) {
+        Validate.notNull(language);
+        final int index;
+        if (language.indexOf('-') == -1) {
+            index = Arrays.binarySearch(this.languages, language);
+        } else {
+            index = indexOf(I18nFallbackChain.of(language));
+        }
+        return this.compressor.decode(index < 0 ? this.defaultText : this.texts[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The translations are looked up following the fallback chain of the
+     * locale. Only the returned text is decompressed.
+     *
+     * @see I18nFallbackChain#of(Locale)
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull Locale locale) {
+        final int index = indexOf(I18nFallbackChain.of(locale));
+        return this.compressor.decode(index < 0 ? this.defaultText : this.texts[index]);
+    }
+
+    /**
+     * Returns the position of the translation for the first language tag
+     * of the specified fallback chain with translation.
+     *
+     * @param chain The fallback chain
+     * @return The translation position, or a negative value if none is
+     * found
+     */
+    private int indexOf(
+            final @NotNull I18nFallbackChain chain) {
+        if (this.languages.length == 0) {
+            return -1;
+        }
+        for (int i = 0; i < chain.size(); i++) {
+            final int index = Arrays.binarySearch(this.languages, chain.get(i));
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Instances compressed with equal compressors are compared without
+     * decompressing their texts.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) { return true; }
+        if (!(obj instanceof I18nCompressedString)) { return false; }
+        final I18nCompressedString other = (I18nCompressedString) obj;
+        if (this.hash != other.hash) { return false; }
+        if (this.compressor.equals(other.compressor)) {
+            return encodedEquals(this.defaultText, other.defaultText) &&
+                    Arrays.equals(this.languages, other.languages) &&
+                    encodedEquals(this.texts, other.texts);
+        }
+        return getDefaultText().equals(other.getDefaultText()) &&
+                getI18n().equals(other.getI18n());
+    }
+
+    /**
+     * Compares the specified encoded texts.
+     *
+     * @param texts The encoded texts
+     * @param others The other encoded texts
+     * @return If the encoded texts are equal
+     */
+    private static boolean encodedEquals(
+            final @NotNull Object[] texts,
+            final @NotNull Object[] others) {
+        if (texts.length != others.length) {
+            return false;
+        }
+        for (int i = 0; i < texts.length; i++) {
+            if (!encodedEquals(texts[i], others[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the specified encoded text.
+     *
+     * @param text The encoded text
+     * @param other The other encoded text
+     * @return If the encoded texts are equal
+     */
+    private static boolean encodedEquals(
+            final @NotNull Object text,
+            final @NotNull Object other) {
+        if (text instanceof byte[] && other instanceof byte[]) {
+            return Arrays.equals((byte[]) text, (byte[]) other);
+        }
+        return text.equals(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Instances of {@code I18nStringMap}, {@code I18nFrozenString},
+     * {@code I18nConcurrentStringMap} and {@code I18nStringTable.Row} with
+     * the same default text and translations are equivalent to this
+     * instance.
+     */
+    @Override
+    public boolean isEquivalent(final I18nString obj) {
+        if (obj instanceof I18nCompressedString) { return equals(obj); }
+        return I18nTranslatedString.isEquivalent(this, obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull I18nTranslatedString translatedState() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a new {@code I18nStringMap} with the decompressed default
+     * text and translations.
+     */
+    @Override
+    public @NotNull I18nStringMap asMap() {
+        return new I18nStringMap(this);
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text.
+     */
+    @Override
+    public @NotNull String toString() {
+        return getDefaultText();
+    }
+}
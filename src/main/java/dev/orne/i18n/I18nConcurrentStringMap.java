@@ -0,0 +1,329 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.i18n.jaxb.I18nConcurrentStringMapAdapter;
+
+/**
+ * Thread safe implementation of {@code I18nString} populated with
+ * translations, for shared values read by many threads and updated
+ * occasionally.
+ * <p>
+ * The current state is held as an immutable {@code I18nFrozenString}
+ * snapshot. Reads are lock free and always see a complete snapshot.
+ * Modifications are serialized, build a new snapshot and publish it
+ * atomically. Use {@link #update(Consumer)} to apply several
+ * modifications as a single atomic change.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nFrozenString
+ * @see I18nStringMap
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+@XmlJavaTypeAdapter(I18nConcurrentStringMapAdapter.class)
+public class I18nConcurrentStringMap
+implements I18nString, I18nTranslatedString {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The current snapshot. */
+    private volatile @NotNull I18nFrozenString snapshot;
+
+    /**
+     * Creates a new instance with empty default text and no translations.
+     */
+    public I18nConcurrentStringMap() {
+        this("");
+    }
+
+    /**
+     * Creates a new instance with specified default text and no translations.
+     *
+     * @param defaultText The default text
+     */
+    public I18nConcurrentStringMap(
+            final @NotNull String defaultText) {
+        super();
+        this.snapshot = new I18nStringMap(defaultText).freeze();
+    }
+
+    /**
+     * Copy constructor.
+     * <p>
+     * The default text and translations are copied as in
+     * {@code I18nStringMap} copy constructor.
+     *
+     * @param copy The instance to copy
+     * @see I18nStringMap#I18nStringMap(I18nString)
+     */
+    public I18nConcurrentStringMap(
+            final @NotNull I18nString copy) {
+        super();
+        Validate.notNull(copy);
+        if (copy instanceof I18nConcurrentStringMap) {
+            this.snapshot = ((I18nConcurrentStringMap) copy).snapshot;
+        } else {
+            this.snapshot = I18nFrozenString.from(copy);
+        }
+    }
+
+    /**
+     * Returns the current immutable snapshot of this instance.
+     *
+     * @return The current snapshot
+     */
+    public @NotNull I18nFrozenString snapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text
+     */
+    public @NotNull String getDefaultText() {
+        return this.snapshot.getDefaultText();
+    }
+
+    /**
+     * Sets the default text.
+     *
+     * @param defaultText The default text
+     * @return This instance for method chaining
+     */
+    public @NotNull I18nConcurrentStringMap setDefaultText(
+            final @NotNull String defaultText) {
+        Validate.notNull(defaultText);
+        return update(map -> map.setDefaultText(defaultText));
+    }
+
+    /**
+     * Returns an unmodifiable view of the text translations of the current
+     * snapshot. Further modifications of this instance are not reflected
+     * in the returned {@code Map}.
+     *
+     * @return The text translations
+     */
+    public @NotNull Map<@NotNull String, @NotNull String> getI18n() {
+        return this.snapshot.getI18n();
+    }
+
+    /**
+     * Replaces the text translations atomically.
+     *
+     * @param translations The text translations
+     * @return This instance for method chaining
+     * @see I18nStringMap#setI18n(Map)
+     */
+    public @NotNull I18nConcurrentStringMap setI18n(
+            final @NotNull Map<@NotNull String, @NotNull String> translations) {
+        Validate.notNull(translations);
+        Validate.noNullElements(translations.keySet());
+        Validate.noNullElements(translations.values());
+        return update(map -> map.setI18n(translations));
+    }
+
+    /**
+     * Sets the translation for the specified language.
+     *
+     * @param language The language of the translation
+     * @param text The translated text
+     * @return This instance for method chaining
+     */
+    public @NotNull I18nConcurrentStringMap set(
+            final @NotNull String language,
+            final @NotNull String text) {
+        Validate.notNull(language);
+        Validate.notNull(text);
+        return update(map -> map.set(language, text));
+    }
+
+    /**
+     * Sets the translation for the specified locale.
+     *
+     * @param locale The language of the translation
+     * @param text The translated text
+     * @return This instance for method chaining
+     */
+    public @NotNull I18nConcurrentStringMap set(
+            final @NotNull Locale locale,
+            final @NotNull String text) {
+        return set(Validate.notNull(locale).getLanguage(), text);
+    }
+
+    /**
+     * Removes the translation for the specified language.
+     *
+     * @param language The language of the translation
+     * @return This instance for method chaining
+     */
+    public @NotNull I18nConcurrentStringMap remove(
+            final @NotNull String language) {
+        Validate.notNull(language);
+        return update(map -> map.remove(language));
+    }
+
+    /**
+     * Removes the translation for the specified language.
+     *
+     * @param locale The language of the translation
+     * @return This instance for method chaining
+     */
+    public @NotNull I18nConcurrentStringMap remove(
+            final @NotNull Locale locale) {
+        return remove(Validate.notNull(locale).getLanguage());
+    }
+
+    /**
+     * Applies the specified modifications atomically.
+     * <p>
+     * The modifications are applied to a mutable copy of the current
+     * snapshot, that is published once the modifications are completed.
+     * If {@code modifications} throws an exception no changes are
+     * published. Concurrent modifications are serialized.
+     *
+     * @param modifications The modifications to apply
+     * @return This instance for method chaining
+     */
+    public synchronized @NotNull I18nConcurrentStringMap update(
+            final @NotNull Consumer<@NotNull I18nStringMap> modifications) {
+        Validate.notNull(modifications);
+        final I18nStringMap map = new I18nStringMap(this.snapshot);
+        modifications.accept(map);
+        this.snapshot = map.freeze();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String get() {
+        return this.snapshot.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull String language) {
+        return this.snapshot.get(language);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull Locale locale) {
+        return this.snapshot.get(locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return this.snapshot.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (!getClass().equals(obj.getClass())) { return false; }
+        final I18nConcurrentStringMap other = (I18nConcurrentStringMap) obj;
+        return this.snapshot.equals(other.snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Instances of {@code I18nStringMap}, {@code I18nFrozenString},
+     * {@code I18nStringTable.Row} and {@code I18nCompressedString} with the
+     * same default text and translations are equivalent to the current
+     * snapshot of this instance.
+     */
+    @Override
+    public boolean isEquivalent(final I18nString obj) {
+        if (obj != null && getClass().equals(obj.getClass())) { return equals(obj); }
+        return I18nTranslatedString.isEquivalent(this, obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the current snapshot.
+     */
+    @Override
+    public @NotNull I18nTranslatedString translatedState() {
+        return this.snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a mutable copy of the current snapshot.
+     */
+    @Override
+    public @NotNull I18nStringMap asMap() {
+        return this.snapshot.asMap();
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text.
+     */
+    @Override
+    public @NotNull String toString() {
+        return this.snapshot.toString();
+    }
+
+    /**
+     * Replaces this instance with its compact serialized form.
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(this);
+    }
+}
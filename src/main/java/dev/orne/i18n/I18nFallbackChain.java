@@ -0,0 +1,296 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Immutable ordered list of language tags to look up when resolving a
+ * translation for a language tag or locale.
+ * <p>
+ * The chain starts with the full language tag and continues with the tags
+ * obtained removing subtags from the end, as in RFC 4647 lookup. Singleton
+ * subtags (as the {@code x} of private use sequences) are removed along
+ * with the following subtag. For example, the chain of
+ * {@code es-ES-valencia} is {@code [es-ES-valencia, es-ES, es]}.
+ * The default text, if any, is not part of the chain.
+ * <p>
+ * Language tags are used as provided, without case normalization.
+ * Locales are converted to language tags with format
+ * {@code language[-Script][-REGION][-variant]}.
+ * <p>
+ * Chains are cached, so resolving the same tag or locale again
+ * performs no allocations.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nFallbackChain {
+
+    /** The maximum number of cached chains of each cache. */
+    private static final int MAX_CACHE_SIZE = 1024;
+    /** The subtags separator. */
+    private static final char SEPARATOR = '-';
+    /** The by language tag chains cache. */
+    private static final Map<String, I18nFallbackChain> TAG_CACHE =
+            new ConcurrentHashMap<>();
+    /** The by locale chains cache. */
+    private static final Map<Locale, I18nFallbackChain> LOCALE_CACHE =
+            new ConcurrentHashMap<>();
+
+    /** The candidate language tags, from most to least specific. */
+    private final @NotNull String[] candidates;
+    /** The cached language identifiers of the candidate language tags. */
+    private final @NotNull int[] ids;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param candidates The candidate language tags
+     */
+    private I18nFallbackChain(
+            final @NotNull String[] candidates) {
+        super();
+        this.candidates = candidates;
+        this.ids = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            this.ids[i] = I18nLanguageIds.lookup(candidates[i]);
+        }
+    }
+
+    /**
+     * Returns the fallback chain for the specified language tag.
+     *
+     * @param tag The language tag
+     * @return The fallback chain
+     */
+    public static @NotNull I18nFallbackChain of(
+            final @NotNull String tag) {
+        Validate.notNull(tag);
+        I18nFallbackChain result = TAG_CACHE.get(tag);
+        if (result == null) {
+            result = new I18nFallbackChain(computeCandidates(tag));
+            cache(TAG_CACHE, tag, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fallback chain for the specified locale.
+     *
+     * @param locale The locale
+     * @return The fallback chain
+     * @see #toTag(Locale)
+     */
+    public static @NotNull I18nFallbackChain of(
+            final @NotNull Locale locale) {
+        Validate.notNull(locale);
+        I18nFallbackChain result = LOCALE_CACHE.get(locale);
+        if (result == null) {
+            result = of(toTag(locale));
+            cache(LOCALE_CACHE, locale, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the language tag used as fallback chain start for the
+     * specified locale, with format
+     * {@code language[-Script][-REGION][-variant]}.
+     * Locales without language produce an empty tag.
+     *
+     * @param locale The locale
+     * @return The language tag
+     */
+    public static @NotNull String toTag(
+            final @NotNull Locale locale) {
+        Validate.notNull(locale);
+        final String language = locale.getLanguage();
+        if (language.isEmpty()) {
+            return language;
+        }
+        final String script = locale.getScript();
+        final String country = locale.getCountry();
+        final String variant = locale.getVariant();
+        if (script.isEmpty() && country.isEmpty() && variant.isEmpty()) {
+            return language;
+        }
+        final StringBuilder builder = new StringBuilder(language);
+        if (!script.isEmpty()) {
+            builder.append(SEPARATOR).append(script);
+        }
+        if (!country.isEmpty()) {
+            builder.append(SEPARATOR).append(country);
+        }
+        if (!variant.isEmpty()) {
+            builder.append(SEPARATOR).append(variant.replace('_', SEPARATOR));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Computes the candidate language tags for the specified language tag.
+     *
+     * @param tag The language tag
+     * @return The candidate language tags
+     */
+    private static @NotNull String[] computeCandidates(
+            final @NotNull String tag) {
+        if (tag.indexOf(SEPARATOR) <= 0) {
+            return new String[] { tag };
+        }
+        final List<String> result = new ArrayList<>(4);
+        result.add(tag);
+        int end = tag.lastIndexOf(SEPARATOR);
+        while (end > 0) {
+            final int prev = tag.lastIndexOf(SEPARATOR, end - 1);
+            final boolean singleton = end - prev == 2;
+            if (!singleton) {
+                result.add(tag.substring(0, end));
+            }
+            end = prev;
+        }
+        return result.toArray(new String[result.size()]);
+    }
+
+    /**
+     * Stores the specified chain in the specified cache. If the cache is
+     * full it is discarded first.
+     *
+     * @param <K> The cache key type
+     * @param cache The cache
+     * @param key The cache key
+     * @param value The chain to cache
+     */
+    private static <K> void cache(
+            final @NotNull Map<K, I18nFallbackChain> cache,
+            final @NotNull K key,
+            final @NotNull I18nFallbackChain value) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
+    /**
+     * Returns the full language tag this chain starts with.
+     *
+     * @return The full language tag
+     */
+    public @NotNull String getTag() {
+        return this.candidates[0];
+    }
+
+    /**
+     * Returns the number of candidate language tags.
+     *
+     * @return The number of candidate language tags
+     */
+    public int size() {
+        return this.candidates.length;
+    }
+
+    /**
+     * Returns the candidate language tag at the specified position,
+     * from most to least specific.
+     *
+     * @param index The candidate position
+     * @return The candidate language tag
+     * @throws IndexOutOfBoundsException If the position is out of range
+     */
+    public @NotNull String get(
+            final int index) {
+        return this.candidates[index];
+    }
+
+    /**
+     * Returns the language identifier of the candidate language tag at the
+     * specified position. Language tags registered after the chain
+     * creation are resolved and cached on demand.
+     *
+     * @param index The candidate position
+     * @return The language identifier, or {@code I18nLanguageIds.NONE} if
+     * the language tag is not registered
+     * @see I18nLanguageIds
+     */
+    int getId(
+            final int index) {
+        int id = this.ids[index];
+        if (id == I18nLanguageIds.NONE) {
+            id = I18nLanguageIds.lookup(this.candidates[index]);
+            this.ids[index] = id;
+        }
+        return id;
+    }
+
+    /**
+     * Returns the candidate language tags, from most to least specific.
+     *
+     * @return An unmodifiable list with the candidate language tags
+     */
+    public @NotNull List<@NotNull String> toList() {
+        return Collections.unmodifiableList(Arrays.asList(this.candidates));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.candidates);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (!getClass().equals(obj.getClass())) { return false; }
+        final I18nFallbackChain other = (I18nFallbackChain) obj;
+        return Arrays.equals(this.candidates, other.candidates);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String toString() {
+        return Arrays.toString(this.candidates);
+    }
+}
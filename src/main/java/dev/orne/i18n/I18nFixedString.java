@@ -72,6 +72,8 @@ implements I18nString {
      * Returns an instance for the specified text.
      * <p>
      * Will return {@code null} if {@code text} is {@code null}.
+     * If a shared {@code I18nStringPool} is configured the pooled instance
+     * is returned.
      * 
      * @param text The fixed text for all languages
      * @return A instance with the specified text, or {@code null} if
@@ -80,7 +82,7 @@ implements I18nString {
     public static I18nFixedString from(
             final String text) {
         if (text == null) { return null; }
-        return new I18nFixedString(text);
+        return I18nStringPool.internShared(new I18nFixedString(text));
     }
 
     /**
@@ -174,4 +176,12 @@ implements I18nString {
     public @NotNull String toString() {
         return this.text;
     }
+    /**
+     * Replaces this instance with its compact serialized form.
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(this);
+    }
 }
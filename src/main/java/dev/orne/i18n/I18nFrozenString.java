@@ -0,0 +1,261 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.i18n.jaxb.I18nFrozenStringAdapter;
+
+/**
+ * Immutable implementation of {@code I18nString} populated with
+ * translations.
+ * <p>
+ * Instances are created freezing {@code I18nStringMap} instances and are
+ * safe to share between threads and to use as map keys. The hash code is
+ * computed once, and is equal to the hash code of an {@code I18nStringMap}
+ * with the same default text and translations.
+ * <p>
+ * Freezing an {@code I18nStringMap}, or copying a frozen instance into a
+ * new {@code I18nStringMap}, shares the translations storage until either
+ * side modifies it, so no defensive copies are made.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nStringMap#freeze()
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+@XmlJavaTypeAdapter(I18nFrozenStringAdapter.class)
+public final class I18nFrozenString
+implements I18nString, I18nTranslatedString {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The default text. */
+    private final @NotNull String defaultText;
+    /** The text translations. Never modified. */
+    private final transient @NotNull I18nTranslations i18n;
+    /** The unmodifiable view of the text translations. */
+    private final transient @NotNull Map<@NotNull String, @NotNull String> i18nView;
+    /** The precomputed hash code. */
+    private final transient int hash;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param defaultText The default text
+     * @param i18n The text translations, not to be modified afterwards
+     */
+    I18nFrozenString(
+            final @NotNull String defaultText,
+            final @NotNull I18nTranslations i18n) {
+        super();
+        this.defaultText = Validate.notNull(defaultText);
+        this.i18n = Validate.notNull(i18n);
+        this.i18nView = i18n.unmodifiableView();
+        this.hash = new HashCodeBuilder()
+                .append(this.defaultText)
+                .append(this.i18n)
+                .toHashCode();
+    }
+
+    /**
+     * Returns a frozen instance equivalent to the specified
+     * {@code I18nString}.
+     * <p>
+     * Returns {@code source} if already frozen.
+     * Will return {@code null} if {@code source} is {@code null}.
+     * If a shared {@code I18nStringPool} is configured the pooled instance
+     * is returned.
+     *
+     * @param source The source of the I18N text
+     * @return The frozen instance, or {@code null} if {@code source} is
+     * {@code null}
+     * @see I18nStringMap#I18nStringMap(I18nString)
+     */
+    public static I18nFrozenString from(
+            final I18nString source) {
+        if (source == null) { return null; }
+        final I18nFrozenString result;
+        if (source instanceof I18nFrozenString) {
+            result = (I18nFrozenString) source;
+        } else if (source instanceof I18nStringMap) {
+            result = ((I18nStringMap) source).freeze();
+        } else {
+            result = new I18nStringMap(source).freeze();
+        }
+        return I18nStringPool.internShared(result);
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text
+     */
+    public @NotNull String getDefaultText() {
+        return this.defaultText;
+    }
+
+    /**
+     * Returns an unmodifiable view of the text translations.
+     *
+     * @return The text translations
+     */
+    public @NotNull Map<@NotNull String, @NotNull String> getI18n() {
+        return this.i18nView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull I18nTranslatedString translatedState() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String get() {
+        return get(I18N.getLocale());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The translations are looked up following the fallback chain of the
+     * language tag.
+     *
+     * @see I18nFallbackChain#of(String)
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull String language) {
+        final String result = this.i18n.resolve(Validate.notNull(language));
+        return result == null ? this.defaultText : result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The translations are looked up following the fallback chain of the
+     * locale.
+     *
+     * @see I18nFallbackChain#of(Locale)
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull Locale locale) {
+        final String result = this.i18n.resolve(Validate.notNull(locale));
+        return result == null ? this.defaultText : result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) { return true; }
+        if (!(obj instanceof I18nFrozenString)) { return false; }
+        final I18nFrozenString other = (I18nFrozenString) obj;
+        return this.hash == other.hash &&
+                this.defaultText.equals(other.defaultText) &&
+                this.i18n.equals(other.i18n);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Instances of {@code I18nStringMap}, {@code I18nConcurrentStringMap},
+     * {@code I18nStringTable.Row} and {@code I18nCompressedString} with the
+     * same default text and translations are equivalent to this instance.
+     */
+    @Override
+    public boolean isEquivalent(final I18nString obj) {
+        if (obj instanceof I18nFrozenString) { return equals(obj); }
+        return I18nTranslatedString.isEquivalent(this, obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned instance shares the translations storage of this
+     * instance until modified.
+     */
+    @Override
+    public @NotNull I18nStringMap asMap() {
+        return new I18nStringMap(this);
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text.
+     */
+    @Override
+    public @NotNull String toString() {
+        return this.defaultText;
+    }
+
+    /**
+     * Replaces this instance with its compact serialized form.
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(this);
+    }
+
+    /**
+     * Prevents direct deserialization of instances.
+     *
+     * @param in The object input stream
+     * @throws InvalidObjectException Always
+     */
+    private void readObject(
+            final ObjectInputStream in)
+    throws InvalidObjectException {
+        throw new InvalidObjectException("Serialized form required");
+    }
+}
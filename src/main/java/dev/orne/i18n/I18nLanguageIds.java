@@ -0,0 +1,155 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Global dictionary of language tags to small integer identifiers.
+ * <p>
+ * Identifiers are assigned on first use, in sequence starting at zero,
+ * and never change or are released. Each registered language tag is
+ * stored once and shared by all the translations that use it.
+ * Only well formed language tags in their normalized form, as returned by
+ * {@code Locale.toLanguageTag()}, are registered, so arbitrary keys
+ * cannot exhaust the dictionary.
+ * <p>
+ * The dictionary is bounded to {@value #MAX_SIZE} language tags. Once
+ * full, unregistered language tags get no identifier and callers must
+ * fall back to {@code String} keyed storage.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ */
+@API(status=Status.INTERNAL, since="0.2")
+final class I18nLanguageIds {
+
+    /** The maximum number of registered language tags. */
+    static final int MAX_SIZE = 4096;
+    /** The identifier returned for language tags without identifier. */
+    static final int NONE = -1;
+    /** The undetermined language tag. */
+    private static final String UNDETERMINED = "und";
+
+    /** The identifiers by language tag. */
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    /** The language tags by identifier. */
+    private static volatile String[] tags = new String[0];
+
+    /**
+     * Private constructor.
+     */
+    private I18nLanguageIds() {
+        // Utility class
+    }
+
+    /**
+     * Returns the identifier of the specified language tag, registering
+     * it if required.
+     *
+     * @param tag The language tag
+     * @return The language tag identifier, or {@value #NONE} if the
+     * language tag is not registrable or the dictionary is full
+     * @see #isRegistrable(String)
+     */
+    static int register(
+            final @NotNull String tag) {
+        Validate.notNull(tag);
+        final Integer id = IDS.get(tag);
+        if (id != null) {
+            return id;
+        }
+        if (!isRegistrable(tag)) {
+            return NONE;
+        }
+        synchronized (IDS) {
+            final Integer current = IDS.get(tag);
+            if (current != null) {
+                return current;
+            }
+            final String[] currentTags = tags;
+            if (currentTags.length == MAX_SIZE) {
+                return NONE;
+            }
+            final String[] newTags = Arrays.copyOf(currentTags, currentTags.length + 1);
+            newTags[currentTags.length] = tag;
+            tags = newTags;
+            IDS.put(tag, currentTags.length);
+            return currentTags.length;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified language tag can be
+     * registered. Only well formed language tags in their normalized form
+     * are accepted, excluding the undetermined language tag.
+     *
+     * @param tag The language tag
+     * @return If the language tag can be registered
+     */
+    static boolean isRegistrable(
+            final @NotNull String tag) {
+        return !tag.isEmpty()
+                && !UNDETERMINED.equals(tag)
+                && tag.equals(Locale.forLanguageTag(tag).toLanguageTag());
+    }
+
+    /**
+     * Returns the identifier of the specified language tag, without
+     * registering it.
+     *
+     * @param tag The language tag
+     * @return The language tag identifier, or {@value #NONE} if the
+     * language tag is not registered
+     */
+    static int lookup(
+            final Object tag) {
+        if (tag == null) {
+            return NONE;
+        }
+        final Integer id = IDS.get(tag);
+        return id == null ? NONE : id;
+    }
+
+    /**
+     * Returns the language tag with the specified identifier.
+     *
+     * @param id The language tag identifier
+     * @return The shared language tag instance
+     * @throws IndexOutOfBoundsException If the identifier is not assigned
+     */
+    static @NotNull String tag(
+            final int id) {
+        return tags[id];
+    }
+}
@@ -0,0 +1,174 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Immutable selection of the translation languages to include when
+ * serializing {@code I18nString} instances with all their translations.
+ * <p>
+ * A projection includes the requested language tags and their fallback
+ * candidates, so clients resolving any of the requested languages get the
+ * same text they would get from the full translations.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nFallbackChain
+ * @see I18nStringJacksonSerializer#LANGUAGES_ATTRIBUTE
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nLanguageProjection {
+
+    /** The included language tags. */
+    private final @NotNull Set<@NotNull String> languages;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param languages The included language tags
+     */
+    private I18nLanguageProjection(
+            final @NotNull Set<@NotNull String> languages) {
+        super();
+        this.languages = Collections.unmodifiableSet(languages);
+    }
+
+    /**
+     * Creates a new projection for the specified language tags and their
+     * fallback candidates.
+     *
+     * @param languages The requested language tags
+     * @return The projection
+     */
+    public static @NotNull I18nLanguageProjection of(
+            final @NotNull String... languages) {
+        Validate.notNull(languages);
+        return of(Arrays.asList(languages));
+    }
+
+    /**
+     * Creates a new projection for the specified locales and their fallback
+     * candidates.
+     *
+     * @param locales The requested locales
+     * @return The projection
+     */
+    public static @NotNull I18nLanguageProjection of(
+            final @NotNull Locale... locales) {
+        Validate.notNull(locales);
+        return of(Arrays.asList(locales));
+    }
+
+    /**
+     * Creates a new projection for the specified language tags or locales
+     * and their fallback candidates.
+     *
+     * @param languages The requested language tags or locales
+     * @return The projection
+     * @throws IllegalArgumentException If an element is not a language tag
+     * or a locale
+     */
+    public static @NotNull I18nLanguageProjection of(
+            final @NotNull Collection<?> languages) {
+        Validate.notNull(languages);
+        final Set<String> tags = new HashSet<>();
+        for (final Object language : languages) {
+            final I18nFallbackChain chain;
+            if (language instanceof Locale) {
+                chain = I18nFallbackChain.of((Locale) language);
+            } else if (language instanceof String) {
+                chain = I18nFallbackChain.of((String) language);
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported language: " + language);
+            }
+            tags.addAll(chain.toList());
+        }
+        return new I18nLanguageProjection(tags);
+    }
+
+    /**
+     * Returns the included language tags, including fallback candidates.
+     *
+     * @return The included language tags
+     */
+    public @NotNull Set<@NotNull String> getLanguages() {
+        return this.languages;
+    }
+
+    /**
+     * Returns {@code true} if the specified language tag is included in
+     * this projection.
+     *
+     * @param language The language tag
+     * @return If the language tag is included
+     */
+    public boolean includes(
+            final String language) {
+        return this.languages.contains(language);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return this.languages.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (!getClass().equals(obj.getClass())) { return false; }
+        return this.languages.equals(((I18nLanguageProjection) obj).languages);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.DEFAULT_STYLE)
+                .append("languages", this.languages)
+                .toString();
+    }
+}
@@ -0,0 +1,257 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.i18n.jaxb.I18nLazyStringAdapter;
+
+/**
+ * Thread safe implementation of {@code I18nString} which texts are
+ * computed on demand by a supplier function.
+ * <p>
+ * The text for each locale is computed on first access and memoized.
+ * If the supplier returns {@code null} for a locale the default text is
+ * used for that locale. Memoized texts can be discarded with
+ * {@link #invalidate(Locale)} and {@link #invalidateAll()}, causing them
+ * to be computed again on next access. Concurrent first accesses to the
+ * same locale can compute its text more than once, but all of them
+ * return the same memoized text.
+ * <p>
+ * Instances are serialized (by Java serialization, Jackson and JAXB) as
+ * the equivalent {@code I18nStringMap} of {@link #asMap()}, containing
+ * only the already computed translations.
+ * <p>
+ * Instances are only equal to themselves, as their texts are not known
+ * until computed.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nStringMap
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+@XmlJavaTypeAdapter(I18nLazyStringAdapter.class)
+public final class I18nLazyString
+implements I18nString {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+    /** The marker of computed texts without translation. */
+    private static final String NO_TEXT = new String();
+
+    /** The default text. */
+    private final @NotNull String defaultText;
+    /** The texts supplier function. */
+    private final transient @NotNull Function<@NotNull Locale, String> supplier;
+    /** The memoized texts, by language tag. */
+    private final transient @NotNull ConcurrentMap<@NotNull String, @NotNull String> texts =
+            new ConcurrentHashMap<>(4);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param defaultText The default text
+     * @param supplier The texts supplier function. Returns the text for
+     * the passed locale, or {@code null} if the default text must be used.
+     */
+    public I18nLazyString(
+            final @NotNull String defaultText,
+            final @NotNull Function<@NotNull Locale, String> supplier) {
+        super();
+        this.defaultText = Validate.notNull(defaultText);
+        this.supplier = Validate.notNull(supplier);
+    }
+
+    /**
+     * Creates a new instance with the default text and translations of the
+     * specified I18N string, as already computed texts. Texts for other
+     * locales are resolved from those translations following the locale
+     * fallback chain.
+     *
+     * @param value The I18N string to copy
+     * @return The created instance
+     */
+    public static @NotNull I18nLazyString from(
+            final @NotNull I18nString value) {
+        Validate.notNull(value);
+        final I18nStringMap map = value.asMap();
+        final I18nTranslations translations = I18nTranslations.copyOf(map.getI18n());
+        final I18nLazyString result = new I18nLazyString(
+                map.getDefaultText(),
+                translations::resolve);
+        result.texts.putAll(translations);
+        return result;
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text
+     */
+    public @NotNull String getDefaultText() {
+        return this.defaultText;
+    }
+
+    /**
+     * Returns the computed translations, by language tag. Computed texts
+     * for which the supplier returned {@code null} are not included.
+     *
+     * @return A new map with the computed translations
+     */
+    public @NotNull Map<@NotNull String, @NotNull String> getI18n() {
+        final Map<String, String> result = new HashMap<>();
+        for (final Map.Entry<String, String> entry : this.texts.entrySet()) {
+            if (entry.getValue() != NO_TEXT) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the text for the specified locale has been
+     * computed and is memoized.
+     *
+     * @param locale The locale
+     * @return If the text for the locale is memoized
+     */
+    public boolean isComputed(
+            final @NotNull Locale locale) {
+        return this.texts.containsKey(I18nFallbackChain.toTag(Validate.notNull(locale)));
+    }
+
+    /**
+     * Discards the memoized text for the specified locale.
+     *
+     * @param locale The locale
+     * @return This instance for method chaining
+     */
+    public @NotNull I18nLazyString invalidate(
+            final @NotNull Locale locale) {
+        this.texts.remove(I18nFallbackChain.toTag(Validate.notNull(locale)));
+        return this;
+    }
+
+    /**
+     * Discards all the memoized texts.
+     *
+     * @return This instance for method chaining
+     */
+    public @NotNull I18nLazyString invalidateAll() {
+        this.texts.clear();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String get() {
+        return get(I18N.getLocale());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull String language) {
+        return get(Locale.forLanguageTag(Validate.notNull(language)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Computes and memoizes the text for the locale on first access.
+     */
+    @Override
+    public @NotNull String get(
+            final @NotNull Locale locale) {
+        final String tag = I18nFallbackChain.toTag(Validate.notNull(locale));
+        String result = this.texts.get(tag);
+        if (result == null) {
+            final String computed = this.supplier.apply(locale);
+            result = computed == null ? NO_TEXT : computed;
+            final String previous = this.texts.putIfAbsent(tag, result);
+            if (previous != null) {
+                result = previous;
+            }
+        }
+        return result == NO_TEXT ? this.defaultText : result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEquivalent(final I18nString obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        return get().equals(obj.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a new {@code I18nStringMap} with the default text and the
+     * computed translations.
+     */
+    @Override
+    public @NotNull I18nStringMap asMap() {
+        return new I18nStringMap(this);
+    }
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text.
+     */
+    @Override
+    public @NotNull String toString() {
+        return this.defaultText;
+    }
+
+    /**
+     * Replaces this instance with the compact serialized form of its
+     * equivalent {@code I18nStringMap}.
+     *
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(asMap());
+    }
+}
@@ -22,6 +22,7 @@ package dev.orne.i18n;
  * #L%
  */
 
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.Locale;
 
@@ -122,4 +123,36 @@ public interface I18nResources {
             @NotNull String[] codes,
             @NotNull Locale locale,
             Object... params);
+
+    /**
+     * Appends to the specified {@code Appendable} the I18N message for the
+     * specified locale of the first message code defined in this I18N
+     * resources of specified message codes.
+     * If no message code is defined in this I18N resources the specified
+     * default message is used.
+     * The message is formatted with the provided parameters.
+     * <p>
+     * The default implementation appends the result of
+     * {@link #getMessage(String, String[], Locale, Object...)}.
+     * Implementations can format the message directly into the
+     * {@code Appendable}.
+     * 
+     * @param out The {@code Appendable} to append the message to
+     * @param defaultMessage The default message format
+     * @param codes The message codes, in order of preference
+     * @param locale The locale to retrieve the message for
+     * @param params The message parameters
+     * @throws IOException If an I/O error occurs
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    default void writeMessage(
+            @NotNull Appendable out,
+            @NotNull String defaultMessage,
+            @NotNull String[] codes,
+            @NotNull Locale locale,
+            Object... params)
+    throws IOException {
+        out.append(getMessage(defaultMessage, codes, locale, params));
+    }
 }
@@ -22,12 +22,15 @@ package dev.orne.i18n;
  * #L%
  */
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -41,6 +44,7 @@ import org.apiguardian.api.API.Status;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
+import dev.orne.i18n.context.I18nContext;
 import dev.orne.i18n.jaxb.I18nResourcesStringAdapter;
 
 /**
@@ -51,11 +55,24 @@ import dev.orne.i18n.jaxb.I18nResourcesStringAdapter;
  * As the I18N resources formatting depends of the underlying implementation
  * the default text will be formatted with {@code MessageFormat} passing the
  * configured arguments, if any.
+ * <p>
+ * Memoized instances keep a small per-instance cache of the resolved texts,
+ * keyed by locale and I18N context provider session. Cached texts are
+ * discarded automatically when the context provider is invalidated.
+ * <p>
+ * Instances can be serialized in structured form, with the resources key,
+ * codes, arguments and unformatted default text, for clients that resolve
+ * and format the texts themselves. Jackson rejects any input by default;
+ * properties can opt in to read the structured form with
+ * {@code @JsonDeserialize(using = I18nResourcesStringJacksonDeserializer.class)}.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2021-01
  * @since 0.1
  * @see MessageFormat
+ * @see I18nResourcesStringJacksonSerializer
+ * @see I18nResourcesStringJacksonDeserializer
+ * @see I18nResourcesStringAdapter.Structured
  */
 @API(status=Status.STABLE, since="0.1")
 @JsonDeserialize(using=JsonDeserializer.None.class)
@@ -65,6 +82,8 @@ implements I18nString {
 
     /** The serial version UID. */
     private static final long serialVersionUID = 1L;
+    /** The maximum number of memoized texts per instance. */
+    private static final int MEMO_MAX_SIZE = 8;
 
     /** The key of the I18N resources to use. */
     private final String i18nResourcesKey;
@@ -74,6 +93,12 @@ implements I18nString {
     private final @NotNull String[] codes;
     /** The text arguments, applied to resolved text or default text. */
     private final @NotNull Serializable[] arguments;
+    /** If the resolved texts are memoized. */
+    private final boolean memoized;
+    /** The memoized resolved texts. */
+    private transient volatile MemoEntry[] memo;
+    /** The memoized formatted default text. */
+    private transient volatile String formattedDefaultText;
 
     /**
      * Creates a new instance.
@@ -90,6 +115,27 @@ implements I18nString {
             final @NotNull String defaultMessage,
             final @NotNull String[] codes,
             final Serializable... arguments) {
+        this(resources, defaultMessage, codes, arguments, false);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param resources The I18N resources to use. If {@code null} will use
+     * default ones
+     * @param defaultMessage The default text
+     * @param codes The I18N text codes, in order of priority
+     * @param arguments The text arguments, applied to resolved text or
+     * default text
+     * @param memoized If the resolved texts should be memoized
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    protected I18nResourcesString(
+            final String resources,
+            final @NotNull String defaultMessage,
+            final @NotNull String[] codes,
+            final @NotNull Serializable[] arguments,
+            final boolean memoized) {
         super();
         this.i18nResourcesKey = resources;
         this.defaultText = Validate.notNull(defaultMessage);
@@ -98,6 +144,7 @@ implements I18nString {
         this.codes = Arrays.copyOf(codes, codes.length);
         Validate.notNull(arguments);
         this.arguments = Arrays.copyOf(arguments, arguments.length);
+        this.memoized = memoized;
     }
 
     /**
@@ -137,10 +184,29 @@ implements I18nString {
 
     /**
      * Returns the formatted default text.
+     * <p>
+     * Memoized instances format the default text only once.
      * 
      * @return The formatted default text
      */
     public @NotNull String getFormattedDefaultText() {
+        if (!this.memoized) {
+            return formatDefaultText();
+        }
+        String result = this.formattedDefaultText;
+        if (result == null) {
+            result = formatDefaultText();
+            this.formattedDefaultText = result;
+        }
+        return result;
+    }
+
+    /**
+     * Formats the default text with the text arguments.
+     * 
+     * @return The formatted default text
+     */
+    private @NotNull String formatDefaultText() {
         try {
             return MessageFormat.format(this.defaultText, (Object[]) this.arguments);
         } catch (final IllegalArgumentException ignore) {
@@ -167,11 +233,45 @@ implements I18nString {
         return Arrays.copyOf(this.arguments, this.arguments.length);
     }
 
+    /**
+     * Returns {@code true} if the resolved texts of this instance are
+     * memoized.
+     * 
+     * @return If the resolved texts are memoized
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public boolean isMemoized() {
+        return this.memoized;
+    }
+
+    /**
+     * Returns a memoized copy of this instance. If this instance is already
+     * memoized returns this instance.
+     * 
+     * @return A memoized instance equal to this instance
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public @NotNull I18nResourcesString memoize() {
+        if (this.memoized) {
+            return this;
+        }
+        return new I18nResourcesString(
+                this.i18nResourcesKey,
+                this.defaultText,
+                this.codes,
+                this.arguments,
+                true);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String get() {
+        if (this.memoized) {
+            final I18nContext context = I18nContext.getInstance();
+            return getMemoized(context, context.getLocale());
+        }
         return I18N.getResources(this.i18nResourcesKey).getMessage(
                 this.defaultText,
                 this.codes,
@@ -183,6 +283,11 @@ implements I18nString {
      */
     @Override
     public String get(final @NotNull String language) {
+        if (this.memoized) {
+            return getMemoized(
+                    I18nContext.getInstance(),
+                    new Locale(Validate.notNull(language)));
+        }
         return I18N.getResources(this.i18nResourcesKey).getMessage(
                 this.defaultText,
                 this.codes,
@@ -195,6 +300,11 @@ implements I18nString {
      */
     @Override
     public String get(final @NotNull Locale locale) {
+        if (this.memoized) {
+            return getMemoized(
+                    I18nContext.getInstance(),
+                    Validate.notNull(locale));
+        }
         return I18N.getResources(this.i18nResourcesKey).getMessage(
                 this.defaultText,
                 this.codes,
@@ -202,6 +312,93 @@ implements I18nString {
                 (Object[]) this.arguments);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Non memoized texts are formatted directly into the
+     * {@code Appendable} by the I18N resources.
+     *
+     * @see I18nResources#writeMessage(Appendable, String, String[], Locale, Object...)
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public void writeTo(
+            final @NotNull Appendable out,
+            final @NotNull Locale locale)
+    throws IOException {
+        Validate.notNull(out);
+        Validate.notNull(locale);
+        if (this.memoized) {
+            out.append(getMemoized(I18nContext.getInstance(), locale));
+        } else {
+            I18N.getResources(this.i18nResourcesKey).writeMessage(
+                    out,
+                    this.defaultText,
+                    this.codes,
+                    locale,
+                    (Object[]) this.arguments);
+        }
+    }
+
+    /**
+     * Returns the memoized text for the specified locale, resolving and
+     * memoizing it if no text is memoized for the current provider session.
+     * <p>
+     * Concurrent readers never block. Concurrent misses can resolve the same
+     * text more than once, but memoized texts are always consistent.
+     * 
+     * @param context The current I18N context
+     * @param locale The requested locale
+     * @return The resolved text
+     */
+    private String getMemoized(
+            final @NotNull I18nContext context,
+            final @NotNull Locale locale) {
+        final UUID session = context.getProviderUUID();
+        final MemoEntry[] entries = this.memo;
+        if (entries != null) {
+            for (final MemoEntry entry : entries) {
+                if (entry.matches(locale, session)) {
+                    return entry.text;
+                }
+            }
+        }
+        final String result = context.getI18nResources(this.i18nResourcesKey).getMessage(
+                this.defaultText,
+                this.codes,
+                locale,
+                (Object[]) this.arguments);
+        this.memo = withEntry(entries, new MemoEntry(locale, session, result));
+        return result;
+    }
+
+    /**
+     * Returns a new memoized texts array with the specified entry first.
+     * Entries of other provider sessions are discarded and, if the maximum
+     * size is reached, the oldest entries are discarded.
+     * 
+     * @param entries The current memoized texts
+     * @param entry The new entry
+     * @return The new memoized texts
+     */
+    private static @NotNull MemoEntry[] withEntry(
+            final MemoEntry[] entries,
+            final @NotNull MemoEntry entry) {
+        final MemoEntry[] result = new MemoEntry[MEMO_MAX_SIZE];
+        result[0] = entry;
+        int size = 1;
+        if (entries != null) {
+            for (int i = 0; i < entries.length && size < MEMO_MAX_SIZE; i++) {
+                final MemoEntry prev = entries[i];
+                if (Objects.equals(prev.session, entry.session) &&
+                        !prev.locale.equals(entry.locale)) {
+                    result[size++] = prev;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -248,6 +445,12 @@ implements I18nString {
      */
     @Override
     public @NotNull I18nStringMap asMap() {
+        if (this.memoized) {
+            final I18nContext context = I18nContext.getInstance();
+            final Locale locale = context.getLocale();
+            return new I18nStringMap(this.getFormattedDefaultText())
+                    .set(locale, getMemoized(context, locale));
+        }
         return new I18nStringMap(this.getFormattedDefaultText())
                 .set(I18N.getLocale(), get());
     }
@@ -260,6 +463,18 @@ implements I18nString {
         return getFormattedDefaultText();
     }
 
+    /**
+     * Replaces this instance with its compact serialized form.
+     * <p>
+     * Subclasses use the default serialization.
+     *
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(this);
+    }
+
     /**
      * Builder of {@code I18nResourcesString} instances. 
      * 
@@ -278,6 +493,8 @@ implements I18nString {
         private final List<String> codes = new ArrayList<>();
         /** The text arguments, applied to resolved text or default text. */
         private final List<Serializable> arguments = new ArrayList<>();
+        /** If the resolved texts should be memoized. */
+        private boolean memoized;
 
         /**
          * Creates a new {@code I18nResourcesString} builder with the specified
@@ -350,6 +567,18 @@ implements I18nString {
             return this;
         }
 
+        /**
+         * Configures the built instances to memoize the resolved texts.
+         * 
+         * @return This builder for method chaining
+         * @see I18nResourcesString#isMemoized()
+         */
+        @API(status=Status.EXPERIMENTAL, since="0.2")
+        public Builder memoized() {
+            this.memoized = true;
+            return this;
+        }
+
         /**
          * Returns the key of the I18N resources to use.
          * 
@@ -387,6 +616,16 @@ implements I18nString {
             return this.arguments;
         }
 
+        /**
+         * Returns if the resolved texts should be memoized.
+         * 
+         * @return If the resolved texts should be memoized
+         */
+        @API(status=Status.EXPERIMENTAL, since="0.2")
+        protected boolean isMemoized() {
+            return this.memoized;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -417,7 +656,57 @@ implements I18nString {
                     this.i18nResourcesKey,
                     this.defaultText,
                     codes.toArray(new String[0]),
-                    arguments.toArray(new Serializable[0]));
+                    arguments.toArray(new Serializable[0]),
+                    this.memoized);
+        }
+    }
+
+    /**
+     * Memoized text entry.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class MemoEntry {
+
+        /** The text locale. */
+        private final @NotNull Locale locale;
+        /** The session UUID of the provider that resolved the text. */
+        private final UUID session;
+        /** The resolved text. */
+        private final String text;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param locale The text locale
+         * @param session The session UUID of the provider
+         * @param text The resolved text
+         */
+        private MemoEntry(
+                final @NotNull Locale locale,
+                final UUID session,
+                final String text) {
+            super();
+            this.locale = locale;
+            this.session = session;
+            this.text = text;
+        }
+
+        /**
+         * Returns {@code true} if this entry is valid for the specified
+         * locale and provider session.
+         * 
+         * @param locale The requested locale
+         * @param session The current provider session UUID
+         * @return If this entry matches
+         */
+        private boolean matches(
+                final @NotNull Locale locale,
+                final UUID session) {
+            return this.locale.equals(locale) &&
+                    Objects.equals(this.session, session);
         }
     }
 }
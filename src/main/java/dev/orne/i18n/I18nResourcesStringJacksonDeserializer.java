@@ -0,0 +1,258 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson JSON deserializer for {@code I18nResourcesString} instances
+ * from the structured form written by
+ * {@code I18nResourcesStringJacksonSerializer}.
+ * <p>
+ * Text arguments are read as {@code String}, {@code Number} or
+ * {@code Boolean} values, as written by JSON clients. Texts resolved
+ * from the I18N resources can't be converted back to
+ * {@code I18nResourcesString} instances, so values other than JSON
+ * objects are rejected.
+ * <p>
+ * {@code I18nResourcesString} rejects any JSON input by default. This
+ * deserializer must be selected per property:
+ * <pre>
+ * &#64;JsonDeserialize(using = I18nResourcesStringJacksonDeserializer.class)
+ * private I18nResourcesString message;
+ * </pre>
+ * The {@code I18nStringLimits} of the
+ * {@value I18nStringJacksonDeserializer#LIMITS_ATTRIBUTE} deserialization
+ * attribute, or the shared limits, limit the number of codes and
+ * arguments and the length of the texts.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nResourcesString
+ * @see I18nResourcesStringJacksonSerializer
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public class I18nResourcesStringJacksonDeserializer
+extends StdDeserializer<I18nResourcesString> {
+
+    /** The serial version UID.  */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new instance.
+     */
+    public I18nResourcesStringJacksonDeserializer() {
+        super(I18nResourcesString.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public I18nResourcesString deserialize(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context)
+    throws IOException {
+        if (!parser.isExpectedStartObjectToken()
+                && parser.getCurrentToken() != JsonToken.FIELD_NAME) {
+            return (I18nResourcesString) context.handleUnexpectedToken(
+                    I18nResourcesString.class, parser);
+        }
+        final I18nStringLimits limits = I18nStringJacksonDeserializer.getLimits(context);
+        String resources = null;
+        String defaultText = null;
+        final List<String> codes = new ArrayList<>();
+        final List<Serializable> arguments = new ArrayList<>();
+        String name = parser.getCurrentToken() == JsonToken.FIELD_NAME ?
+                parser.getCurrentName() :
+                parser.nextFieldName();
+        for (; name != null; name = parser.nextFieldName()) {
+            final JsonToken token = parser.nextToken();
+            if (I18nResourcesStringJacksonSerializer.RESOURCES_PROPERTY.equals(name)) {
+                resources = token == JsonToken.VALUE_NULL ? null : readText(parser, context, name, limits);
+            } else if (I18nResourcesStringJacksonSerializer.DEFAULT_TEXT_PROPERTY.equals(name)) {
+                defaultText = readText(parser, context, name, limits);
+            } else if (I18nResourcesStringJacksonSerializer.CODES_PROPERTY.equals(name)) {
+                codes.clear();
+                startArray(parser, context);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (limits != null && !limits.allowsCodes(codes.size() + 1)) {
+                        return context.reportInputMismatch(this,
+                                "More than %d values for property '%s'",
+                                limits.getMaxCodes(),
+                                name);
+                    }
+                    codes.add(readText(parser, context, name, limits));
+                }
+            } else if (I18nResourcesStringJacksonSerializer.ARGUMENTS_PROPERTY.equals(name)) {
+                arguments.clear();
+                if (token != JsonToken.VALUE_NULL) {
+                    startArray(parser, context);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (limits != null && !limits.allowsArguments(arguments.size() + 1)) {
+                            return context.reportInputMismatch(this,
+                                    "More than %d values for property '%s'",
+                                    limits.getMaxArguments(),
+                                    name);
+                        }
+                        arguments.add(readArgument(parser, context, name, limits));
+                    }
+                }
+            } else {
+                context.handleUnknownProperty(parser, this, I18nResourcesString.class, name);
+            }
+        }
+        if (defaultText == null) {
+            return context.reportInputMismatch(this, "Missing property '%s'",
+                    I18nResourcesStringJacksonSerializer.DEFAULT_TEXT_PROPERTY);
+        }
+        if (codes.isEmpty()) {
+            return context.reportInputMismatch(this, "Missing property '%s'",
+                    I18nResourcesStringJacksonSerializer.CODES_PROPERTY);
+        }
+        return new I18nResourcesString(
+                resources,
+                defaultText,
+                codes.toArray(new String[0]),
+                arguments.toArray(new Serializable[0]));
+    }
+
+    /**
+     * Verifies that the parser is positioned at the start of a JSON array.
+     * 
+     * @param parser The JSON parser
+     * @param context The deserialization context
+     * @throws IOException If the parser is not positioned at the start of
+     * a JSON array
+     */
+    private static void startArray(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context)
+    throws IOException {
+        if (!parser.isExpectedStartArrayToken()) {
+            context.handleUnexpectedToken(List.class, parser);
+        }
+    }
+
+    /**
+     * Reads a text from the value the parser is positioned at. Scalar
+     * values are coerced to text as Jackson does for {@code String}
+     * properties.
+     * 
+     * @param parser The JSON parser, positioned at the value
+     * @param context The deserialization context
+     * @param property The property name, for error messages
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The read text
+     * @throws IOException If an I/O error occurs or the value is not a
+     * valid text
+     */
+    private @NotNull String readText(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context,
+            final @NotNull String property,
+            final I18nStringLimits limits)
+    throws IOException {
+        final JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return context.reportInputMismatch(this, "Null value for property '%s'", property);
+        } else if (token != null && token.isScalarValue()) {
+            return checkText(parser.getText(), context, property, limits);
+        }
+        return (String) context.handleUnexpectedToken(String.class, parser);
+    }
+
+    /**
+     * Checks that the specified text doesn't exceed the maximum text
+     * length of the specified limits.
+     * 
+     * @param text The text
+     * @param context The deserialization context
+     * @param property The property name, for error messages
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The text
+     * @throws IOException If the text exceeds the limits
+     */
+    private @NotNull String checkText(
+            final @NotNull String text,
+            final @NotNull DeserializationContext context,
+            final @NotNull String property,
+            final I18nStringLimits limits)
+    throws IOException {
+        if (limits != null && !limits.allowsTextLength(text.length())) {
+            return context.reportInputMismatch(this,
+                    "Text of property '%s' longer than %d characters",
+                    property,
+                    limits.getMaxTextLength());
+        }
+        return text;
+    }
+
+    /**
+     * Reads a text argument from the value the parser is positioned at.
+     * 
+     * @param parser The JSON parser, positioned at the value
+     * @param context The deserialization context
+     * @param property The property name, for error messages
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The read argument
+     * @throws IOException If an I/O error occurs or the value is not a
+     * valid argument
+     */
+    private Serializable readArgument(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context,
+            final @NotNull String property,
+            final I18nStringLimits limits)
+    throws IOException {
+        switch (parser.getCurrentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return checkText(parser.getText(), context, property, limits);
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return (Serializable) parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return (Serializable) context.handleUnexpectedToken(Serializable.class, parser);
+        }
+    }
+}
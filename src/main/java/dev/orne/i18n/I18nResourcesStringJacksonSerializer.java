@@ -0,0 +1,124 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson JSON serializer for {@code I18nResourcesString} instances that
+ * writes their structured form instead of the resolved text, allowing
+ * clients to resolve and format the texts with their own catalogs.
+ * <p>
+ * Instances are written as JSON objects with the following properties:
+ * <ul>
+ * <li>{@value #RESOURCES_PROPERTY}: The key of the I18N resources, omitted
+ * for the default ones</li>
+ * <li>{@value #DEFAULT_TEXT_PROPERTY}: The unformatted default text</li>
+ * <li>{@value #CODES_PROPERTY}: The I18N text codes, in order of
+ * priority</li>
+ * <li>{@value #ARGUMENTS_PROPERTY}: The text arguments, omitted if
+ * empty</li>
+ * </ul>
+ * <p>
+ * Can be used for {@code I18nResourcesString} properties with
+ * {@code @JsonSerialize(using=I18nResourcesStringJacksonSerializer.class)}
+ * or for all the instances of a serialization with the
+ * {@value I18nStringJacksonSerializer#STRUCTURED_ATTRIBUTE} attribute.
+ * The structured form is read by properties annotated with
+ * {@code @JsonDeserialize(using=I18nResourcesStringJacksonDeserializer.class)}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nResourcesString
+ * @see I18nResourcesStringJacksonDeserializer
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public class I18nResourcesStringJacksonSerializer
+extends StdSerializer<I18nResourcesString> {
+
+    /** The I18N resources key property name. */
+    public static final String RESOURCES_PROPERTY = "resources";
+    /** The default text property name. */
+    public static final String DEFAULT_TEXT_PROPERTY = "defaultText";
+    /** The I18N text codes property name. */
+    public static final String CODES_PROPERTY = "codes";
+    /** The text arguments property name. */
+    public static final String ARGUMENTS_PROPERTY = "arguments";
+
+    /** The serial version UID.  */
+    private static final long serialVersionUID = 1L;
+    /** The shared instance. */
+    static final I18nResourcesStringJacksonSerializer INSTANCE =
+            new I18nResourcesStringJacksonSerializer();
+
+    /**
+     * Creates a new instance.
+     */
+    public I18nResourcesStringJacksonSerializer() {
+        super(I18nResourcesString.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(
+            final @NotNull I18nResourcesString value,
+            final @NotNull JsonGenerator jgen,
+            final @NotNull SerializerProvider provider)
+    throws IOException {
+        jgen.writeStartObject(value);
+        if (value.getI18nResourcesKey() != null) {
+            jgen.writeStringField(RESOURCES_PROPERTY, value.getI18nResourcesKey());
+        }
+        jgen.writeStringField(DEFAULT_TEXT_PROPERTY, value.getDefaultText());
+        jgen.writeFieldName(CODES_PROPERTY);
+        final String[] codes = value.getCodes();
+        jgen.writeStartArray();
+        for (final String code : codes) {
+            jgen.writeString(code);
+        }
+        jgen.writeEndArray();
+        final Serializable[] arguments = value.getArguments();
+        if (arguments.length > 0) {
+            jgen.writeFieldName(ARGUMENTS_PROPERTY);
+            jgen.writeStartArray();
+            for (final Serializable argument : arguments) {
+                provider.defaultSerializeValue(argument, jgen);
+            }
+            jgen.writeEndArray();
+        }
+        jgen.writeEndObject();
+    }
+}
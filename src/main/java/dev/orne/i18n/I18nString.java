@@ -22,6 +22,7 @@ package dev.orne.i18n;
  * #L%
  */
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Locale;
 
@@ -116,6 +117,44 @@ extends Serializable {
      */
     @NotNull String get(@NotNull Locale locale);
 
+    /**
+     * Appends the text for the current language to the specified
+     * {@code Appendable}.
+     * 
+     * @param out The {@code Appendable} to append the text to
+     * @throws IOException If an I/O error occurs
+     * @see #writeTo(Appendable, Locale)
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    default void writeTo(
+            final @NotNull Appendable out)
+    throws IOException {
+        writeTo(out, I18N.getLocale());
+    }
+
+    /**
+     * Appends the text for language of the specified locale, or the default
+     * text if no translation is available, to the specified
+     * {@code Appendable}.
+     * <p>
+     * The default implementation appends the result of
+     * {@link #get(Locale)}. Implementations that compute their texts can
+     * write them directly into the {@code Appendable}.
+     * 
+     * @param out The {@code Appendable} to append the text to
+     * @param locale The language of the text
+     * @throws IOException If an I/O error occurs
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    default void writeTo(
+            final @NotNull Appendable out,
+            final @NotNull Locale locale)
+    throws IOException {
+        out.append(get(locale));
+    }
+
     /**
      * Returns {@code true} if the specified {@code I18nString} is equivalent
      * to this instance.
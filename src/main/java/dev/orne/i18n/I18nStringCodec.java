@@ -0,0 +1,893 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.i18n.context.DefaultI18nContext;
+
+/**
+ * Compact binary codec of {@code I18nString} instances.
+ * <p>
+ * Values are written with a version byte, a type byte and the value
+ * fields. Lengths and counts are written as variable length integers and
+ * strings as UTF-8 bytes. When reading, buffers grow with the data
+ * actually read, so corrupted or crafted lengths and counts cannot force
+ * large allocations. Language tags are written as references to a
+ * table of well known language tags or, for other language tags, as
+ * literals the first time they are written and as back-references to the
+ * first occurrence afterwards.
+ * <p>
+ * Instances keep the language tags table of a single stream, so the same
+ * instance must be used to write, or read, all the values of a stream.
+ * Instances are not thread safe. Static methods encode and decode single
+ * values.
+ * <p>
+ * {@code I18nFixedString}, {@code I18nStringMap}, {@code I18nFrozenString},
+ * {@code I18nConcurrentStringMap} and {@code I18nResourcesString} are
+ * encoded with their own types. Other implementations are encoded as the
+ * {@code I18nStringMap} returned by {@code asMap()}. Arguments of
+ * {@code I18nResourcesString} of types other than strings, numbers,
+ * booleans and {@code I18nString} are only supported when writing to an
+ * {@code ObjectOutput}.
+ * <p>
+ * {@code I18nStringMapDelta} instances are encoded with the same language
+ * tags encoding, for incremental synchronization of values.
+ * <p>
+ * The same encoding is used by Java serialization of the supported types,
+ * of {@code I18nStringMapDelta} and of {@code DefaultI18nContext}.
+ * Java serialization encodes each value with a new instance, so language
+ * tags back-references are not shared between the values of an object
+ * stream. Use a single instance to write and read a sequence of values
+ * sharing the language tags table.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nStringCodec {
+
+    /** The current encoding version. */
+    public static final int VERSION = 1;
+
+    /** Type of {@code null} values. */
+    private static final int TYPE_NULL = 0;
+    /** Type of {@code I18nFixedString} values. */
+    private static final int TYPE_FIXED = 1;
+    /** Type of {@code I18nStringMap} values. */
+    private static final int TYPE_MAP = 2;
+    /** Type of {@code I18nFrozenString} values. */
+    private static final int TYPE_FROZEN = 3;
+    /** Type of {@code I18nConcurrentStringMap} values. */
+    private static final int TYPE_CONCURRENT = 4;
+    /** Type of {@code I18nResourcesString} values. */
+    private static final int TYPE_RESOURCES = 5;
+    /** Type of {@code DefaultI18nContext} values. */
+    private static final int TYPE_CONTEXT = 6;
+    /** Type of {@code I18nStringMapDelta} values. */
+    private static final int TYPE_DELTA = 7;
+
+    /** Type of {@code null} arguments. */
+    private static final int ARG_NULL = 0;
+    /** Type of {@code String} arguments. */
+    private static final int ARG_STRING = 1;
+    /** Type of {@code Integer} arguments. */
+    private static final int ARG_INT = 2;
+    /** Type of {@code Long} arguments. */
+    private static final int ARG_LONG = 3;
+    /** Type of {@code Double} arguments. */
+    private static final int ARG_DOUBLE = 4;
+    /** Type of {@code Boolean} arguments. */
+    private static final int ARG_BOOLEAN = 5;
+    /** Type of {@code I18nString} arguments. */
+    private static final int ARG_I18N = 6;
+    /** Type of other arguments, written as objects. */
+    private static final int ARG_OBJECT = 7;
+
+    /** Flag of {@code I18nResourcesString} with resources key. */
+    private static final int FLAG_KEY = 1;
+    /** Flag of memoized {@code I18nResourcesString}. */
+    private static final int FLAG_MEMOIZED = 2;
+    /** Flag of {@code I18nStringMapDelta} with default text. */
+    private static final int FLAG_DEFAULT_TEXT = 1;
+    /**
+     * The maximum number of bytes, or collection elements, allocated
+     * upfront from a read length or count.
+     */
+    private static final int MAX_PREALLOCATED = 8 * 1024;
+
+    /**
+     * The well known language tags. New language tags must be appended at
+     * the end, as tags are encoded by position.
+     */
+    private static final List<String> WELL_KNOWN_TAGS = Collections.unmodifiableList(Arrays.asList(
+            "en", "es", "fr", "de", "it", "pt", "nl", "ca", "eu", "gl",
+            "sv", "da", "fi", "no", "nb", "nn", "is", "pl", "cs", "sk",
+            "hu", "ro", "bg", "el", "ru", "uk", "tr", "ar", "he", "fa",
+            "hi", "bn", "zh", "ja", "ko", "th", "vi", "id", "ms", "et",
+            "lv", "lt", "sl", "hr", "sr", "ga", "cy", "mt", "sq", "mk",
+            "en-US", "en-GB", "es-ES", "es-MX", "pt-BR", "pt-PT", "fr-FR", "fr-CA", "de-DE", "zh-CN",
+            "zh-TW", "zh-Hans", "zh-Hant"));
+    /** The well known language tags positions. */
+    private static final Map<String, Integer> WELL_KNOWN_INDEX;
+    static {
+        final Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < WELL_KNOWN_TAGS.size(); i++) {
+            index.put(WELL_KNOWN_TAGS.get(i), i);
+        }
+        WELL_KNOWN_INDEX = index;
+    }
+
+    /** The language tags written or read in this stream. */
+    private final @NotNull List<String> tags = new ArrayList<>();
+    /** The positions of the language tags written in this stream. */
+    private final @NotNull Map<String, Integer> tagsIndex = new HashMap<>();
+
+    /**
+     * Creates a new instance for a new stream.
+     */
+    public I18nStringCodec() {
+        super();
+    }
+
+    /**
+     * Encodes the specified value.
+     *
+     * @param value The value to encode
+     * @return The encoded value
+     */
+    public static @NotNull byte[] encode(
+            final I18nString value) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            new I18nStringCodec().write(out, value);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Unsupported I18N string", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the specified encoded value.
+     *
+     * @param data The encoded value
+     * @return The decoded value
+     * @throws IOException If the data is not a valid encoded value
+     */
+    public static I18nString decode(
+            final @NotNull byte[] data)
+    throws IOException {
+        Validate.notNull(data);
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return new I18nStringCodec().read(in);
+        }
+    }
+
+    /**
+     * Encodes the specified delta.
+     *
+     * @param delta The delta to encode
+     * @return The encoded delta
+     */
+    public static @NotNull byte[] encodeDelta(
+            final I18nStringMapDelta delta) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            new I18nStringCodec().writeDelta(out, delta);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unexpected I/O error", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the specified encoded delta.
+     *
+     * @param data The encoded delta
+     * @return The decoded delta
+     * @throws IOException If the data is not a valid encoded delta
+     */
+    public static I18nStringMapDelta decodeDelta(
+            final @NotNull byte[] data)
+    throws IOException {
+        Validate.notNull(data);
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return new I18nStringCodec().readDelta(in);
+        }
+    }
+
+    /**
+     * Writes the specified value.
+     *
+     * @param out The output to write to
+     * @param value The value to write
+     * @throws IOException If an I/O error occurs or the value contains
+     * unsupported arguments
+     */
+    public void write(
+            final @NotNull DataOutput out,
+            final I18nString value)
+    throws IOException {
+        Validate.notNull(out);
+        out.writeByte(VERSION);
+        writeValue(out, value);
+    }
+
+    /**
+     * Reads a value.
+     *
+     * @param in The input to read from
+     * @return The read value
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    public I18nString read(
+            final @NotNull DataInput in)
+    throws IOException {
+        Validate.notNull(in);
+        final Object result = readVersioned(in);
+        if (result != null && !(result instanceof I18nString)) {
+            throw new StreamCorruptedException("Unexpected encoded type " + result.getClass());
+        }
+        return (I18nString) result;
+    }
+
+    /**
+     * Writes the specified delta.
+     *
+     * @param out The output to write to
+     * @param delta The delta to write
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeDelta(
+            final @NotNull DataOutput out,
+            final I18nStringMapDelta delta)
+    throws IOException {
+        Validate.notNull(out);
+        out.writeByte(VERSION);
+        writeValue(out, delta);
+    }
+
+    /**
+     * Reads a delta.
+     *
+     * @param in The input to read from
+     * @return The read delta
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded delta
+     */
+    public I18nStringMapDelta readDelta(
+            final @NotNull DataInput in)
+    throws IOException {
+        Validate.notNull(in);
+        final Object result = readVersioned(in);
+        if (result != null && !(result instanceof I18nStringMapDelta)) {
+            throw new StreamCorruptedException("Unexpected encoded type " + result.getClass());
+        }
+        return (I18nStringMapDelta) result;
+    }
+
+    /**
+     * Returns the replacement object used to serialize the specified value
+     * with the compact encoding.
+     * <p>
+     * Called from the {@code writeReplace()} methods of the supported
+     * types.
+     *
+     * @param value The value to serialize
+     * @return The serialization replacement
+     */
+    @API(status=Status.INTERNAL, since="0.2")
+    public static @NotNull Object serializedForm(
+            final @NotNull Serializable value) {
+        return new SerializedForm(Validate.notNull(value));
+    }
+
+    /**
+     * Reads a versioned value.
+     *
+     * @param in The input to read from
+     * @return The read value
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    private Object readVersioned(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported encoding version " + version);
+        }
+        return readValue(in);
+    }
+
+    /**
+     * Writes the specified value, without version.
+     *
+     * @param out The output to write to
+     * @param value The value to write
+     * @throws IOException If an I/O error occurs or the value contains
+     * unsupported arguments
+     */
+    private void writeValue(
+            final @NotNull DataOutput out,
+            final Object value)
+    throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof I18nFixedString) {
+            out.writeByte(TYPE_FIXED);
+            writeString(out, value.toString());
+        } else if (value instanceof I18nFrozenString) {
+            final I18nFrozenString frozen = (I18nFrozenString) value;
+            out.writeByte(TYPE_FROZEN);
+            writeTranslations(out, frozen.getDefaultText(), frozen.getI18n());
+        } else if (value instanceof I18nConcurrentStringMap) {
+            final I18nFrozenString frozen = ((I18nConcurrentStringMap) value).snapshot();
+            out.writeByte(TYPE_CONCURRENT);
+            writeTranslations(out, frozen.getDefaultText(), frozen.getI18n());
+        } else if (value instanceof I18nResourcesString) {
+            out.writeByte(TYPE_RESOURCES);
+            writeResources(out, (I18nResourcesString) value);
+        } else if (value instanceof DefaultI18nContext) {
+            final DefaultI18nContext context = (DefaultI18nContext) value;
+            out.writeByte(TYPE_CONTEXT);
+            out.writeLong(context.getProviderUUID().getMostSignificantBits());
+            out.writeLong(context.getProviderUUID().getLeastSignificantBits());
+            writeString(out, context.getLocale().toLanguageTag());
+        } else if (value instanceof I18nStringMapDelta) {
+            out.writeByte(TYPE_DELTA);
+            writeDeltaFields(out, (I18nStringMapDelta) value);
+        } else if (value instanceof I18nString) {
+            final I18nStringMap map = ((I18nString) value).asMap();
+            out.writeByte(TYPE_MAP);
+            writeTranslations(out, map.getDefaultText(), map.getI18n());
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads a value, without version.
+     *
+     * @param in The input to read from
+     * @return The read value
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    private Object readValue(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int type = in.readUnsignedByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_FIXED:
+                return I18nFixedString.from(readString(in));
+            case TYPE_MAP:
+                return readTranslations(in);
+            case TYPE_FROZEN:
+                return readTranslations(in).freeze();
+            case TYPE_CONCURRENT:
+                return new I18nConcurrentStringMap(readTranslations(in));
+            case TYPE_RESOURCES:
+                return readResources(in);
+            case TYPE_CONTEXT:
+                final DefaultI18nContext context = new DefaultI18nContext(
+                        new UUID(in.readLong(), in.readLong()));
+                context.setLocale(Locale.forLanguageTag(readString(in)));
+                return context;
+            case TYPE_DELTA:
+                return readDeltaFields(in);
+            default:
+                throw new StreamCorruptedException("Unknown encoded type " + type);
+        }
+    }
+
+    /**
+     * Writes the specified default text and translations.
+     *
+     * @param out The output to write to
+     * @param defaultText The default text
+     * @param translations The text translations
+     * @throws IOException If an I/O error occurs
+     */
+    private void writeTranslations(
+            final @NotNull DataOutput out,
+            final @NotNull String defaultText,
+            final @NotNull Map<String, String> translations)
+    throws IOException {
+        writeString(out, defaultText);
+        writeVarInt(out, translations.size());
+        for (final Map.Entry<String, String> entry : translations.entrySet()) {
+            writeTag(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a default text and translations.
+     *
+     * @param in The input to read from
+     * @return The read default text and translations
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    private @NotNull I18nStringMap readTranslations(
+            final @NotNull DataInput in)
+    throws IOException {
+        final I18nStringMap result = new I18nStringMap(readString(in));
+        final int count = readVarInt(in);
+        for (int i = 0; i < count; i++) {
+            final String tag = readTag(in);
+            result.setUntrusted(tag, readString(in));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the fields of the specified delta.
+     *
+     * @param out The output to write to
+     * @param delta The delta to write
+     * @throws IOException If an I/O error occurs
+     */
+    private void writeDeltaFields(
+            final @NotNull DataOutput out,
+            final @NotNull I18nStringMapDelta delta)
+    throws IOException {
+        final String defaultText = delta.getDefaultText();
+        out.writeByte(defaultText == null ? 0 : FLAG_DEFAULT_TEXT);
+        if (defaultText != null) {
+            writeString(out, defaultText);
+        }
+        final Map<String, String> changed = delta.getChanged();
+        writeVarInt(out, changed.size());
+        for (final Map.Entry<String, String> entry : changed.entrySet()) {
+            writeTag(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+        writeVarInt(out, delta.getRemoved().size());
+        for (final String language : delta.getRemoved()) {
+            writeTag(out, language);
+        }
+    }
+
+    /**
+     * Reads the fields of a delta.
+     *
+     * @param in The input to read from
+     * @return The read delta
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    private @NotNull I18nStringMapDelta readDeltaFields(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int flags = in.readUnsignedByte();
+        final String defaultText = (flags & FLAG_DEFAULT_TEXT) == 0 ? null : readString(in);
+        final int changedCount = readVarInt(in);
+        final Map<String, String> changed = new HashMap<>();
+        for (int i = 0; i < changedCount; i++) {
+            final String tag = readTag(in);
+            changed.put(tag, readString(in));
+        }
+        final int removedCount = readVarInt(in);
+        final List<String> removed = new ArrayList<>(Math.min(removedCount, MAX_PREALLOCATED));
+        for (int i = 0; i < removedCount; i++) {
+            removed.add(readTag(in));
+        }
+        try {
+            return new I18nStringMapDelta(defaultText, changed, removed);
+        } catch (final IllegalArgumentException e) {
+            throw new StreamCorruptedException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the specified resources based I18N text.
+     *
+     * @param out The output to write to
+     * @param value The value to write
+     * @throws IOException If an I/O error occurs or the value contains
+     * unsupported arguments
+     */
+    private void writeResources(
+            final @NotNull DataOutput out,
+            final @NotNull I18nResourcesString value)
+    throws IOException {
+        final String key = value.getI18nResourcesKey();
+        int flags = 0;
+        if (key != null) {
+            flags |= FLAG_KEY;
+        }
+        if (value.isMemoized()) {
+            flags |= FLAG_MEMOIZED;
+        }
+        out.writeByte(flags);
+        if (key != null) {
+            writeString(out, key);
+        }
+        writeString(out, value.getDefaultText());
+        final String[] codes = value.getCodes();
+        writeVarInt(out, codes.length);
+        for (final String code : codes) {
+            writeString(out, code);
+        }
+        final Serializable[] arguments = value.getArguments();
+        writeVarInt(out, arguments.length);
+        for (final Serializable argument : arguments) {
+            writeArgument(out, argument);
+        }
+    }
+
+    /**
+     * Reads a resources based I18N text.
+     *
+     * @param in The input to read from
+     * @return The read value
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    private @NotNull I18nResourcesString readResources(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int flags = in.readUnsignedByte();
+        final String key = (flags & FLAG_KEY) == 0 ? null : readString(in);
+        final I18nResourcesString.Builder builder =
+                I18nResourcesString.forDefault(readString(in))
+                    .ofResources(key);
+        final int codes = readVarInt(in);
+        for (int i = 0; i < codes; i++) {
+            builder.withCode(readString(in));
+        }
+        final int arguments = readVarInt(in);
+        for (int i = 0; i < arguments; i++) {
+            builder.withArg(readArgument(in));
+        }
+        if ((flags & FLAG_MEMOIZED) != 0) {
+            builder.memoized();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes the specified text argument.
+     *
+     * @param out The output to write to
+     * @param argument The argument to write
+     * @throws IOException If an I/O error occurs or the argument type is
+     * not supported
+     */
+    private void writeArgument(
+            final @NotNull DataOutput out,
+            final Serializable argument)
+    throws IOException {
+        if (argument == null) {
+            out.writeByte(ARG_NULL);
+        } else if (argument instanceof String) {
+            out.writeByte(ARG_STRING);
+            writeString(out, (String) argument);
+        } else if (argument instanceof Integer) {
+            out.writeByte(ARG_INT);
+            out.writeInt((Integer) argument);
+        } else if (argument instanceof Long) {
+            out.writeByte(ARG_LONG);
+            out.writeLong((Long) argument);
+        } else if (argument instanceof Double) {
+            out.writeByte(ARG_DOUBLE);
+            out.writeDouble((Double) argument);
+        } else if (argument instanceof Boolean) {
+            out.writeByte(ARG_BOOLEAN);
+            out.writeBoolean((Boolean) argument);
+        } else if (argument instanceof I18nString) {
+            out.writeByte(ARG_I18N);
+            writeValue(out, argument);
+        } else if (out instanceof ObjectOutput) {
+            out.writeByte(ARG_OBJECT);
+            ((ObjectOutput) out).writeObject(argument);
+        } else {
+            throw new NotSerializableException(argument.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads a text argument.
+     *
+     * @param in The input to read from
+     * @return The read argument
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    private Serializable readArgument(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int type = in.readUnsignedByte();
+        switch (type) {
+            case ARG_NULL:
+                return null;
+            case ARG_STRING:
+                return readString(in);
+            case ARG_INT:
+                return in.readInt();
+            case ARG_LONG:
+                return in.readLong();
+            case ARG_DOUBLE:
+                return in.readDouble();
+            case ARG_BOOLEAN:
+                return in.readBoolean();
+            case ARG_I18N:
+                return (Serializable) readValue(in);
+            case ARG_OBJECT:
+                if (!(in instanceof ObjectInput)) {
+                    throw new StreamCorruptedException("Object arguments require an ObjectInput");
+                }
+                try {
+                    return (Serializable) ((ObjectInput) in).readObject();
+                } catch (final ClassNotFoundException e) {
+                    throw new IOException("Argument class not found", e);
+                }
+            default:
+                throw new StreamCorruptedException("Unknown argument type " + type);
+        }
+    }
+
+    /**
+     * Writes the specified language tag.
+     * <p>
+     * Well known language tags are written as their position, other
+     * language tags as a literal the first time and as a back-reference
+     * afterwards.
+     *
+     * @param out The output to write to
+     * @param tag The language tag to write
+     * @throws IOException If an I/O error occurs
+     */
+    private void writeTag(
+            final @NotNull DataOutput out,
+            final @NotNull String tag)
+    throws IOException {
+        Integer index = WELL_KNOWN_INDEX.get(tag);
+        if (index == null) {
+            index = this.tagsIndex.get(tag);
+            if (index == null) {
+                writeVarInt(out, 0);
+                writeString(out, tag);
+                this.tagsIndex.put(tag, this.tags.size());
+                this.tags.add(tag);
+                return;
+            }
+            index += WELL_KNOWN_TAGS.size();
+        }
+        writeVarInt(out, index + 1);
+    }
+
+    /**
+     * Reads a language tag.
+     *
+     * @param in The input to read from
+     * @return The read language tag
+     * @throws IOException If an I/O error occurs or the data is not a
+     * valid encoded value
+     */
+    private @NotNull String readTag(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int reference = readVarInt(in);
+        if (reference == 0) {
+            final String tag = readString(in);
+            this.tags.add(tag);
+            return tag;
+        }
+        final int index = reference - 1;
+        if (index < WELL_KNOWN_TAGS.size()) {
+            return WELL_KNOWN_TAGS.get(index);
+        }
+        final int streamIndex = index - WELL_KNOWN_TAGS.size();
+        if (streamIndex >= this.tags.size()) {
+            throw new StreamCorruptedException("Invalid language tag reference " + reference);
+        }
+        return this.tags.get(streamIndex);
+    }
+
+    /**
+     * Writes the specified string as UTF-8 bytes preceded by their count.
+     *
+     * @param out The output to write to
+     * @param value The string to write
+     * @throws IOException If an I/O error occurs
+     */
+    private static void writeString(
+            final @NotNull DataOutput out,
+            final @NotNull String value)
+    throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string as UTF-8 bytes preceded by their count.
+     * <p>
+     * Long strings are read in chunks, growing the buffer with the read
+     * bytes, so a corrupted count fails at the end of the input instead of
+     * allocating the count upfront.
+     *
+     * @param in The input to read from
+     * @return The read string
+     * @throws IOException If an I/O error occurs
+     */
+    private static @NotNull String readString(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int length = readVarInt(in);
+        byte[] bytes = new byte[Math.min(length, MAX_PREALLOCATED)];
+        int count = 0;
+        while (count < length) {
+            if (count == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            in.readFully(bytes, count, bytes.length - count);
+            count = bytes.length;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the specified non negative integer with 7 bits per byte.
+     *
+     * @param out The output to write to
+     * @param value The integer to write
+     * @throws IOException If an I/O error occurs
+     */
+    private static void writeVarInt(
+            final @NotNull DataOutput out,
+            final int value)
+    throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads a non negative integer written with 7 bits per byte.
+     *
+     * @param in The input to read from
+     * @return The read integer
+     * @throws IOException If an I/O error occurs or the integer is invalid
+     */
+    private static int readVarInt(
+            final @NotNull DataInput in)
+    throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int current = in.readUnsignedByte();
+            result |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                if (result < 0) {
+                    break;
+                }
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length integer");
+    }
+
+    /**
+     * Java serialization replacement of the supported types, written with
+     * the compact encoding.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    @API(status=Status.INTERNAL, since="0.2")
+    public static final class SerializedForm
+    implements Externalizable {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The serialized value. */
+        private Object value;
+
+        /**
+         * Creates a new instance for deserialization.
+         */
+        public SerializedForm() {
+            super();
+        }
+
+        /**
+         * Creates a new instance for serialization.
+         *
+         * @param value The value to serialize
+         */
+        private SerializedForm(
+                final @NotNull Object value) {
+            super();
+            this.value = value;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void writeExternal(
+                final @NotNull ObjectOutput out)
+        throws IOException {
+            out.writeByte(VERSION);
+            new I18nStringCodec().writeValue(out, this.value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void readExternal(
+                final @NotNull ObjectInput in)
+        throws IOException {
+            this.value = new I18nStringCodec().readVersioned(in);
+        }
+
+        /**
+         * Resolves the deserialized value.
+         *
+         * @return The deserialized value
+         */
+        private Object readResolve() {
+            return this.value;
+        }
+    }
+}
@@ -23,11 +23,15 @@ package dev.orne.i18n;
  */
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -35,18 +39,42 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 
 /**
  * Jackson JSON deserializer for {@code I18nString} instances.
+ * <p>
+ * JSON objects are read token by token. {@code I18nFrozenString} and
+ * {@code I18nConcurrentStringMap} targets are created directly from the
+ * read translations, other targets from a single {@code I18nStringMap}
+ * instance. Configurations that could change the bean input of
+ * {@code I18nStringMap} (custom naming strategies, mix-ins or case
+ * insensitive properties) use the standard bean deserialization of
+ * {@code I18nStringMap}.
+ * <p>
+ * JSON arrays are read as the compact layout written by
+ * {@code I18nStringJacksonSerializer}, an array with the default text and
+ * an object with the translations by language.
+ * <p>
+ * The {@code I18nStringLimits} of the {@value #LIMITS_ATTRIBUTE}
+ * attribute, if set, or the shared limits otherwise are checked while
+ * reading each translation language and text, before reading the rest of
+ * the value. Texts are checked before creating their {@code String}
+ * instances. The standard bean deserialization of {@code I18nStringMap}
+ * reads the default text and translations properties with the same
+ * checks, and checks the read value again after reading it.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2021-02
  * @see I18nString
+ * @see I18nStringLimits
  * @since 0.1
  */
 @API(status=Status.INTERNAL, since="0.1")
@@ -54,18 +82,58 @@ public class I18nStringJacksonDeserializer
 extends JsonDeserializer<I18nString>
 implements ContextualDeserializer {
 
-    /** The by target type cache. */
-    private final Map<Class<?>, I18nStringJacksonDeserializer> cache =
-            new HashMap<>();
+    /**
+     * The deserialization attribute with the {@code I18nStringLimits} to
+     * check. Overrides the shared limits.
+     * 
+     * @see I18nStringLimits
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String LIMITS_ATTRIBUTE = "dev.orne.i18n.limits";
+
+    /** The default text property name. */
+    private static final String DEFAULT_TEXT_PROPERTY = "defaultText";
+    /** The translations property name. */
+    private static final String I18N_PROPERTY = "i18n";
+
+    /** The default converters, by target type. */
+    private static final Map<Class<?>, I18nStringConverter> CONVERTERS;
+    static {
+        final Map<Class<?>, I18nStringConverter> converters = new HashMap<>();
+        converters.put(I18nFixedString.class, I18nFixedString::from);
+        converters.put(I18nStringMap.class, I18nStringMap::new);
+        converters.put(I18nFrozenString.class, I18nFrozenString::from);
+        converters.put(I18nConcurrentStringMap.class, I18nConcurrentStringMap::new);
+        CONVERTERS = Collections.unmodifiableMap(converters);
+    }
+    /** The deserializer reading the properties of bean deserialization. */
+    private static final I18nStringJacksonDeserializer BEAN_PROPERTIES =
+            new I18nStringJacksonDeserializer();
+
+    /** The by target type and property names cache. */
+    private final Map<ContextKey, I18nStringJacksonDeserializer> cache =
+            new ConcurrentHashMap<>();
     /** The converter from {@code I18nString} to the target type. */
     private final I18nStringConverter converter;
+    /** The target type, if known. */
+    private final Class<?> targetType;
+    /**
+     * The default text property name for token based object
+     * deserialization, or {@code null} for bean based deserialization.
+     */
+    private final String defaultTextProperty;
+    /**
+     * The translations property name for token based object
+     * deserialization, or {@code null} for bean based deserialization.
+     */
+    private final String i18nProperty;
 
     /**
      * Creates a new instance.
      */
     public I18nStringJacksonDeserializer() {
-        super();
-        this.converter = null;
+        this(null);
     }
 
     /**
@@ -75,8 +143,55 @@ implements ContextualDeserializer {
      */
     protected I18nStringJacksonDeserializer(
             final I18nStringConverter converter) {
+        this(converter, null, DEFAULT_TEXT_PROPERTY, I18N_PROPERTY);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param converter The converter from {@code I18nString} to the target type
+     * @param targetType The target type, if known
+     * @param defaultTextProperty The default text property name, or
+     * {@code null} for bean based deserialization
+     * @param i18nProperty The translations property name, or
+     * {@code null} for bean based deserialization
+     */
+    private I18nStringJacksonDeserializer(
+            final I18nStringConverter converter,
+            final Class<?> targetType,
+            final String defaultTextProperty,
+            final String i18nProperty) {
         super();
         this.converter = converter;
+        this.targetType = targetType;
+        this.defaultTextProperty = defaultTextProperty;
+        this.i18nProperty = i18nProperty;
+    }
+
+    /**
+     * Creates a new instance for the specified target type, with the
+     * converter for the target type precomputed.
+     * <p>
+     * Returns {@code null} for types that declare their own deserializer,
+     * even if no deserializer is selected with
+     * {@code JsonDeserializer.None}.
+     * 
+     * @param targetType The target type
+     * @return The new instance, or {@code null} if the type declares its
+     * own deserializer
+     * @see I18nStringJacksonModule
+     */
+    static I18nStringJacksonDeserializer forType(
+            final @NotNull Class<?> targetType) {
+        final JsonDeserialize annotation = targetType.getAnnotation(JsonDeserialize.class);
+        if (annotation != null && !I18nStringJacksonDeserializer.class.equals(annotation.using())) {
+            return null;
+        }
+        return new I18nStringJacksonDeserializer(
+                CONVERTERS.get(targetType),
+                targetType,
+                DEFAULT_TEXT_PROPERTY,
+                I18N_PROPERTY);
     }
 
     /**
@@ -93,17 +208,46 @@ implements ContextualDeserializer {
         } else {
             targetType = property.getType().getRawClass();
         }
-        if (!I18nString.class.equals(targetType) ) {
-            return cache.computeIfAbsent(targetType, type -> {
-                final I18nStringConverter typeConverter = getConverter(targetType);
-                if (typeConverter == null) {
-                    return this;
-                } else {
-                    return new I18nStringJacksonDeserializer(typeConverter);
-                }
-            });
+        final DeserializationConfig config = ctxt.getConfig();
+        final String contextDefaultTextProperty;
+        final String contextI18nProperty;
+        final PropertyNamingStrategy naming = config.getPropertyNamingStrategy();
+        if (config.findMixInClassFor(I18nStringMap.class) != null
+                || config.findMixInClassFor(MapFromObject.class) != null
+                || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)) {
+            contextDefaultTextProperty = null;
+            contextI18nProperty = null;
+        } else if (naming == null) {
+            contextDefaultTextProperty = DEFAULT_TEXT_PROPERTY;
+            contextI18nProperty = I18N_PROPERTY;
+        } else if (naming instanceof PropertyNamingStrategy.PropertyNamingStrategyBase) {
+            final PropertyNamingStrategy.PropertyNamingStrategyBase base =
+                    (PropertyNamingStrategy.PropertyNamingStrategyBase) naming;
+            contextDefaultTextProperty = base.translate(DEFAULT_TEXT_PROPERTY);
+            contextI18nProperty = base.translate(I18N_PROPERTY);
+        } else {
+            contextDefaultTextProperty = null;
+            contextI18nProperty = null;
         }
-        return this;
+        final ContextKey key = new ContextKey(
+                targetType,
+                contextDefaultTextProperty,
+                contextI18nProperty);
+        return cache.computeIfAbsent(key, k -> {
+            final I18nStringConverter typeConverter;
+            if (targetType.equals(this.targetType)) {
+                typeConverter = this.converter;
+            } else if (I18nString.class.equals(targetType)) {
+                typeConverter = null;
+            } else {
+                typeConverter = getConverter(targetType);
+            }
+            return new I18nStringJacksonDeserializer(
+                    typeConverter,
+                    targetType,
+                    contextDefaultTextProperty,
+                    contextI18nProperty);
+        });
     }
 
     /**
@@ -115,15 +259,7 @@ implements ContextualDeserializer {
      */
     protected I18nStringConverter getConverter(
             final @NotNull Class<?> targetType) {
-        final I18nStringConverter result;
-        if (I18nFixedString.class.equals(targetType)) {
-            result = I18nFixedString::from;
-        } else if (I18nStringMap.class.equals(targetType)) {
-            result = I18nStringMap::new;
-        } else {
-            result = null;
-        }
-        return result;
+        return CONVERTERS.get(targetType);
     }
 
     /**
@@ -137,20 +273,284 @@ implements ContextualDeserializer {
         I18nString result = null;
         if (parser.hasCurrentToken()) {
             JsonToken token = parser.getCurrentToken();
-            if (token == JsonToken.START_OBJECT) {
-                result = new I18nStringMap(parser.readValueAs(MapFromObject.class));
+            if (token == JsonToken.START_OBJECT && this.defaultTextProperty == null) {
+                final I18nStringMap map = new I18nStringMap(context.readValue(parser, MapFromObject.class));
+                checkLimits(map, getLimits(context), context);
+                result = I18nStringPool.canonicalShared(map);
+            } else if (token == JsonToken.START_OBJECT) {
+                result = readMap(parser, context, getLimits(context));
+            } else if (token == JsonToken.START_ARRAY) {
+                result = readCompact(parser, context, getLimits(context));
             } else if (token == JsonToken.VALUE_STRING) {
-                result = I18nFixedString.from(parser.getText());
+                result = I18nFixedString.from(
+                        readText(parser, context, DEFAULT_TEXT_PROPERTY, getLimits(context)));
             } else if (token != JsonToken.VALUE_NULL) {
                 throw new JsonParseException(parser, "Unexpected token.", parser.getTokenLocation());
             }
         }
-        if (result != null && this.converter != null) {
+        if (result != null
+                && this.converter != null
+                && !result.getClass().equals(this.targetType)) {
             result = this.converter.convert(result);
         }
         return result;
     }
 
+    /**
+     * Reads an {@code I18nString} from the JSON object the parser is
+     * positioned at, token by token.
+     * 
+     * @param parser The JSON parser, positioned at the object start
+     * @param context The deserialization context
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The read instance
+     * @throws IOException If an I/O error occurs or the JSON object is not
+     * valid
+     * @see #create(String, I18nTranslations)
+     */
+    private @NotNull I18nString readMap(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context,
+            final I18nStringLimits limits)
+    throws IOException {
+        String defaultText = "";
+        I18nTranslations translations = null;
+        for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            if (this.defaultTextProperty.equals(name)) {
+                defaultText = readText(parser, context, name, limits);
+            } else if (this.i18nProperty.equals(name)) {
+                translations = readTranslations(parser, context, name, limits);
+            } else {
+                context.handleUnknownProperty(parser, this, I18nStringMap.class, name);
+            }
+        }
+        return create(defaultText, translations == null ? new I18nTranslations() : translations);
+    }
+
+    /**
+     * Reads an {@code I18nString} from the compact layout array the
+     * parser is positioned at, with the default text and the translations
+     * object.
+     * 
+     * @param parser The JSON parser, positioned at the array start
+     * @param context The deserialization context
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The read instance
+     * @throws IOException If an I/O error occurs or the JSON array is not
+     * valid
+     * @see #create(String, I18nTranslations)
+     */
+    private @NotNull I18nString readCompact(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context,
+            final I18nStringLimits limits)
+    throws IOException {
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            context.reportInputMismatch(this, "Missing value for property '%s'", DEFAULT_TEXT_PROPERTY);
+        }
+        final String defaultText = readText(parser, context, DEFAULT_TEXT_PROPERTY, limits);
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            context.reportInputMismatch(this, "Missing value for property '%s'", I18N_PROPERTY);
+        }
+        final I18nTranslations translations = readTranslations(parser, context, I18N_PROPERTY, limits);
+        if (parser.nextToken() != JsonToken.END_ARRAY) {
+            context.reportWrongTokenException(this, JsonToken.END_ARRAY,
+                    "Unexpected content after translations");
+        }
+        return create(defaultText, translations);
+    }
+
+    /**
+     * Creates the read instance with the specified default text and
+     * translations. {@code I18nFrozenString} and
+     * {@code I18nConcurrentStringMap} targets with the default converters
+     * are created directly from the read translations. Other targets are
+     * created from an {@code I18nStringMap}.
+     * 
+     * @param defaultText The read default text
+     * @param translations The read translations, not to be modified
+     * afterwards
+     * @return The created instance
+     */
+    private @NotNull I18nString create(
+            final @NotNull String defaultText,
+            final @NotNull I18nTranslations translations) {
+        if (I18nFrozenString.class.equals(this.targetType)
+                && this.converter == CONVERTERS.get(I18nFrozenString.class)) {
+            return I18nStringPool.internShared(new I18nFrozenString(defaultText, translations));
+        } else if (I18nConcurrentStringMap.class.equals(this.targetType)
+                && this.converter == CONVERTERS.get(I18nConcurrentStringMap.class)) {
+            return new I18nConcurrentStringMap(new I18nFrozenString(defaultText, translations));
+        }
+        return I18nStringPool.canonicalShared(new I18nStringMap(defaultText, translations));
+    }
+
+    /**
+     * Reads the translations from the JSON object the parser is positioned
+     * at.
+     * 
+     * @param parser The JSON parser, positioned at the translations value
+     * @param context The deserialization context
+     * @param property The property name, for error messages
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The read translations
+     * @throws IOException If an I/O error occurs or the JSON object is not
+     * valid
+     */
+    private @NotNull I18nTranslations readTranslations(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context,
+            final @NotNull String property,
+            final I18nStringLimits limits)
+    throws IOException {
+        final JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            context.reportInputMismatch(this, "Null value for property '%s'", property);
+        } else if (token != JsonToken.START_OBJECT) {
+            context.handleUnexpectedToken(Map.class, parser);
+        }
+        final I18nTranslations translations = new I18nTranslations();
+        for (String language = parser.nextFieldName(); language != null; language = parser.nextFieldName()) {
+            if (limits != null) {
+                checkLanguage(language, translations, limits, context);
+            }
+            parser.nextToken();
+            translations.putUntrusted(language, readText(parser, context, language, limits));
+        }
+        return translations;
+    }
+
+    /**
+     * Reads a text from the value the parser is positioned at. Scalar
+     * values are coerced to text as Jackson does for {@code String}
+     * properties.
+     * 
+     * @param parser The JSON parser, positioned at the value
+     * @param context The deserialization context
+     * @param property The property name, for error messages
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The read text
+     * @throws IOException If an I/O error occurs or the value is not a
+     * valid text
+     */
+    private @NotNull String readText(
+            final @NotNull JsonParser parser,
+            final @NotNull DeserializationContext context,
+            final @NotNull String property,
+            final I18nStringLimits limits)
+    throws IOException {
+        final JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return context.reportInputMismatch(this, "Null value for property '%s'", property);
+        } else if (token != null && token.isScalarValue()) {
+            if (limits != null && !limits.allowsTextLength(parser.getTextLength())) {
+                return context.reportInputMismatch(this,
+                        "Text of property '%s' longer than %d characters",
+                        property,
+                        limits.getMaxTextLength());
+            }
+            return parser.getText();
+        }
+        return (String) context.handleUnexpectedToken(String.class, parser);
+    }
+
+    /**
+     * Returns the limits to check in the current deserialization. Uses
+     * the {@value #LIMITS_ATTRIBUTE} attribute, if set, or the shared
+     * limits otherwise.
+     * 
+     * @param context The deserialization context
+     * @return The limits to check, or {@code null} for no limits
+     * @see I18nStringLimits#getShared()
+     */
+    static I18nStringLimits getLimits(
+            final @NotNull DeserializationContext context) {
+        final Object attribute = context.getAttribute(LIMITS_ATTRIBUTE);
+        if (attribute instanceof I18nStringLimits) {
+            return (I18nStringLimits) attribute;
+        }
+        return I18nStringLimits.getShared();
+    }
+
+    /**
+     * Checks that a translation in the specified language can be added
+     * to the specified translations.
+     * 
+     * @param language The translation language
+     * @param translations The current translations
+     * @param limits The limits to check
+     * @param context The deserialization context
+     * @throws IOException If the translation exceeds the limits
+     */
+    private void checkLanguage(
+            final @NotNull String language,
+            final @NotNull Map<String, String> translations,
+            final @NotNull I18nStringLimits limits,
+            final @NotNull DeserializationContext context)
+    throws IOException {
+        if (!limits.allowsLanguage(language)) {
+            context.reportInputMismatch(this, "Translation language '%s' not allowed", language);
+        }
+        if (!translations.containsKey(language)
+                && !limits.allowsLanguages(translations.size() + 1)) {
+            context.reportInputMismatch(this, "More than %d translations", limits.getMaxLanguages());
+        }
+    }
+
+    /**
+     * Checks the specified limits on an instance read through bean
+     * deserialization.
+     * 
+     * @param value The read instance
+     * @param limits The limits to check, or {@code null} for no limits
+     * @param context The deserialization context
+     * @throws IOException If the instance exceeds the limits
+     */
+    private void checkLimits(
+            final @NotNull I18nStringMap value,
+            final I18nStringLimits limits,
+            final @NotNull DeserializationContext context)
+    throws IOException {
+        if (limits == null) {
+            return;
+        }
+        final Map<String, String> translations = value.getI18n();
+        if (!limits.allowsLanguages(translations.size())) {
+            context.reportInputMismatch(this, "More than %d translations", limits.getMaxLanguages());
+        }
+        checkText(DEFAULT_TEXT_PROPERTY, value.getDefaultText(), limits, context);
+        for (final Map.Entry<String, String> entry : translations.entrySet()) {
+            if (!limits.allowsLanguage(entry.getKey())) {
+                context.reportInputMismatch(this, "Translation language '%s' not allowed", entry.getKey());
+            }
+            checkText(entry.getKey(), entry.getValue(), limits, context);
+        }
+    }
+
+    /**
+     * Checks the length of the specified text.
+     * 
+     * @param property The property name, for error messages
+     * @param text The text
+     * @param limits The limits to check
+     * @param context The deserialization context
+     * @throws IOException If the text exceeds the limits
+     */
+    private void checkText(
+            final @NotNull String property,
+            final @NotNull String text,
+            final @NotNull I18nStringLimits limits,
+            final @NotNull DeserializationContext context)
+    throws IOException {
+        if (!limits.allowsTextLength(text.length())) {
+            context.reportInputMismatch(this,
+                    "Text of property '%s' longer than %d characters",
+                    property,
+                    limits.getMaxTextLength());
+        }
+    }
+
     /**
      * Extension of {@code I18nStringMap} for deserialization from
      * JSON object.
@@ -167,5 +567,155 @@ implements ContextualDeserializer {
 
         /** The serial version UID. */
         private static final long serialVersionUID = 1L;
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The default text is read checking the limits of the current
+         * deserialization.
+         */
+        @Override
+        @JsonDeserialize(using = LimitedText.class)
+        public @NotNull I18nStringMap setDefaultText(
+                final @NotNull String defaultText) {
+            return super.setDefaultText(defaultText);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The translations are read checking the limits of the current
+         * deserialization. Unknown language tags are not registered in the
+         * shared language identifiers dictionary.
+         */
+        @Override
+        @JsonDeserialize(using = LimitedTranslations.class)
+        public @NotNull I18nStringMap setI18n(
+                final @NotNull Map<@NotNull String, @NotNull String> translations) {
+            setI18nUntrusted(translations);
+            return this;
+        }
+    }
+
+    /**
+     * Deserializer of the default text of {@code MapFromObject}, checking
+     * the limits of the current deserialization before creating the text.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class LimitedText
+    extends JsonDeserializer<String> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String deserialize(
+                final @NotNull JsonParser parser,
+                final @NotNull DeserializationContext context)
+        throws IOException {
+            return BEAN_PROPERTIES.readText(
+                    parser,
+                    context,
+                    DEFAULT_TEXT_PROPERTY,
+                    getLimits(context));
+        }
+    }
+
+    /**
+     * Deserializer of the translations of {@code MapFromObject}, checking
+     * the limits of the current deserialization while reading each
+     * translation.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class LimitedTranslations
+    extends JsonDeserializer<Map<String, String>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<String, String> deserialize(
+                final @NotNull JsonParser parser,
+                final @NotNull DeserializationContext context)
+        throws IOException {
+            return BEAN_PROPERTIES.readTranslations(
+                    parser,
+                    context,
+                    I18N_PROPERTY,
+                    getLimits(context));
+        }
+    }
+
+    /**
+     * Key of the contextual deserializers cache. Contains the target type
+     * and the property names derived from the deserialization configuration,
+     * so instances shared between mappers with different configurations
+     * return the right contextual deserializer.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class ContextKey {
+
+        /** The target type. */
+        private final @NotNull Class<?> targetType;
+        /** The default text property name, or {@code null} for bean mode. */
+        private final String defaultTextProperty;
+        /** The translations property name, or {@code null} for bean mode. */
+        private final String i18nProperty;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param targetType The target type
+         * @param defaultTextProperty The default text property name, or
+         * {@code null} for bean mode
+         * @param i18nProperty The translations property name, or
+         * {@code null} for bean mode
+         */
+        ContextKey(
+                final @NotNull Class<?> targetType,
+                final String defaultTextProperty,
+                final String i18nProperty) {
+            super();
+            this.targetType = targetType;
+            this.defaultTextProperty = defaultTextProperty;
+            this.i18nProperty = i18nProperty;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder()
+                    .append(this.targetType)
+                    .append(this.defaultTextProperty)
+                    .append(this.i18nProperty)
+                    .toHashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null) { return false; }
+            if (obj == this) { return true; }
+            if (obj.getClass() != getClass()) { return false; }
+            final ContextKey other = (ContextKey) obj;
+            return new EqualsBuilder()
+                    .append(this.targetType, other.targetType)
+                    .append(this.defaultTextProperty, other.defaultTextProperty)
+                    .append(this.i18nProperty, other.i18nProperty)
+                    .isEquals();
+        }
     }
 }
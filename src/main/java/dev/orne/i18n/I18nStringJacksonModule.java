@@ -0,0 +1,202 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Jackson module for {@code I18nString} types.
+ * <p>
+ * Without this module Jackson creates a new serializer or deserializer
+ * instance for each type and property annotated through
+ * {@code I18nString}. This module replaces those annotations with
+ * {@code Serializers} and {@code Deserializers} that return a shared
+ * serializer and a precomputed deserializer per target type, with its
+ * converter already resolved. Deserializers are cached separately for each
+ * mapper the module is registered in. Types that declare their own serializer or
+ * deserializer, as {@code I18nResourcesString}, keep using them.
+ * <p>
+ * The module is registered as a service, so it is registered by
+ * {@code ObjectMapper.findAndRegisterModules()}.
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nStringJacksonSerializer
+ * @see I18nStringJacksonDeserializer
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public class I18nStringJacksonModule
+extends Module {
+
+    /** The module name. */
+    private static final String NAME = "dev.orne.i18n";
+
+    /**
+     * Creates a new instance.
+     */
+    public I18nStringJacksonModule() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getModuleName() {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setupModule(
+            final @NotNull SetupContext context) {
+        context.setMixInAnnotations(I18nString.class, I18nStringMixIn.class);
+        context.addSerializers(new I18nStringSerializers());
+        context.addDeserializers(new I18nStringDeserializers());
+    }
+
+    /**
+     * Creates the deserializer for the specified target type.
+     * <p>
+     * The returned deserializer is cached per target type for each mapper
+     * the module is registered in, so it is not shared between mappers with
+     * different configurations.
+     * 
+     * @param targetType The target type
+     * @return The deserializer, or {@code null} if the type declares its
+     * own deserializer
+     */
+    protected JsonDeserializer<?> findDeserializer(
+            final @NotNull Class<?> targetType) {
+        return I18nStringJacksonDeserializer.forType(targetType);
+    }
+
+    /**
+     * Mix-in that removes the serializer and deserializer annotations of
+     * {@code I18nString}.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    @JsonSerialize(using=JsonSerializer.None.class)
+    @JsonDeserialize(using=JsonDeserializer.None.class)
+    private interface I18nStringMixIn {
+        // Annotations holder
+    }
+
+    /**
+     * Serializers provider for {@code I18nString} types.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static class I18nStringSerializers
+    extends Serializers.Base {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public JsonSerializer<?> findSerializer(
+                final @NotNull SerializationConfig config,
+                final @NotNull JavaType type,
+                final @NotNull BeanDescription beanDesc) {
+            if (!type.isTypeOrSubTypeOf(I18nString.class)) {
+                return null;
+            }
+            return I18nStringJacksonSerializer.forType(type.getRawClass());
+        }
+    }
+
+    /**
+     * Deserializers provider for {@code I18nString} types.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private class I18nStringDeserializers
+    extends Deserializers.Base {
+
+        /** The deserializers of the mapper, by target type. */
+        private final Map<Class<?>, JsonDeserializer<?>> deserializers =
+                new ConcurrentHashMap<>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(
+                final @NotNull JavaType type,
+                final @NotNull DeserializationConfig config,
+                final @NotNull BeanDescription beanDesc) {
+            if (!type.isTypeOrSubTypeOf(I18nString.class)) {
+                return null;
+            }
+            final Class<?> targetType = type.getRawClass();
+            JsonDeserializer<?> result = this.deserializers.get(targetType);
+            if (result == null) {
+                result = findDeserializer(targetType);
+                if (result != null) {
+                    final JsonDeserializer<?> previous = this.deserializers.putIfAbsent(targetType, result);
+                    if (previous != null) {
+                        result = previous;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
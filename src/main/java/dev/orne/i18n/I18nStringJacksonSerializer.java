@@ -23,17 +23,35 @@ package dev.orne.i18n;
  */
 
 import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
@@ -41,6 +59,42 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 /**
  * Jackson JSON serializer for {@code I18nString} instances.
+ * <p>
+ * Instances serialized as text use the locale of the
+ * {@value #LOCALE_ATTRIBUTE} attribute, if set, or the current
+ * {@code I18N} locale otherwise. The attribute can be a {@code Locale}
+ * or a language tag, and can be set for each serialization with
+ * {@code ObjectWriter.withAttribute()}, avoiding context lookups for each
+ * value and allowing serialization in threads without I18N context.
+ * <p>
+ * Instances serialized as objects include only the translations of the
+ * {@code I18nLanguageProjection} of the {@value #LANGUAGES_ATTRIBUTE}
+ * attribute, if set. The attribute can be an
+ * {@code I18nLanguageProjection}, a language tag, a {@code Locale} or a
+ * collection of language tags or locales.
+ * <p>
+ * {@code I18nResourcesString} instances are written in structured form
+ * if the {@value #STRUCTURED_ATTRIBUTE} attribute is {@code true}.
+ * <p>
+ * Instances serialized as objects are written in compact layout, an
+ * array with the default text and an object with the translations by
+ * language, only if the {@value #COMPACT_ATTRIBUTE} attribute is
+ * {@code true}, as for binary data formats like Smile or CBOR. Language
+ * keys are kept as property names, so data formats with shared property
+ * names (as Smile) write repeated languages as back references. {@code I18nStringJacksonDeserializer}
+ * reads both layouts from any data format.
+ * <p>
+ * Texts of non memoized {@code I18nResourcesString} instances are
+ * resolved once per locale for each serialization, reusing the resolved
+ * texts for equal instances. The resolved texts are bounded and
+ * discarded at the end of the serialization.
+ * <p>
+ * Instances serialized as objects are written directly to the
+ * {@code JsonGenerator} as the equivalent {@code I18nStringMap} bean,
+ * without intermediate copies when possible. Configurations that could
+ * change the bean output (custom naming strategies, mix-ins or
+ * inclusion rules that filter values) use the standard bean
+ * serialization of {@code I18nStringMap}.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2021-02
@@ -52,22 +106,82 @@ public class I18nStringJacksonSerializer
 extends StdSerializer<I18nString>
 implements ContextualSerializer {
 
+    /**
+     * The serialization attribute with the locale to serialize instances
+     * as text with, and to resolve {@code I18nResourcesString} instances
+     * serialized as objects with.
+     * 
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String LOCALE_ATTRIBUTE = "dev.orne.i18n.locale";
+    /**
+     * The serialization attribute with the languages to include when
+     * serializing instances as objects.
+     * 
+     * @see I18nLanguageProjection
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String LANGUAGES_ATTRIBUTE = "dev.orne.i18n.languages";
+    /**
+     * The serialization attribute that enables serialization of
+     * {@code I18nResourcesString} instances in structured form.
+     * 
+     * @see I18nResourcesStringJacksonSerializer
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String STRUCTURED_ATTRIBUTE = "dev.orne.i18n.structured";
+    /**
+     * The serialization attribute that enables the compact layout when
+     * serializing instances as objects. Disabled if not set.
+     * 
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String COMPACT_ATTRIBUTE = "dev.orne.i18n.compact";
+
     /** The serial version UID.  */
     private static final long serialVersionUID = 1L;
-    /** The shared instance for {@code } as object serialization. */
+    /** The serialization attribute with the resolved texts. */
+    private static final String RESOLVED_ATTRIBUTE =
+            I18nStringJacksonSerializer.class.getName() + ".resolved";
+    /** The maximum number of resolved texts per serialization. */
+    private static final int RESOLVED_MAX_SIZE = 1024;
+    /** The default text property name. */
+    private static final String DEFAULT_TEXT_PROPERTY = "defaultText";
+    /** The translations property name. */
+    private static final String I18N_PROPERTY = "i18n";
+    /** The shared instance for current language text serialization. */
+    private static final I18nStringJacksonSerializer TEXT_INSTANCE =
+            new I18nStringJacksonSerializer();
+    /** The shared instance for bean based as object serialization. */
     private static final I18nStringJacksonSerializer OBJECT_INSTANCE =
             new I18nStringJacksonSerializer(true);
+    /** The shared instance for streaming as object serialization. */
+    private static final I18nStringJacksonSerializer STREAMING_OBJECT_INSTANCE =
+            new I18nStringJacksonSerializer(DEFAULT_TEXT_PROPERTY, I18N_PROPERTY);
 
     /** If {@code I18nStringMap} instances should be serialized as objects. */
     private final boolean mapsAsObject;
+    /**
+     * The default text property name for streaming as object serialization,
+     * or {@code null} for bean based serialization.
+     */
+    private final String defaultTextProperty;
+    /**
+     * The translations property name for streaming as object serialization,
+     * or {@code null} for bean based serialization.
+     */
+    private final String i18nProperty;
 
     /**
      * Creates a new instance that serializes all instances as current language
      * translation text.
      */
     public I18nStringJacksonSerializer() {
-        super(I18nString.class);
-        this.mapsAsObject = false;
+        this(false);
     }
 
     /**
@@ -80,6 +194,44 @@ implements ContextualSerializer {
             final boolean mapsAsObject) {
         super(I18nString.class);
         this.mapsAsObject = mapsAsObject;
+        this.defaultTextProperty = null;
+        this.i18nProperty = null;
+    }
+
+    /**
+     * Creates a new instance that serializes all instances as objects,
+     * writing them directly to the {@code JsonGenerator}.
+     * 
+     * @param defaultTextProperty The default text property name
+     * @param i18nProperty The translations property name
+     */
+    private I18nStringJacksonSerializer(
+            final @NotNull String defaultTextProperty,
+            final @NotNull String i18nProperty) {
+        super(I18nString.class);
+        this.mapsAsObject = true;
+        this.defaultTextProperty = defaultTextProperty;
+        this.i18nProperty = i18nProperty;
+    }
+
+    /**
+     * Returns the shared instance for the specified type.
+     * <p>
+     * Returns {@code null} for types that declare their own serializer,
+     * even if no serializer is selected with {@code JsonSerializer.None}.
+     * 
+     * @param type The serialized type
+     * @return The shared instance, or {@code null} if the type declares
+     * its own serializer
+     * @see I18nStringJacksonModule
+     */
+    static I18nStringJacksonSerializer forType(
+            final @NotNull Class<?> type) {
+        final JsonSerialize annotation = type.getAnnotation(JsonSerialize.class);
+        if (annotation != null && !I18nStringJacksonSerializer.class.equals(annotation.using())) {
+            return null;
+        }
+        return TEXT_INSTANCE;
     }
 
     /**
@@ -94,12 +246,73 @@ implements ContextualSerializer {
         if (format != null) {
             final JsonFormat.Shape shape = format.getShape();
             if (JsonFormat.Shape.OBJECT == shape) {
-                return OBJECT_INSTANCE;
+                return createObjectSerializer(provider.getConfig());
             }
         }
         return this;
     }
 
+    /**
+     * Creates the serializer for as object serialization for the
+     * specified configuration.
+     * 
+     * @param config The serialization configuration
+     * @return The streaming serializer if the configuration doesn't
+     * change the bean output of {@code I18nStringMap}, or the bean based
+     * serializer otherwise
+     */
+    private static @NotNull I18nStringJacksonSerializer createObjectSerializer(
+            final @NotNull SerializationConfig config) {
+        if (config.findMixInClassFor(I18nStringMap.class) != null
+                || config.findMixInClassFor(MapAsObject.class) != null
+                || isFiltering(config.getDefaultInclusion(MapAsObject.class, String.class))
+                || isFiltering(config.getDefaultInclusion(MapAsObject.class, Map.class))) {
+            return OBJECT_INSTANCE;
+        }
+        final PropertyNamingStrategy naming = config.getPropertyNamingStrategy();
+        if (naming == null) {
+            return STREAMING_OBJECT_INSTANCE;
+        }
+        if (naming instanceof PropertyNamingStrategy.PropertyNamingStrategyBase) {
+            final PropertyNamingStrategy.PropertyNamingStrategyBase base =
+                    (PropertyNamingStrategy.PropertyNamingStrategyBase) naming;
+            return new I18nStringJacksonSerializer(
+                    base.translate(DEFAULT_TEXT_PROPERTY),
+                    base.translate(I18N_PROPERTY));
+        }
+        return OBJECT_INSTANCE;
+    }
+
+    /**
+     * Returns {@code true} if the specified inclusion rules can exclude
+     * non {@code null} values or contents.
+     * 
+     * @param inclusion The inclusion rules
+     * @return If the inclusion rules can exclude non {@code null} values
+     */
+    private static boolean isFiltering(
+            final JsonInclude.Value inclusion) {
+        return inclusion != null && (
+                isFiltering(inclusion.getValueInclusion())
+                || isFiltering(inclusion.getContentInclusion()));
+    }
+
+    /**
+     * Returns {@code true} if the specified inclusion rule can exclude
+     * non {@code null} values.
+     * 
+     * @param inclusion The inclusion rule
+     * @return If the inclusion rule can exclude non {@code null} values
+     */
+    private static boolean isFiltering(
+            final JsonInclude.Include inclusion) {
+        return inclusion != null
+                && inclusion != JsonInclude.Include.ALWAYS
+                && inclusion != JsonInclude.Include.USE_DEFAULTS
+                && inclusion != JsonInclude.Include.NON_NULL
+                && inclusion != JsonInclude.Include.NON_ABSENT;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -109,19 +322,398 @@ implements ContextualSerializer {
             final @NotNull JsonGenerator jgen,
             final @NotNull SerializerProvider provider)
     throws IOException {
-        if (this.mapsAsObject) {
-            provider.defaultSerializeValue(new MapAsObject(value.asMap()), jgen);
+        if (value instanceof I18nResourcesString && isStructured(provider)) {
+            I18nResourcesStringJacksonSerializer.INSTANCE.serialize(
+                    (I18nResourcesString) value, jgen, provider);
+        } else if (!this.mapsAsObject) {
+            final Locale locale = getLocale(provider);
+            jgen.writeString(getText(value, locale, provider));
+        } else if (isCompact(provider)) {
+            writeObject(value, jgen, provider, true);
+        } else if (this.defaultTextProperty == null) {
+            final String defaultText;
+            final Map<String, String> translations;
+            if (value instanceof I18nTranslatedString) {
+                final I18nTranslatedString state = ((I18nTranslatedString) value).translatedState();
+                defaultText = state.getDefaultText();
+                translations = state.getI18n();
+            } else {
+                final I18nStringMap map = getMap(value, provider);
+                defaultText = map.getDefaultText();
+                translations = map.getI18n();
+            }
+            provider.defaultSerializeValue(
+                    new MapAsObject(defaultText, translations, getProjection(provider)),
+                    jgen);
+        } else {
+            writeObject(value, jgen, provider, false);
+        }
+    }
+
+    /**
+     * Returns the locale of the {@value #LOCALE_ATTRIBUTE} attribute of the
+     * current serialization. Language tags are converted to locales once,
+     * replacing the attribute value for the rest of the serialization.
+     * 
+     * @param provider The serializer provider
+     * @return The locale of the current serialization, or {@code null} if
+     * not set
+     */
+    private static Locale getLocale(
+            final @NotNull SerializerProvider provider) {
+        final Object attribute = provider.getAttribute(LOCALE_ATTRIBUTE);
+        if (attribute instanceof Locale) {
+            return (Locale) attribute;
+        } else if (attribute instanceof String) {
+            final Locale locale = Locale.forLanguageTag((String) attribute);
+            provider.setAttribute(LOCALE_ATTRIBUTE, locale);
+            return locale;
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if the {@value #STRUCTURED_ATTRIBUTE} attribute
+     * of the current serialization is {@code true}.
+     * 
+     * @param provider The serializer provider
+     * @return If {@code I18nResourcesString} instances are serialized in
+     * structured form
+     */
+    private static boolean isStructured(
+            final @NotNull SerializerProvider provider) {
+        final Object attribute = provider.getAttribute(STRUCTURED_ATTRIBUTE);
+        return attribute != null && Boolean.parseBoolean(attribute.toString());
+    }
+
+    /**
+     * Returns {@code true} if instances serialized as objects are written
+     * in compact layout in the current serialization. The compact layout is
+     * used only if the {@value #COMPACT_ATTRIBUTE} attribute is
+     * {@code true}, for any data format.
+     * 
+     * @param provider The serializer provider
+     * @return If instances are serialized in compact layout
+     */
+    private static boolean isCompact(
+            final @NotNull SerializerProvider provider) {
+        final Object attribute = provider.getAttribute(COMPACT_ATTRIBUTE);
+        return attribute != null && Boolean.parseBoolean(attribute.toString());
+    }
+
+    /**
+     * Returns the text of the specified value for the specified locale,
+     * reusing the text resolved for equal non memoized
+     * {@code I18nResourcesString} instances in the current serialization.
+     * 
+     * @param value The value
+     * @param locale The locale, or {@code null} for the current
+     * {@code I18N} locale
+     * @param provider The serializer provider
+     * @return The text of the value
+     */
+    private static String getText(
+            final @NotNull I18nString value,
+            final Locale locale,
+            final @NotNull SerializerProvider provider) {
+        if (!isResolvable(value)) {
+            return locale == null ? value.get() : value.get(locale);
+        }
+        final ResolvedKey key = new ResolvedKey(
+                value,
+                locale == null ? I18N.getLocale() : locale,
+                false);
+        final Map<ResolvedKey, Object> resolved = getResolved(provider);
+        String result = (String) resolved.get(key);
+        if (result == null) {
+            result = locale == null ? value.get() : value.get(locale);
+            resolved.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code I18nStringMap} of the specified value, reusing the
+     * map resolved for equal non memoized {@code I18nResourcesString}
+     * instances in the current serialization.
+     * <p>
+     * {@code I18nResourcesString} instances are resolved for the locale of
+     * the {@value #LOCALE_ATTRIBUTE} attribute, if set.
+     * <p>
+     * Returned maps must not be modified.
+     * 
+     * @param value The value
+     * @param provider The serializer provider
+     * @return The {@code I18nStringMap} of the value
+     * @see I18nString#asMap()
+     */
+    private static @NotNull I18nStringMap getMap(
+            final @NotNull I18nString value,
+            final @NotNull SerializerProvider provider) {
+        final Locale locale = value instanceof I18nResourcesString ?
+                getLocale(provider) :
+                null;
+        if (!isResolvable(value)) {
+            return locale == null ?
+                    value.asMap() :
+                    getMap((I18nResourcesString) value, locale);
+        }
+        final ResolvedKey key = new ResolvedKey(
+                value,
+                locale == null ? I18N.getLocale() : locale,
+                true);
+        final Map<ResolvedKey, Object> resolved = getResolved(provider);
+        I18nStringMap result = (I18nStringMap) resolved.get(key);
+        if (result == null) {
+            result = locale == null ?
+                    value.asMap() :
+                    getMap((I18nResourcesString) value, locale);
+            resolved.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code I18nStringMap} of the specified
+     * {@code I18nResourcesString} with the formatted default text and the
+     * text for the specified locale.
+     * 
+     * @param value The value
+     * @param locale The locale
+     * @return The {@code I18nStringMap} of the value
+     */
+    private static @NotNull I18nStringMap getMap(
+            final @NotNull I18nResourcesString value,
+            final @NotNull Locale locale) {
+        return new I18nStringMap(value.getFormattedDefaultText())
+                .set(locale, value.get(locale));
+    }
+
+    /**
+     * Returns {@code true} if the resolved texts of the specified value
+     * should be reused in the current serialization.
+     * 
+     * @param value The value
+     * @return If the resolved texts of the value should be reused
+     */
+    private static boolean isResolvable(
+            final @NotNull I18nString value) {
+        return value instanceof I18nResourcesString
+                && !((I18nResourcesString) value).isMemoized();
+    }
+
+    /**
+     * Returns the resolved texts of the current serialization, creating
+     * them if required. The resolved texts are stored as a per call
+     * attribute, discarded at the end of the serialization.
+     * 
+     * @param provider The serializer provider
+     * @return The resolved texts of the current serialization
+     */
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<ResolvedKey, Object> getResolved(
+            final @NotNull SerializerProvider provider) {
+        Map<ResolvedKey, Object> resolved =
+                (Map<ResolvedKey, Object>) provider.getAttribute(RESOLVED_ATTRIBUTE);
+        if (resolved == null) {
+            resolved = new LinkedHashMap<ResolvedKey, Object>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<ResolvedKey, Object> eldest) {
+                    return size() > RESOLVED_MAX_SIZE;
+                }
+            };
+            provider.setAttribute(RESOLVED_ATTRIBUTE, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns the language projection of the {@value #LANGUAGES_ATTRIBUTE}
+     * attribute of the current serialization. Attribute values other than
+     * projections are converted to projections once, replacing the
+     * attribute value for the rest of the serialization.
+     * 
+     * @param provider The serializer provider
+     * @return The language projection of the current serialization, or
+     * {@code null} if not set
+     */
+    private static I18nLanguageProjection getProjection(
+            final @NotNull SerializerProvider provider) {
+        final Object attribute = provider.getAttribute(LANGUAGES_ATTRIBUTE);
+        if (attribute == null || attribute instanceof I18nLanguageProjection) {
+            return (I18nLanguageProjection) attribute;
+        }
+        final I18nLanguageProjection projection;
+        if (attribute instanceof Collection) {
+            projection = I18nLanguageProjection.of((Collection<?>) attribute);
+        } else if (attribute instanceof Locale) {
+            projection = I18nLanguageProjection.of((Locale) attribute);
+        } else {
+            projection = I18nLanguageProjection.of(attribute.toString());
+        }
+        provider.setAttribute(LANGUAGES_ATTRIBUTE, projection);
+        return projection;
+    }
+
+    /**
+     * Writes the specified value as an {@code I18nStringMap} object, or as
+     * an array with the default text and the translations object in
+     * compact layout, reading the default text and translations directly
+     * from the value when possible.
+     * 
+     * @param value The value to write
+     * @param jgen The JSON generator
+     * @param provider The serializer provider
+     * @param compact If the value is written in compact layout
+     * @throws IOException If an I/O error occurs
+     */
+    private void writeObject(
+            final @NotNull I18nString value,
+            final @NotNull JsonGenerator jgen,
+            final @NotNull SerializerProvider provider,
+            final boolean compact)
+    throws IOException {
+        final I18nLanguageProjection projection = getProjection(provider);
+        final String defaultText;
+        final Map<String, String> translations;
+        if (value instanceof I18nTranslatedString) {
+            final I18nTranslatedString state = ((I18nTranslatedString) value).translatedState();
+            defaultText = state.getDefaultText();
+            translations = state.getI18n();
+        } else {
+            final I18nStringMap map = getMap(value, provider);
+            defaultText = map.getDefaultText();
+            translations = map.getI18n();
+        }
+        if (compact) {
+            jgen.writeStartArray();
+            jgen.writeString(defaultText);
+        } else {
+            jgen.writeStartObject(value);
+            jgen.writeFieldName(this.defaultTextProperty);
+            jgen.writeString(defaultText);
+            jgen.writeFieldName(this.i18nProperty);
+        }
+        jgen.writeStartObject(translations);
+        final Map<String, String> ordered;
+        if (translations.size() > 1
+                && provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+            ordered = new TreeMap<>();
+            for (final Map.Entry<String, String> entry : translations.entrySet()) {
+                if (projection == null || projection.includes(entry.getKey())) {
+                    ordered.put(entry.getKey(), entry.getValue());
+                }
+            }
+        } else {
+            ordered = inSerializationOrder(translations);
+        }
+        for (final Map.Entry<String, String> entry : ordered.entrySet()) {
+            if (projection == null || projection.includes(entry.getKey())) {
+                jgen.writeFieldName(entry.getKey());
+                jgen.writeString(entry.getValue());
+            }
+        }
+        jgen.writeEndObject();
+        if (compact) {
+            jgen.writeEndArray();
         } else {
-            jgen.writeString(value.get());
+            jgen.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns the specified translations in the iteration order of the
+     * {@code HashMap} copy previous versions serialized, so the output of
+     * object serialization does not depend on the internal representation
+     * of the translations. Translations with less than two entries are
+     * returned without copying.
+     * 
+     * @param translations The translations
+     * @return The translations in serialization order
+     */
+    private static @NotNull Map<String, String> inSerializationOrder(
+            final @NotNull Map<String, String> translations) {
+        if (translations.size() < 2) {
+            return translations;
+        }
+        return new HashMap<>(translations);
+    }
+
+    /**
+     * Key of the texts resolved in a serialization.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    @API(status=Status.INTERNAL, since="0.2")
+    private static final class ResolvedKey {
+
+        /** The resolved value. */
+        private final @NotNull I18nString value;
+        /** The locale of the resolved text. */
+        private final @NotNull Locale locale;
+        /** If the full {@code I18nStringMap} was resolved. */
+        private final boolean map;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param value The resolved value
+         * @param locale The locale of the resolved text
+         * @param map If the full {@code I18nStringMap} was resolved
+         */
+        ResolvedKey(
+                final @NotNull I18nString value,
+                final @NotNull Locale locale,
+                final boolean map) {
+            super();
+            this.value = value;
+            this.locale = locale;
+            this.map = map;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder()
+                    .append(this.value)
+                    .append(this.locale)
+                    .append(this.map)
+                    .toHashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null) { return false; }
+            if (obj == this) { return true; }
+            if (!getClass().equals(obj.getClass())) { return false; }
+            final ResolvedKey other = (ResolvedKey) obj;
+            return new EqualsBuilder()
+                    .append(this.value, other.value)
+                    .append(this.locale, other.locale)
+                    .append(this.map, other.map)
+                    .isEquals();
         }
     }
 
     /**
      * Extension of {@code I18nStringMap} for serialization as
      * JSON object.
+     * <p>
+     * Exposes the translations of the serialized value through a read only
+     * view in serialization order, filtered with the language projection
+     * if any.
      * 
      * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
-     * @version 1.0, 2021-02
+     * @version 1.1, 2026-10
      * @see I18nStringMap
      * @since 0.1
      */
@@ -133,9 +725,160 @@ implements ContextualSerializer {
         /** The serial version UID. */
         private static final long serialVersionUID = 1L;
 
+        /** The translations view. */
+        private final transient @NotNull Map<String, String> translations;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param defaultText The default text
+         * @param translations The translations
+         * @param projection The language projection, or {@code null} to
+         * include all the translations
+         */
         public MapAsObject(
-                final @NotNull I18nString copy) {
-            super(copy);
+                final @NotNull String defaultText,
+                final @NotNull Map<String, String> translations,
+                final I18nLanguageProjection projection) {
+            super(defaultText);
+            final Map<String, String> view = Collections.unmodifiableMap(
+                    inSerializationOrder(translations));
+            if (projection == null) {
+                this.translations = view;
+            } else {
+                this.translations = new ProjectedTranslations(view, projection);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Map<@NotNull String, @NotNull String> getI18n() {
+            return this.translations;
+        }
+    }
+
+    /**
+     * Read only view of the translations included by a language
+     * projection.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static class ProjectedTranslations
+    extends AbstractMap<String, String> {
+
+        /** The translations. */
+        private final @NotNull Map<String, String> translations;
+        /** The language projection. */
+        private final @NotNull I18nLanguageProjection projection;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param translations The translations
+         * @param projection The language projection
+         */
+        ProjectedTranslations(
+                final @NotNull Map<String, String> translations,
+                final @NotNull I18nLanguageProjection projection) {
+            super();
+            this.translations = translations;
+            this.projection = projection;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Set<Map.Entry<String, String>> entrySet() {
+            return new AbstractSet<Map.Entry<String, String>>() {
+
+                @Override
+                public @NotNull Iterator<Map.Entry<String, String>> iterator() {
+                    return new ProjectedIterator(translations.entrySet().iterator(), projection);
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (final String language : translations.keySet()) {
+                        if (projection.includes(language)) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterator over the translations included by a language projection.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static class ProjectedIterator
+    implements Iterator<Map.Entry<String, String>> {
+
+        /** The translations iterator. */
+        private final @NotNull Iterator<Map.Entry<String, String>> delegate;
+        /** The language projection. */
+        private final @NotNull I18nLanguageProjection projection;
+        /** The next included entry, if any. */
+        private Map.Entry<String, String> next;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param delegate The translations iterator
+         * @param projection The language projection
+         */
+        ProjectedIterator(
+                final @NotNull Iterator<Map.Entry<String, String>> delegate,
+                final @NotNull I18nLanguageProjection projection) {
+            super();
+            this.delegate = delegate;
+            this.projection = projection;
+            advance();
+        }
+
+        /**
+         * Moves to the next included entry.
+         */
+        private void advance() {
+            this.next = null;
+            while (this.next == null && this.delegate.hasNext()) {
+                final Map.Entry<String, String> entry = this.delegate.next();
+                if (this.projection.includes(entry.getKey())) {
+                    this.next = entry;
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map.Entry<String, String> next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            final Map.Entry<String, String> result = this.next;
+            advance();
+            return result;
         }
     }
 }
@@ -0,0 +1,370 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Locale;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Immutable limits for {@code I18nString} instances read from untrusted
+ * input.
+ * <p>
+ * Limits the number of translations, the length of the default text and
+ * translations and, optionally, the allowed translation languages. The
+ * number of message codes and arguments of structured
+ * {@code I18nResourcesString} values are limited too. The limits are
+ * checked while reading each value, so oversized inputs fail before the
+ * rest of the value is read.
+ * <p>
+ * No limits are applied by default. When shared limits are configured
+ * with {@link #setShared(I18nStringLimits)} they are used by the Jackson
+ * deserializer, unless the
+ * {@value I18nStringJacksonDeserializer#LIMITS_ATTRIBUTE} deserialization
+ * attribute is set, and by {@code JaxbUtils.fromXml()}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nStringJacksonDeserializer#LIMITS_ATTRIBUTE
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nStringLimits {
+
+    /** The instance without limits. */
+    private static final I18nStringLimits UNLIMITED =
+            new I18nStringLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, null,
+                    Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    /** The shared limits, if any. */
+    private static volatile I18nStringLimits shared;
+
+    /** The maximum number of translations. */
+    private final int maxLanguages;
+    /** The maximum length of the default text and translations. */
+    private final int maxTextLength;
+    /** The allowed translation languages, or {@code null} for any. */
+    private final I18nLanguageProjection languages;
+    /** The maximum number of message codes. */
+    private final int maxCodes;
+    /** The maximum number of message arguments. */
+    private final int maxArguments;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxLanguages The maximum number of translations
+     * @param maxTextLength The maximum length of the texts
+     * @param languages The allowed translation languages, or {@code null}
+     * for any
+     * @param maxCodes The maximum number of message codes
+     * @param maxArguments The maximum number of message arguments
+     */
+    private I18nStringLimits(
+            final int maxLanguages,
+            final int maxTextLength,
+            final I18nLanguageProjection languages,
+            final int maxCodes,
+            final int maxArguments) {
+        super();
+        this.maxLanguages = maxLanguages;
+        this.maxTextLength = maxTextLength;
+        this.languages = languages;
+        this.maxCodes = maxCodes;
+        this.maxArguments = maxArguments;
+    }
+
+    /**
+     * Returns the instance without limits.
+     *
+     * @return The instance without limits
+     */
+    public static @NotNull I18nStringLimits unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Returns the shared limits.
+     *
+     * @return The shared limits, or {@code null} if no limits are applied
+     */
+    public static I18nStringLimits getShared() {
+        return shared;
+    }
+
+    /**
+     * Sets the shared limits.
+     *
+     * @param limits The shared limits, or {@code null} to apply no limits
+     */
+    public static void setShared(
+            final I18nStringLimits limits) {
+        shared = limits;
+    }
+
+    /**
+     * Returns a copy of this instance with the specified maximum number
+     * of translations.
+     *
+     * @param max The maximum number of translations
+     * @return The new limits
+     */
+    public @NotNull I18nStringLimits withMaxLanguages(
+            final int max) {
+        Validate.isTrue(max >= 0, "Maximum number of translations cannot be negative");
+        return new I18nStringLimits(max, this.maxTextLength, this.languages,
+                this.maxCodes, this.maxArguments);
+    }
+
+    /**
+     * Returns a copy of this instance with the specified maximum length
+     * of the default text and translations.
+     *
+     * @param max The maximum length of the texts
+     * @return The new limits
+     */
+    public @NotNull I18nStringLimits withMaxTextLength(
+            final int max) {
+        Validate.isTrue(max >= 0, "Maximum text length cannot be negative");
+        return new I18nStringLimits(this.maxLanguages, max, this.languages,
+                this.maxCodes, this.maxArguments);
+    }
+
+    /**
+     * Returns a copy of this instance that allows only translations in
+     * the languages of the specified projection.
+     *
+     * @param projection The allowed translation languages, or
+     * {@code null} to allow any language
+     * @return The new limits
+     */
+    public @NotNull I18nStringLimits withLanguages(
+            final I18nLanguageProjection projection) {
+        return new I18nStringLimits(this.maxLanguages, this.maxTextLength, projection,
+                this.maxCodes, this.maxArguments);
+    }
+
+    /**
+     * Returns a copy of this instance with the specified maximum number
+     * of message codes of {@code I18nResourcesString} values.
+     *
+     * @param max The maximum number of message codes
+     * @return The new limits
+     */
+    public @NotNull I18nStringLimits withMaxCodes(
+            final int max) {
+        Validate.isTrue(max >= 0, "Maximum number of codes cannot be negative");
+        return new I18nStringLimits(this.maxLanguages, this.maxTextLength, this.languages,
+                max, this.maxArguments);
+    }
+
+    /**
+     * Returns a copy of this instance with the specified maximum number
+     * of message arguments of {@code I18nResourcesString} values.
+     *
+     * @param max The maximum number of message arguments
+     * @return The new limits
+     */
+    public @NotNull I18nStringLimits withMaxArguments(
+            final int max) {
+        Validate.isTrue(max >= 0, "Maximum number of arguments cannot be negative");
+        return new I18nStringLimits(this.maxLanguages, this.maxTextLength, this.languages,
+                this.maxCodes, max);
+    }
+
+    /**
+     * Returns a copy of this instance that allows only translations in
+     * the specified locales and their fallback candidates.
+     * <p>
+     * Use {@code I18N.getAvailableLocales()} to allow only the available
+     * locales of the current I18N context.
+     *
+     * @param locales The allowed locales
+     * @return The new limits
+     * @see I18nLanguageProjection#of(Locale...)
+     * @see I18N#getAvailableLocales()
+     */
+    public @NotNull I18nStringLimits withLocales(
+            final @NotNull Locale... locales) {
+        return withLanguages(I18nLanguageProjection.of(locales));
+    }
+
+    /**
+     * Returns the maximum number of translations.
+     *
+     * @return The maximum number of translations
+     */
+    public int getMaxLanguages() {
+        return this.maxLanguages;
+    }
+
+    /**
+     * Returns the maximum length of the default text and translations.
+     *
+     * @return The maximum length of the texts
+     */
+    public int getMaxTextLength() {
+        return this.maxTextLength;
+    }
+
+    /**
+     * Returns the allowed translation languages.
+     *
+     * @return The allowed translation languages, or {@code null} if any
+     * language is allowed
+     */
+    public I18nLanguageProjection getLanguages() {
+        return this.languages;
+    }
+
+    /**
+     * Returns the maximum number of message codes.
+     *
+     * @return The maximum number of message codes
+     */
+    public int getMaxCodes() {
+        return this.maxCodes;
+    }
+
+    /**
+     * Returns the maximum number of message arguments.
+     *
+     * @return The maximum number of message arguments
+     */
+    public int getMaxArguments() {
+        return this.maxArguments;
+    }
+
+    /**
+     * Returns {@code true} if translations in the specified language are
+     * allowed.
+     *
+     * @param language The language tag
+     * @return If translations in the language are allowed
+     */
+    public boolean allowsLanguage(
+            final String language) {
+        return this.languages == null || this.languages.includes(language);
+    }
+
+    /**
+     * Returns {@code true} if the specified number of translations is
+     * allowed.
+     *
+     * @param count The number of translations
+     * @return If the number of translations is allowed
+     */
+    public boolean allowsLanguages(
+            final int count) {
+        return count <= this.maxLanguages;
+    }
+
+    /**
+     * Returns {@code true} if texts of the specified length are allowed.
+     *
+     * @param length The text length
+     * @return If texts of the specified length are allowed
+     */
+    public boolean allowsTextLength(
+            final int length) {
+        return length <= this.maxTextLength;
+    }
+
+    /**
+     * Returns {@code true} if the specified number of message codes is
+     * allowed.
+     *
+     * @param count The number of message codes
+     * @return If the number of message codes is allowed
+     */
+    public boolean allowsCodes(
+            final int count) {
+        return count <= this.maxCodes;
+    }
+
+    /**
+     * Returns {@code true} if the specified number of message arguments is
+     * allowed.
+     *
+     * @param count The number of message arguments
+     * @return If the number of message arguments is allowed
+     */
+    public boolean allowsArguments(
+            final int count) {
+        return count <= this.maxArguments;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(this.maxLanguages)
+                .append(this.maxTextLength)
+                .append(this.languages)
+                .append(this.maxCodes)
+                .append(this.maxArguments)
+                .toHashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (!getClass().equals(obj.getClass())) { return false; }
+        final I18nStringLimits other = (I18nStringLimits) obj;
+        return new EqualsBuilder()
+                .append(this.maxLanguages, other.maxLanguages)
+                .append(this.maxTextLength, other.maxTextLength)
+                .append(this.languages, other.languages)
+                .append(this.maxCodes, other.maxCodes)
+                .append(this.maxArguments, other.maxArguments)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.DEFAULT_STYLE)
+                .append("maxLanguages", this.maxLanguages)
+                .append("maxTextLength", this.maxTextLength)
+                .append("languages", this.languages)
+                .append("maxCodes", this.maxCodes)
+                .append("maxArguments", this.maxArguments)
+                .toString();
+    }
+}
@@ -22,6 +22,10 @@ package dev.orne.i18n;
  * #L%
  */
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -50,15 +54,23 @@ import dev.orne.i18n.jaxb.I18nStringMapAdapter;
 @API(status=Status.STABLE, since="0.1")
 @XmlJavaTypeAdapter(I18nStringMapAdapter.class)
 public class I18nStringMap
-implements I18nString {
+implements I18nString, I18nTranslatedString {
 
     /** The serial version UID. */
     private static final long serialVersionUID = 1L;
+    /**
+     * The serialized fields. Translations are serialized as {@code Map}
+     * independently of the internal storage.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("defaultText", String.class),
+        new ObjectStreamField("i18n", Map.class)
+    };
 
     /** The default text. */
     private @NotNull String defaultText;
     /** The text translations. */
-    private final @NotNull Map<@NotNull String, @NotNull String> i18n = new HashMap<>();
+    private @NotNull I18nTranslations i18n = new I18nTranslations();
 
     /**
      * Creates a new instance with empty default text and no translations.
@@ -78,11 +90,35 @@ implements I18nString {
         this.defaultText = Validate.notNull(defaultText);
     }
 
+    /**
+     * Creates a new instance with the specified default text and
+     * translations storage.
+     * 
+     * @param defaultText The default text
+     * @param i18n The translations storage, owned by the new instance
+     */
+    I18nStringMap(
+            final @NotNull String defaultText,
+            final @NotNull I18nTranslations i18n) {
+        super();
+        this.defaultText = Validate.notNull(defaultText);
+        this.i18n = Validate.notNull(i18n);
+    }
+
     /**
      * Copy constructor.
      * <p>
      * If {@code copy} is of {@code I18nStringMap} type a full copy is
      * performed.
+     * If {@code copy} is of {@code I18nFrozenString} or
+     * {@code I18nConcurrentStringMap} type a full copy of its current
+     * state is performed.
+     * If {@code copy} is of {@code I18nStringTable.Row} type a full copy
+     * of the row is performed.
+     * If {@code copy} is of {@code I18nCompressedString} type a full
+     * decompressed copy is performed.
+     * If {@code copy} is of {@code I18nLazyString} type a copy of its
+     * computed translations is performed.
      * If {@code copy} is of {@code I18nResourcesString} type the formatted
      * default text is set as default text and the result of {@code get()} as
      * translation for current language.
@@ -94,10 +130,14 @@ implements I18nString {
             final @NotNull I18nString copy) {
         super();
         Validate.notNull(copy);
-        if (copy instanceof I18nStringMap) {
-            final I18nStringMap mapcopy = (I18nStringMap) copy;
-            this.defaultText = mapcopy.getDefaultText();
-            this.i18n.putAll(mapcopy.i18n);
+        if (copy instanceof I18nTranslatedString) {
+            final I18nTranslatedString state = ((I18nTranslatedString) copy).translatedState();
+            this.defaultText = state.getDefaultText();
+            this.i18n = I18nTranslations.copyOf(state.getI18n());
+        } else if (copy instanceof I18nLazyString) {
+            final I18nLazyString lazycopy = (I18nLazyString) copy;
+            this.defaultText = lazycopy.getDefaultText();
+            this.i18n = new I18nTranslations(lazycopy.getI18n());
         } else if (copy instanceof I18nResourcesString) {
             final I18nResourcesString rescopy = (I18nResourcesString) copy;
             this.defaultText = rescopy.getFormattedDefaultText();
@@ -129,7 +169,9 @@ implements I18nString {
     }
 
     /**
-     * Returns the text translations.
+     * Returns the text translations. The returned {@code Map} is a live
+     * view of the internal translations, that doesn't support {@code null}
+     * keys or values.
      * 
      * @return The text translations
      */
@@ -155,6 +197,45 @@ implements I18nString {
         return this;
     }
 
+    /**
+     * Creates a new instance with the specified default text and
+     * translations read from external input, as XML or JSON documents.
+     * Unknown language tags are not registered in the shared language
+     * identifiers dictionary, so untrusted input cannot exhaust it.
+     * 
+     * @param defaultText The default text
+     * @param translations The text translations
+     * @return The created instance
+     * @since 0.2
+     */
+    @API(status=Status.INTERNAL, since="0.2")
+    public static @NotNull I18nStringMap fromUntrusted(
+            final @NotNull String defaultText,
+            final @NotNull Map<@NotNull String, @NotNull String> translations) {
+        Validate.notNull(translations);
+        Validate.noNullElements(translations.keySet());
+        Validate.noNullElements(translations.values());
+        final I18nStringMap result = new I18nStringMap(defaultText);
+        result.i18n.putAllUntrusted(translations);
+        return result;
+    }
+
+    /**
+     * Replaces the translations with the specified translations read from
+     * external input.
+     * 
+     * @param translations The text translations
+     * @see #fromUntrusted(String, Map)
+     */
+    void setI18nUntrusted(
+            final @NotNull Map<@NotNull String, @NotNull String> translations) {
+        Validate.notNull(translations);
+        Validate.noNullElements(translations.keySet());
+        Validate.noNullElements(translations.values());
+        this.i18n.clear();
+        this.i18n.putAllUntrusted(translations);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -165,29 +246,30 @@ implements I18nString {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The translations are looked up following the fallback chain of the
+     * language tag.
+     * 
+     * @see I18nFallbackChain#of(String)
      */
     @Override
     public @NotNull String get(final @NotNull String language) {
-        String tmp = Validate.notNull(language);
-        while (!this.i18n.containsKey(tmp) &&
-                tmp.contains("-")) {
-            tmp = tmp.substring(0, tmp.lastIndexOf('-'));
-        }
-        final String result;
-        if (this.i18n.containsKey(tmp)) {
-            result = this.i18n.get(tmp);
-        } else {
-            result = this.defaultText;
-        }
-        return result;
+        final String result = this.i18n.resolve(Validate.notNull(language));
+        return result == null ? this.defaultText : result;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The translations are looked up following the fallback chain of the
+     * locale, so region and variant specific translations are honored.
+     * 
+     * @see I18nFallbackChain#of(Locale)
      */
     @Override
     public @NotNull String get(final @NotNull Locale locale) {
-        return get(Validate.notNull(locale).getLanguage());
+        final String result = this.i18n.resolve(Validate.notNull(locale));
+        return result == null ? this.defaultText : result;
     }
 
     /**
@@ -206,6 +288,24 @@ implements I18nString {
         return this;
     }
 
+    /**
+     * Sets the translation for the specified language, read from external
+     * input. Unknown language tags are not registered in the shared
+     * language identifiers dictionary.
+     * 
+     * @param language The language of the translation
+     * @param text The translated text
+     * @return This instance for method chaining
+     */
+    @NotNull I18nStringMap setUntrusted(
+            final @NotNull String language,
+            final @NotNull String text) {
+        this.i18n.putUntrusted(
+                Validate.notNull(language),
+                Validate.notNull(text));
+        return this;
+    }
+
     /**
      * Sets the translation for the specified locale.
      * 
@@ -272,13 +372,23 @@ implements I18nString {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Instances of {@code I18nFrozenString}, {@code I18nConcurrentStringMap},
+     * {@code I18nStringTable.Row} and {@code I18nCompressedString} with the
+     * same default text and translations are equivalent to this instance.
      */
     @Override
     public boolean isEquivalent(final I18nString obj) {
-        if (obj == null) { return false; }
-        if (obj == this) { return true; }
-        if (getClass().equals(obj.getClass())) { return equals(obj); }
-        return get().equals(obj.get());
+        if (obj != null && getClass().equals(obj.getClass())) { return equals(obj); }
+        return I18nTranslatedString.isEquivalent(this, obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull I18nTranslatedString translatedState() {
+        return this;
     }
 
     /**
@@ -289,6 +399,21 @@ implements I18nString {
         return this;
     }
 
+    /**
+     * Returns an immutable instance with the current default text and
+     * translations of this instance.
+     * <p>
+     * The translations storage is shared between both instances until this
+     * instance is modified, so freezing is cheap.
+     * 
+     * @return The immutable instance
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public @NotNull I18nFrozenString freeze() {
+        return new I18nFrozenString(this.defaultText, this.i18n.sharedCopy());
+    }
+
     /**
      * Returns the default text.
      * 
@@ -298,4 +423,53 @@ implements I18nString {
     public @NotNull String toString() {
         return this.getDefaultText();
     }
+
+    /**
+     * Replaces this instance with its compact serialized form.
+     * <p>
+     * Subclasses use the default serialization.
+     *
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(this);
+    }
+
+    /**
+     * Writes the default text and the translations as {@code HashMap}.
+     * 
+     * @param out The object output stream
+     * @throws IOException If an I/O error occurs
+     */
+    private void writeObject(
+            final @NotNull ObjectOutputStream out)
+    throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("defaultText", this.defaultText);
+        fields.put("i18n", new HashMap<>(this.i18n));
+        out.writeFields();
+    }
+
+    /**
+     * Restores the default text and the translations into the compact
+     * translations storage.
+     * 
+     * @param in The object input stream
+     * @throws IOException If an I/O error occurs
+     * @throws ClassNotFoundException If a serialized class cannot be found
+     */
+    private void readObject(
+            final @NotNull ObjectInputStream in)
+    throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        this.defaultText = (String) fields.get("defaultText", "");
+        @SuppressWarnings("unchecked")
+        final Map<String, String> translations =
+                (Map<String, String>) fields.get("i18n", null);
+        this.i18n = new I18nTranslations();
+        if (translations != null) {
+            this.i18n.putAllUntrusted(translations);
+        }
+    }
 }
@@ -0,0 +1,259 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Immutable set of changes between two {@code I18nStringMap} values.
+ * <p>
+ * A delta contains the new default text, if changed, the added or
+ * changed translations and the removed translation languages. Applying
+ * the delta computed between two values to an instance equal to the
+ * first value makes it equal to the second value.
+ * <p>
+ * Deltas are serialized by Jackson as an object with the
+ * {@code defaultText}, {@code changed} and {@code removed} properties,
+ * omitting the empty ones, and by Java serialization with the compact
+ * encoding of {@code I18nStringCodec}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nStringMap
+ * @see I18nStringCodec
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public final class I18nStringMapDelta
+implements Serializable {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The new default text, or {@code null} if unchanged. */
+    private final String defaultText;
+    /** The added or changed translations. */
+    private final @NotNull Map<@NotNull String, @NotNull String> changed;
+    /** The removed translation languages. */
+    private final @NotNull Set<@NotNull String> removed;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param defaultText The new default text, or {@code null} if unchanged
+     * @param changed The added or changed translations
+     * @param removed The removed translation languages
+     */
+    @JsonCreator
+    public I18nStringMapDelta(
+            @JsonProperty("defaultText")
+            final String defaultText,
+            @JsonProperty("changed")
+            final Map<@NotNull String, @NotNull String> changed,
+            @JsonProperty("removed")
+            final Collection<@NotNull String> removed) {
+        super();
+        this.defaultText = defaultText;
+        if (changed == null || changed.isEmpty()) {
+            this.changed = Collections.emptyMap();
+        } else {
+            Validate.noNullElements(changed.keySet());
+            Validate.noNullElements(changed.values());
+            this.changed = Collections.unmodifiableMap(new HashMap<>(changed));
+        }
+        if (removed == null || removed.isEmpty()) {
+            this.removed = Collections.emptySet();
+        } else {
+            Validate.noNullElements(removed);
+            final Set<String> removedCopy = new HashSet<>(removed);
+            Validate.isTrue(Collections.disjoint(removedCopy, this.changed.keySet()),
+                    "Languages cannot be both changed and removed");
+            this.removed = Collections.unmodifiableSet(removedCopy);
+        }
+    }
+
+    /**
+     * Computes the changes required to transform {@code source} into
+     * {@code target}.
+     *
+     * @param source The original value
+     * @param target The modified value
+     * @return The changes between both values
+     */
+    public static @NotNull I18nStringMapDelta diff(
+            final @NotNull I18nStringMap source,
+            final @NotNull I18nStringMap target) {
+        Validate.notNull(source);
+        Validate.notNull(target);
+        final String newDefaultText = source.getDefaultText().equals(target.getDefaultText()) ?
+                null :
+                target.getDefaultText();
+        final Map<String, String> sourceI18n = source.getI18n();
+        final Map<String, String> targetI18n = target.getI18n();
+        final Map<String, String> newChanged = new HashMap<>();
+        for (final Map.Entry<String, String> entry : targetI18n.entrySet()) {
+            if (!entry.getValue().equals(sourceI18n.get(entry.getKey()))) {
+                newChanged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        final Set<String> newRemoved = new HashSet<>();
+        for (final String language : sourceI18n.keySet()) {
+            if (!targetI18n.containsKey(language)) {
+                newRemoved.add(language);
+            }
+        }
+        return new I18nStringMapDelta(newDefaultText, newChanged, newRemoved);
+    }
+
+    /**
+     * Returns the new default text.
+     *
+     * @return The new default text, or {@code null} if unchanged
+     */
+    public String getDefaultText() {
+        return this.defaultText;
+    }
+
+    /**
+     * Returns the added or changed translations.
+     *
+     * @return An unmodifiable map with the added or changed translations
+     */
+    public @NotNull Map<@NotNull String, @NotNull String> getChanged() {
+        return this.changed;
+    }
+
+    /**
+     * Returns the removed translation languages.
+     *
+     * @return An unmodifiable set with the removed translation languages
+     */
+    public @NotNull Set<@NotNull String> getRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Returns {@code true} if this delta contains no changes.
+     *
+     * @return If this delta contains no changes
+     */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return this.defaultText == null &&
+                this.changed.isEmpty() &&
+                this.removed.isEmpty();
+    }
+
+    /**
+     * Applies the changes of this delta to the specified instance.
+     *
+     * @param target The instance to modify
+     * @return The modified instance, for method chaining
+     */
+    public @NotNull I18nStringMap applyTo(
+            final @NotNull I18nStringMap target) {
+        Validate.notNull(target);
+        if (this.defaultText != null) {
+            target.setDefaultText(this.defaultText);
+        }
+        for (final String language : this.removed) {
+            target.remove(language);
+        }
+        for (final Map.Entry<String, String> entry : this.changed.entrySet()) {
+            target.set(entry.getKey(), entry.getValue());
+        }
+        return target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(this.defaultText)
+                .append(this.changed)
+                .append(this.removed)
+                .toHashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (!getClass().equals(obj.getClass())) { return false; }
+        final I18nStringMapDelta other = (I18nStringMapDelta) obj;
+        return new EqualsBuilder()
+                .append(this.defaultText, other.defaultText)
+                .append(this.changed, other.changed)
+                .append(this.removed, other.removed)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.DEFAULT_STYLE)
+                .append("defaultText", this.defaultText)
+                .append("changed", this.changed)
+                .append("removed", this.removed)
+                .toString();
+    }
+
+    /**
+     * Replaces this instance with its compact serialized form.
+     *
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(this);
+    }
+}
@@ -0,0 +1,572 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Canonicalizing pool of immutable {@code I18nString} instances.
+ * <p>
+ * Interning an instance returns a previously pooled equal instance, if
+ * any, so equal values share a single instance. Only immutable types
+ * ({@code I18nFixedString} and {@code I18nFrozenString}) are pooled.
+ * Mutable {@code I18nStringMap} instances are never shared, but
+ * {@link #canonical(I18nStringMap)} returns copies that share the
+ * translations storage of a pooled frozen instance until modified.
+ * <p>
+ * Pools can hold weak references, releasing instances no longer used
+ * elsewhere, or be bounded, discarding the least recently used
+ * instances. Weak pools are backed by a {@code ConcurrentHashMap}.
+ * Bounded pools are split in independently locked segments, each one
+ * discarding its own least recently used instances.
+ * <p>
+ * Pooling is disabled by default. When a shared pool is configured with
+ * {@link #setShared(I18nStringPool)} it is used by
+ * {@code I18nFixedString.from()}, {@code I18nFrozenString.from()}, the
+ * Jackson deserializer and {@code JaxbUtils.fromXml()}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nStringPool {
+
+    /** The maximum number of segments of bounded pools. */
+    private static final int MAX_SEGMENTS = 16;
+
+    /** The shared pool, if any. */
+    private static volatile I18nStringPool shared;
+
+    /** The pooled instances storage. */
+    private final @NotNull Store store;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param store The pooled instances storage
+     */
+    private I18nStringPool(
+            final @NotNull Store store) {
+        super();
+        this.store = store;
+    }
+
+    /**
+     * Creates a new pool that holds weak references to the pooled
+     * instances.
+     *
+     * @return The new pool
+     */
+    public static @NotNull I18nStringPool weak() {
+        return new I18nStringPool(new WeakStore());
+    }
+
+    /**
+     * Creates a new pool that holds up to the specified number of
+     * instances, discarding the least recently used ones.
+     * <p>
+     * The pool is split in up to {@value #MAX_SEGMENTS} segments with
+     * a share of the maximum size, so the least recently used instances
+     * are tracked per segment.
+     *
+     * @param maxSize The maximum number of pooled instances
+     * @return The new pool
+     */
+    public static @NotNull I18nStringPool bounded(
+            final int maxSize) {
+        Validate.isTrue(maxSize > 0, "Maximum pool size must be positive");
+        return new I18nStringPool(new BoundedStore(maxSize));
+    }
+
+    /**
+     * Returns the shared pool.
+     *
+     * @return The shared pool, or {@code null} if pooling is disabled
+     */
+    public static I18nStringPool getShared() {
+        return shared;
+    }
+
+    /**
+     * Sets the shared pool.
+     *
+     * @param pool The shared pool, or {@code null} to disable pooling
+     */
+    public static void setShared(
+            final I18nStringPool pool) {
+        shared = pool;
+    }
+
+    /**
+     * Interns the specified instance in the shared pool, if any.
+     *
+     * @param <T> The type of the instance
+     * @param value The instance to intern
+     * @return The pooled instance, or {@code value} if pooling is disabled
+     * @see #intern(I18nString)
+     */
+    static <T extends I18nString> T internShared(
+            final T value) {
+        final I18nStringPool pool = shared;
+        return pool == null ? value : pool.intern(value);
+    }
+
+    /**
+     * Returns a copy of the specified instance that shares its translations
+     * storage with an equal instance of the shared pool, if any.
+     *
+     * @param value The instance to copy
+     * @return The copy, or {@code value} if pooling is disabled
+     * @see #canonical(I18nStringMap)
+     */
+    public static I18nStringMap canonicalShared(
+            final I18nStringMap value) {
+        final I18nStringPool pool = shared;
+        return pool == null ? value : pool.canonical(value);
+    }
+
+    /**
+     * Returns the pooled instance equal to the specified instance. If no
+     * equal instance is pooled {@code value} is pooled and returned.
+     * <p>
+     * Instances of mutable types are returned without being pooled.
+     *
+     * @param <T> The type of the instance
+     * @param value The instance to intern
+     * @return The pooled instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends I18nString> T intern(
+            final T value) {
+        if (!(value instanceof I18nFixedString)
+                && !(value instanceof I18nFrozenString)) {
+            return value;
+        }
+        final I18nString existing = this.store.get(value);
+        if (existing != null) {
+            return (T) existing;
+        }
+        return (T) this.store.putIfAbsent(value);
+    }
+
+    /**
+     * Returns an instance equal to the specified instance that shares its
+     * translations storage with an equal pooled frozen instance.
+     * <p>
+     * If an equal frozen instance is pooled a copy of it is returned.
+     * Otherwise {@code value} is frozen, the frozen instance is pooled
+     * and {@code value} is returned, sharing its translations storage with
+     * the pooled instance until modified.
+     *
+     * @param value The instance to canonicalize
+     * @return The canonical instance, or {@code null} if {@code value} is
+     * {@code null}
+     */
+    public I18nStringMap canonical(
+            final I18nStringMap value) {
+        if (value == null) { return null; }
+        final I18nString existing = this.store.get(value);
+        if (existing instanceof I18nFrozenString) {
+            return new I18nStringMap(existing);
+        }
+        final I18nFrozenString frozen = value.freeze();
+        final I18nString pooled = this.store.putIfAbsent(frozen);
+        return pooled == frozen ? value : new I18nStringMap(pooled);
+    }
+
+    /**
+     * Returns the number of pooled instances. Weak pools can include
+     * instances pending of release.
+     *
+     * @return The number of pooled instances
+     */
+    public int size() {
+        return this.store.size();
+    }
+
+    /**
+     * Discards all the pooled instances.
+     */
+    public void clear() {
+        this.store.clear();
+    }
+
+    /**
+     * Returns {@code true} if the specified pooled instance is equal to
+     * the specified value. Mutable {@code I18nStringMap} values match
+     * pooled frozen instances with the same default text and translations.
+     *
+     * @param pooled The pooled instance
+     * @param value The value to look up
+     * @return If the pooled instance matches the value
+     */
+    private static boolean matches(
+            final I18nString pooled,
+            final @NotNull I18nString value) {
+        if (pooled == null) {
+            return false;
+        }
+        if (value instanceof I18nStringMap) {
+            return pooled instanceof I18nFrozenString && pooled.isEquivalent(value);
+        }
+        return pooled.equals(value);
+    }
+
+    /**
+     * Storage of the pooled instances. Values are looked up by their hash
+     * codes, equal for {@code I18nStringMap} and {@code I18nFrozenString}
+     * instances with the same default text and translations.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private interface Store {
+
+        /**
+         * Returns the pooled instance matching the specified value.
+         *
+         * @param value The value to look up
+         * @return The pooled instance, or {@code null}
+         */
+        I18nString get(
+                @NotNull I18nString value);
+
+        /**
+         * Pools the specified immutable value, unless a matching instance
+         * is already pooled.
+         *
+         * @param value The value to pool
+         * @return The pooled instance
+         */
+        @NotNull I18nString putIfAbsent(
+                @NotNull I18nString value);
+
+        /**
+         * Returns the number of pooled instances.
+         *
+         * @return The number of pooled instances
+         */
+        int size();
+
+        /**
+         * Discards all the pooled instances.
+         */
+        void clear();
+    }
+
+    /**
+     * Key of pooled instances, also used to look up values.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class Key {
+
+        /** The keyed instance. */
+        private final @NotNull I18nString value;
+        /** The hash code of the keyed instance. */
+        private final int hash;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param value The keyed instance
+         */
+        Key(
+                final @NotNull I18nString value) {
+            this.value = value;
+            this.hash = value.hashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) { return true; }
+            if (obj instanceof Key) {
+                final Key other = (Key) obj;
+                return this.hash == other.hash && matches(other.value, this.value);
+            }
+            if (obj instanceof WeakKey) {
+                final WeakKey other = (WeakKey) obj;
+                return this.hash == other.hash && matches(other.get(), this.value);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Key of instances pooled by weak reference.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class WeakKey
+    extends WeakReference<I18nString> {
+
+        /** The hash code of the keyed instance. */
+        private final int hash;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param value The keyed instance
+         * @param queue The queue of released keys
+         */
+        WeakKey(
+                final @NotNull I18nString value,
+                final @NotNull ReferenceQueue<I18nString> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Released keys are only equal to themselves.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) { return true; }
+            if (!(obj instanceof WeakKey)) { return false; }
+            final WeakKey other = (WeakKey) obj;
+            final I18nString value = get();
+            return value != null
+                    && this.hash == other.hash
+                    && matches(other.get(), value);
+        }
+    }
+
+    /**
+     * Storage of instances pooled by weak reference, backed by a
+     * {@code ConcurrentHashMap}. Released keys are removed on each
+     * access.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class WeakStore
+    implements Store {
+
+        /** The pooled instance keys. */
+        private final @NotNull ConcurrentMap<Object, WeakKey> keys =
+                new ConcurrentHashMap<>();
+        /** The queue of released keys. */
+        private final @NotNull ReferenceQueue<I18nString> queue =
+                new ReferenceQueue<>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public I18nString get(
+                final @NotNull I18nString value) {
+            expunge();
+            final WeakKey key = this.keys.get(new Key(value));
+            return key == null ? null : key.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull I18nString putIfAbsent(
+                final @NotNull I18nString value) {
+            final WeakKey key = new WeakKey(value, this.queue);
+            while (true) {
+                final WeakKey existing = this.keys.putIfAbsent(key, key);
+                if (existing == null) {
+                    return value;
+                }
+                final I18nString result = existing.get();
+                if (result != null) {
+                    return result;
+                }
+                this.keys.remove(existing, existing);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            expunge();
+            return this.keys.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            this.keys.clear();
+        }
+
+        /**
+         * Removes the released keys.
+         */
+        private void expunge() {
+            for (Object key = this.queue.poll(); key != null; key = this.queue.poll()) {
+                this.keys.remove(key, key);
+            }
+        }
+    }
+
+    /**
+     * Storage of a bounded number of pooled instances, split in
+     * independently locked segments, each one discarding its least
+     * recently used instances.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class BoundedStore
+    implements Store {
+
+        /** The segments. */
+        private final @NotNull Map<Key, I18nString>[] segments;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param maxSize The maximum number of pooled instances
+         */
+        @SuppressWarnings("unchecked")
+        BoundedStore(
+                final int maxSize) {
+            final int count = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maxSize));
+            this.segments = new Map[count];
+            for (int i = 0; i < count; i++) {
+                final int segmentSize = maxSize / count + (i < maxSize % count ? 1 : 0);
+                this.segments[i] = new LinkedHashMap<Key, I18nString>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+                    @Override
+                    protected boolean removeEldestEntry(
+                            final Map.Entry<Key, I18nString> eldest) {
+                        return size() > segmentSize;
+                    }
+                };
+            }
+        }
+
+        /**
+         * Returns the segment for the specified key.
+         *
+         * @param key The key
+         * @return The segment of the key
+         */
+        private @NotNull Map<Key, I18nString> segment(
+                final @NotNull Key key) {
+            final int hash = key.hashCode();
+            return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public I18nString get(
+                final @NotNull I18nString value) {
+            final Key key = new Key(value);
+            final Map<Key, I18nString> segment = segment(key);
+            synchronized (segment) {
+                return segment.get(key);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull I18nString putIfAbsent(
+                final @NotNull I18nString value) {
+            final Key key = new Key(value);
+            final Map<Key, I18nString> segment = segment(key);
+            synchronized (segment) {
+                final I18nString existing = segment.putIfAbsent(key, value);
+                return existing == null ? value : existing;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            int result = 0;
+            for (final Map<Key, I18nString> segment : this.segments) {
+                synchronized (segment) {
+                    result += segment.size();
+                }
+            }
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            for (final Map<Key, I18nString> segment : this.segments) {
+                synchronized (segment) {
+                    segment.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,599 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Columnar container of large sets of I18N texts.
+ * <p>
+ * Texts are stored in one column of {@code String} values per language,
+ * plus a column of default texts, instead of one {@code I18nStringMap}
+ * per text. Rows are accessed through lightweight {@code I18nString}
+ * handles that read the columns on demand.
+ * <p>
+ * Rows are appended in bulk and cannot be modified. Optionally equal
+ * texts of each column are deduplicated on append, so repeated texts
+ * share a single {@code String} instance.
+ * <p>
+ * Whole columns can be extracted for a language or locale, resolving
+ * the translations of each row following the fallback chain, scanning
+ * each column sequentially.
+ * <p>
+ * This class is not thread safe. Instances must not be modified while
+ * read by other threads.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nFallbackChain
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nStringTable {
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** If texts are deduplicated on append. */
+    private final boolean deduplicate;
+    /** The default texts column. */
+    private @NotNull String[] defaults;
+    /** The translation columns, by language. */
+    private final @NotNull Map<String, String[]> columns = new LinkedHashMap<>();
+    /** The texts dictionaries, by language, if deduplication is enabled. */
+    private final Map<String, Map<String, String>> dictionaries;
+    /** The number of rows. */
+    private int size;
+
+    /**
+     * Creates a new empty instance without deduplication.
+     */
+    public I18nStringTable() {
+        this(false);
+    }
+
+    /**
+     * Creates a new empty instance.
+     *
+     * @param deduplicate If equal texts of each column must be deduplicated
+     */
+    public I18nStringTable(
+            final boolean deduplicate) {
+        this(deduplicate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty instance with the specified initial capacity.
+     *
+     * @param deduplicate If equal texts of each column must be deduplicated
+     * @param capacity The initial number of rows capacity
+     */
+    public I18nStringTable(
+            final boolean deduplicate,
+            final int capacity) {
+        super();
+        Validate.isTrue(capacity >= 0, "Capacity must be non negative");
+        this.deduplicate = deduplicate;
+        this.defaults = new String[capacity];
+        this.dictionaries = deduplicate ? new HashMap<>() : null;
+    }
+
+    /**
+     * Returns {@code true} if equal texts of each column are deduplicated.
+     *
+     * @return If equal texts are deduplicated
+     */
+    public boolean isDeduplicate() {
+        return this.deduplicate;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the languages with translation in any row.
+     *
+     * @return An unmodifiable set with the languages
+     */
+    public @NotNull Set<@NotNull String> getLanguages() {
+        return Collections.unmodifiableSet(this.columns.keySet());
+    }
+
+    /**
+     * Appends a row with the specified default text and translations.
+     *
+     * @param defaultText The default text
+     * @param translations The text translations
+     * @return The index of the appended row
+     */
+    public int add(
+            final @NotNull String defaultText,
+            final @NotNull Map<@NotNull String, @NotNull String> translations) {
+        Validate.notNull(defaultText);
+        Validate.notNull(translations);
+        Validate.noNullElements(translations.keySet());
+        Validate.noNullElements(translations.values());
+        ensureCapacity(this.size + 1);
+        return append(defaultText, translations);
+    }
+
+    /**
+     * Appends a row with the default text and translations of the
+     * specified {@code I18nString}, as returned by {@code asMap()}.
+     *
+     * @param value The I18N text to append
+     * @return The index of the appended row
+     * @see I18nString#asMap()
+     */
+    public int add(
+            final @NotNull I18nString value) {
+        Validate.notNull(value);
+        ensureCapacity(this.size + 1);
+        return append(value);
+    }
+
+    /**
+     * Appends a row for each of the specified {@code I18nString}, in
+     * iteration order.
+     *
+     * @param values The I18N texts to append
+     * @return The index of the first appended row
+     * @see #add(I18nString)
+     */
+    public int addAll(
+            final @NotNull Collection<? extends @NotNull I18nString> values) {
+        Validate.notNull(values);
+        Validate.noNullElements(values);
+        final int first = this.size;
+        ensureCapacity(this.size + values.size());
+        for (final I18nString value : values) {
+            append(value);
+        }
+        return first;
+    }
+
+    /**
+     * Returns the handle of the row at the specified position.
+     * <p>
+     * Handles are lightweight views of the table contents and can be
+     * created as required.
+     *
+     * @param index The row position
+     * @return The row handle
+     * @throws IndexOutOfBoundsException If the position is out of range
+     */
+    public @NotNull Row row(
+            final int index) {
+        checkIndex(index);
+        return new Row(index);
+    }
+
+    /**
+     * Returns the default texts of all the rows.
+     *
+     * @return A new array with the default texts of all the rows
+     */
+    public @NotNull String[] extractDefault() {
+        return Arrays.copyOf(this.defaults, this.size);
+    }
+
+    /**
+     * Returns the texts of all the rows for the specified language.
+     * Missing translations are resolved following the language fallback
+     * chain and the default text.
+     *
+     * @param language The language
+     * @return A new array with the texts of all the rows
+     * @see I18nFallbackChain#of(String)
+     */
+    public @NotNull String[] extract(
+            final @NotNull String language) {
+        return extract(I18nFallbackChain.of(language));
+    }
+
+    /**
+     * Returns the texts of all the rows for the specified locale.
+     * Missing translations are resolved following the locale fallback
+     * chain and the default text.
+     *
+     * @param locale The locale
+     * @return A new array with the texts of all the rows
+     * @see I18nFallbackChain#of(Locale)
+     */
+    public @NotNull String[] extract(
+            final @NotNull Locale locale) {
+        return extract(I18nFallbackChain.of(locale));
+    }
+
+    /**
+     * Returns the texts of all the rows for the specified fallback chain.
+     * Columns are applied from least to most specific language, so each
+     * column is scanned once.
+     *
+     * @param chain The fallback chain
+     * @return A new array with the texts of all the rows
+     */
+    private @NotNull String[] extract(
+            final @NotNull I18nFallbackChain chain) {
+        final String[] result = extractDefault();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            final String[] column = this.columns.get(chain.get(i));
+            if (column != null) {
+                for (int row = 0; row < this.size; row++) {
+                    final String text = column[row];
+                    if (text != null) {
+                        result[row] = text;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Appends a row for the specified {@code I18nString}. Capacity must
+     * be ensured by the caller.
+     *
+     * @param value The I18N text to append
+     * @return The index of the appended row
+     */
+    private int append(
+            final @NotNull I18nString value) {
+        if (value instanceof Row) {
+            final Row row = (Row) value;
+            return append(row.getDefaultText(), row.getI18n());
+        }
+        final I18nStringMap map = value.asMap();
+        return append(map.getDefaultText(), map.getI18n());
+    }
+
+    /**
+     * Appends a row with the specified default text and translations.
+     * Capacity must be ensured by the caller.
+     *
+     * @param defaultText The default text
+     * @param translations The text translations
+     * @return The index of the appended row
+     */
+    private int append(
+            final @NotNull String defaultText,
+            final @NotNull Map<String, String> translations) {
+        final int index = this.size;
+        this.defaults[index] = dedup("", defaultText);
+        for (final Map.Entry<String, String> entry : translations.entrySet()) {
+            final String language = entry.getKey();
+            String[] column = this.columns.get(language);
+            if (column == null) {
+                column = new String[this.defaults.length];
+                this.columns.put(language, column);
+            }
+            column[index] = dedup(language, entry.getValue());
+        }
+        this.size++;
+        return index;
+    }
+
+    /**
+     * Returns the shared instance of the specified text in the specified
+     * column if deduplication is enabled.
+     *
+     * @param language The column language, empty for default texts
+     * @param text The text
+     * @return The shared instance of the text
+     */
+    private @NotNull String dedup(
+            final @NotNull String language,
+            final @NotNull String text) {
+        if (this.dictionaries == null) {
+            return text;
+        }
+        return this.dictionaries
+                .computeIfAbsent(language, key -> new HashMap<>())
+                .computeIfAbsent(text, key -> key);
+    }
+
+    /**
+     * Ensures that all the columns can hold the specified number of rows.
+     *
+     * @param capacity The required number of rows capacity
+     */
+    private void ensureCapacity(
+            final int capacity) {
+        if (capacity <= this.defaults.length) {
+            return;
+        }
+        final int newCapacity = Math.max(
+                capacity,
+                Math.max(DEFAULT_CAPACITY, this.defaults.length + (this.defaults.length >> 1)));
+        this.defaults = Arrays.copyOf(this.defaults, newCapacity);
+        for (final Map.Entry<String, String[]> entry : this.columns.entrySet()) {
+            entry.setValue(Arrays.copyOf(entry.getValue(), newCapacity));
+        }
+    }
+
+    /**
+     * Validates the specified row position.
+     *
+     * @param index The row position
+     * @throws IndexOutOfBoundsException If the position is out of range
+     */
+    private void checkIndex(
+            final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(
+                    "Row index " + index + " out of range [0, " + this.size + ")");
+        }
+    }
+
+    /**
+     * Handle of a row of a {@code I18nStringTable}.
+     * <p>
+     * Handles hold no texts, reading them from the table columns on
+     * demand. Handles are equal to other handles with the same default text
+     * and translations, and have the same hash code as an equal
+     * {@code I18nStringMap}. Handles are serialized as
+     * {@code I18nStringMap} instances.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public final class Row
+    implements I18nString, I18nTranslatedString {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The row position. */
+        private final int index;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param index The row position
+         */
+        private Row(
+                final int index) {
+            super();
+            this.index = index;
+        }
+
+        /**
+         * Returns the position of this row in the table.
+         *
+         * @return The row position
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Returns the default text.
+         *
+         * @return The default text
+         */
+        public @NotNull String getDefaultText() {
+            return I18nStringTable.this.defaults[this.index];
+        }
+
+        /**
+         * Returns the text translations of this row.
+         *
+         * @return A new map with the text translations
+         */
+        public @NotNull Map<@NotNull String, @NotNull String> getI18n() {
+            final Map<String, String> result = new HashMap<>();
+            for (final Map.Entry<String, String[]> entry : I18nStringTable.this.columns.entrySet()) {
+                final String text = entry.getValue()[this.index];
+                if (text != null) {
+                    result.put(entry.getKey(), text);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull String get() {
+            return get(I18N.getLocale());
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The translations are looked up following the fallback chain of
+         * the language tag.
+         *
+         * @see I18nFallbackChain#of(String)
+         */
+        @Override
+        public @NotNull String get(
+                final @NotNull String language) {
+            Validate.notNull(language);
+            final String result;
+            if (language.indexOf('-') == -1) {
+                result = translation(language);
+            } else {
+                result = resolve(I18nFallbackChain.of(language));
+            }
+            return result == null ? getDefaultText() : result;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The translations are looked up following the fallback chain of
+         * the locale.
+         *
+         * @see I18nFallbackChain#of(Locale)
+         */
+        @Override
+        public @NotNull String get(
+                final @NotNull Locale locale) {
+            final String result = resolve(I18nFallbackChain.of(locale));
+            return result == null ? getDefaultText() : result;
+        }
+
+        /**
+         * Returns the translation for the first language tag of the
+         * specified fallback chain with translation in this row.
+         *
+         * @param chain The fallback chain
+         * @return The translated text, or {@code null}
+         */
+        private String resolve(
+                final @NotNull I18nFallbackChain chain) {
+            for (int i = 0; i < chain.size(); i++) {
+                final String result = translation(chain.get(i));
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the translation for the specified language in this row.
+         *
+         * @param language The language
+         * @return The translated text, or {@code null}
+         */
+        private String translation(
+                final @NotNull String language) {
+            final String[] column = I18nStringTable.this.columns.get(language);
+            return column == null ? null : column[this.index];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder()
+                    .append(getDefaultText())
+                    .append(getI18n())
+                    .toHashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null) { return false; }
+            if (obj == this) { return true; }
+            if (!getClass().equals(obj.getClass())) { return false; }
+            final Row other = (Row) obj;
+            if (getTable() == other.getTable() && this.index == other.index) {
+                return true;
+            }
+            return getDefaultText().equals(other.getDefaultText()) &&
+                    getI18n().equals(other.getI18n());
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Instances of {@code I18nStringMap}, {@code I18nFrozenString},
+         * {@code I18nConcurrentStringMap} and {@code I18nCompressedString}
+         * with the same default text and translations are equivalent to
+         * this instance.
+         */
+        @Override
+        public boolean isEquivalent(final I18nString obj) {
+            if (obj instanceof Row) { return equals(obj); }
+            return I18nTranslatedString.isEquivalent(this, obj);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull I18nTranslatedString translatedState() {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Returns a new {@code I18nStringMap} with the default text and
+         * translations of this row.
+         */
+        @Override
+        public @NotNull I18nStringMap asMap() {
+            return new I18nStringMap(this);
+        }
+
+        /**
+         * Returns the default text.
+         *
+         * @return The default text.
+         */
+        @Override
+        public @NotNull String toString() {
+            return getDefaultText();
+        }
+
+        /**
+         * Returns the table this row belongs to.
+         *
+         * @return The table
+         */
+        private @NotNull I18nStringTable getTable() {
+            return I18nStringTable.this;
+        }
+
+        /**
+         * Replaces this instance with an equal {@code I18nStringMap} on
+         * serialization.
+         *
+         * @return The serialized instance
+         */
+        private Object writeReplace() {
+            return asMap();
+        }
+    }
+}
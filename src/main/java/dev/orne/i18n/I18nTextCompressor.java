@@ -0,0 +1,456 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Compressor of I18N texts for {@code I18nCompressedString} instances.
+ * <p>
+ * Texts are compressed with DEFLATE, optionally using a preset dictionary
+ * shared by all the texts compressed with the same instance. Dictionaries
+ * can be trained with a sample of the texts to compress, so that common
+ * words and phrases are not repeated in each compressed text.
+ * <p>
+ * Texts shorter than the configured minimum length, or that don't shrink
+ * when compressed, are stored uncompressed.
+ * <p>
+ * Recently decompressed texts are kept in a small concurrent cache, so
+ * hot texts are not decompressed on each access. When full, the oldest
+ * cached texts are discarded first.
+ * <p>
+ * Instances are thread safe.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nCompressedString
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public final class I18nTextCompressor
+implements Serializable {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+    /** The default minimum length of compressed texts. */
+    public static final int DEFAULT_MIN_LENGTH = 64;
+    /** The default maximum number of cached decompressed texts. */
+    public static final int DEFAULT_CACHE_SIZE = 64;
+    /** The maximum dictionary size, the DEFLATE window size. */
+    public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+    /** The minimum length of dictionary words. */
+    private static final int MIN_WORD_LENGTH = 4;
+    /**
+     * The maximum DEFLATE expansion ratio, with one bit codes for both the
+     * maximum match length of 258 bytes and its distance.
+     */
+    private static final int MAX_DEFLATE_RATIO = 1032;
+    /** The initial size of the decompression buffer. */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /** The preset dictionary. */
+    private final @NotNull byte[] dictionary;
+    /** The minimum length of compressed texts. */
+    private final int minLength;
+    /** The maximum number of cached decompressed texts. */
+    private final int cacheSize;
+    /**
+     * The decompressed texts cache, by compressed data identity, as
+     * {@code byte[]} doesn't override {@code equals()}.
+     */
+    private final transient @NotNull Map<byte[], String> cache;
+    /** The cached compressed data, in insertion order. */
+    private final transient @NotNull Queue<byte[]> cacheOrder;
+
+    /**
+     * Creates a new instance without preset dictionary and default
+     * settings.
+     */
+    public I18nTextCompressor() {
+        this(new byte[0]);
+    }
+
+    /**
+     * Creates a new instance with the specified preset dictionary and
+     * default settings.
+     *
+     * @param dictionary The preset dictionary
+     */
+    public I18nTextCompressor(
+            final @NotNull byte[] dictionary) {
+        this(dictionary, DEFAULT_MIN_LENGTH, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param dictionary The preset dictionary
+     * @param minLength The minimum length of compressed texts
+     * @param cacheSize The maximum number of cached decompressed texts,
+     * zero to disable caching
+     */
+    public I18nTextCompressor(
+            final @NotNull byte[] dictionary,
+            final int minLength,
+            final int cacheSize) {
+        super();
+        Validate.notNull(dictionary);
+        Validate.isTrue(dictionary.length <= MAX_DICTIONARY_SIZE,
+                "Dictionary size must be up to %d bytes", MAX_DICTIONARY_SIZE);
+        Validate.isTrue(minLength >= 0, "Minimum length must be non negative");
+        Validate.isTrue(cacheSize >= 0, "Cache size must be non negative");
+        this.dictionary = dictionary.clone();
+        this.minLength = minLength;
+        this.cacheSize = cacheSize;
+        this.cache = new ConcurrentHashMap<>();
+        this.cacheOrder = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Creates a new instance with a preset dictionary trained with the
+     * default texts and translations of the specified sample.
+     *
+     * @param samples The sample I18N texts
+     * @return The new instance
+     * @see #train(Iterable, int)
+     */
+    public static @NotNull I18nTextCompressor trained(
+            final @NotNull Iterable<? extends @NotNull I18nString> samples) {
+        Validate.notNull(samples);
+        final List<String> texts = new ArrayList<>();
+        for (final I18nString sample : samples) {
+            final I18nStringMap map = Validate.notNull(sample).asMap();
+            texts.add(map.getDefaultText());
+            texts.addAll(map.getI18n().values());
+        }
+        return new I18nTextCompressor(train(texts, MAX_DICTIONARY_SIZE));
+    }
+
+    /**
+     * Trains a preset dictionary with the specified sample texts.
+     * <p>
+     * The dictionary is composed of the words repeated in the sample that
+     * save more space, with the most valuable words at the end of the
+     * dictionary, where DEFLATE references them with shorter distances.
+     *
+     * @param samples The sample texts
+     * @param maxSize The maximum dictionary size, in bytes
+     * @return The trained dictionary
+     */
+    public static @NotNull byte[] train(
+            final @NotNull Iterable<@NotNull String> samples,
+            final int maxSize) {
+        Validate.notNull(samples);
+        Validate.isTrue(maxSize >= 0 && maxSize <= MAX_DICTIONARY_SIZE,
+                "Dictionary size must be up to %d bytes", MAX_DICTIONARY_SIZE);
+        final Map<String, Integer> counts = new HashMap<>();
+        for (final String sample : samples) {
+            for (final String word : Validate.notNull(sample).split("(?<=\\s)")) {
+                if (word.length() >= MIN_WORD_LENGTH) {
+                    counts.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+        final List<Map.Entry<String, Integer>> words = new ArrayList<>(counts.entrySet());
+        words.removeIf(entry -> entry.getValue() < 2);
+        words.sort((a, b) -> Long.compare(
+                (long) b.getValue() * b.getKey().length(),
+                (long) a.getValue() * a.getKey().length()));
+        final List<byte[]> selected = new ArrayList<>();
+        int size = 0;
+        for (final Map.Entry<String, Integer> entry : words) {
+            final byte[] word = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            if (size + word.length <= maxSize) {
+                selected.add(word);
+                size += word.length;
+            }
+        }
+        final byte[] result = new byte[size];
+        int offset = size;
+        for (final byte[] word : selected) {
+            offset -= word.length;
+            System.arraycopy(word, 0, result, offset, word.length);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of the preset dictionary.
+     *
+     * @return The preset dictionary
+     */
+    public @NotNull byte[] getDictionary() {
+        return this.dictionary.clone();
+    }
+
+    /**
+     * Returns the minimum length of compressed texts.
+     *
+     * @return The minimum length of compressed texts
+     */
+    public int getMinLength() {
+        return this.minLength;
+    }
+
+    /**
+     * Returns the maximum number of cached decompressed texts.
+     *
+     * @return The maximum number of cached decompressed texts
+     */
+    public int getCacheSize() {
+        return this.cacheSize;
+    }
+
+    /**
+     * Returns a compressed copy of the specified I18N text.
+     *
+     * @param value The I18N text
+     * @return The compressed I18N text
+     * @see I18nCompressedString#of(I18nString, I18nTextCompressor)
+     */
+    public @NotNull I18nCompressedString compress(
+            final @NotNull I18nString value) {
+        return I18nCompressedString.of(value, this);
+    }
+
+    /**
+     * Compresses the specified text. Returns {@code text} if shorter than
+     * the minimum length or if compression does not reduce its size.
+     *
+     * @param text The text to compress
+     * @return The compressed data, or {@code text}
+     */
+    @NotNull Object encode(
+            final @NotNull String text) {
+        if (text.length() < this.minLength) {
+            return text;
+        }
+        final byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 8);
+        writeLength(out, data.length);
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            if (this.dictionary.length > 0) {
+                deflater.setDictionary(this.dictionary);
+            }
+            deflater.setInput(data);
+            deflater.finish();
+            final byte[] buffer = new byte[Math.max(64, data.length / 2)];
+            while (!deflater.finished()) {
+                final int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+        } finally {
+            deflater.end();
+        }
+        // Stored as String if compression does not pay off.
+        // Java strings can use one byte per Latin-1 character.
+        if (out.size() >= data.length) {
+            return text;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the text of the specified encoded value, decompressing it if
+     * required.
+     *
+     * @param value The encoded value
+     * @return The text
+     * @see #encode(String)
+     */
+    @NotNull String decode(
+            final @NotNull Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        final byte[] data = (byte[]) value;
+        if (this.cacheSize == 0) {
+            return decompress(data);
+        }
+        final String cached = this.cache.get(data);
+        if (cached != null) {
+            return cached;
+        }
+        final String result = decompress(data);
+        final String previous = this.cache.putIfAbsent(data, result);
+        if (previous != null) {
+            return previous;
+        }
+        this.cacheOrder.add(data);
+        while (this.cache.size() > this.cacheSize) {
+            byte[] eldest = this.cacheOrder.poll();
+            if (eldest == null) {
+                // Order lost by a concurrent clear, discard any entry
+                final Iterator<byte[]> it = this.cache.keySet().iterator();
+                if (!it.hasNext()) {
+                    break;
+                }
+                eldest = it.next();
+            }
+            this.cache.remove(eldest);
+        }
+        return result;
+    }
+
+    /**
+     * Decompresses the specified data.
+     * <p>
+     * The declared length is checked against the maximum DEFLATE expansion
+     * ratio, and the result buffer grows with the inflated data, so
+     * corrupted or crafted data cannot force large allocations.
+     *
+     * @param data The compressed data
+     * @return The decompressed text
+     * @throws IllegalStateException If the data is not valid
+     */
+    private @NotNull String decompress(
+            final @NotNull byte[] data) {
+        int length = 0;
+        int offset = 0;
+        int shift = 0;
+        byte current;
+        do {
+            if (offset == data.length || shift > 28) {
+                throw new IllegalStateException("Invalid compressed I18N text length");
+            }
+            current = data[offset++];
+            length |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        if (length < 0 || length > (long) (data.length - offset) * MAX_DEFLATE_RATIO) {
+            throw new IllegalStateException("Invalid compressed I18N text length");
+        }
+        byte[] result = new byte[Math.min(length, INITIAL_BUFFER_SIZE)];
+        final Inflater inflater = new Inflater(true);
+        try {
+            if (this.dictionary.length > 0) {
+                inflater.setDictionary(this.dictionary);
+            }
+            inflater.setInput(data, offset, data.length - offset);
+            int count = 0;
+            while (count < length) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, (int) Math.min(length, 2L * result.length));
+                }
+                final int read = inflater.inflate(result, count, result.length - count);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalStateException("Truncated compressed I18N text");
+                }
+                count += read;
+            }
+        } catch (final DataFormatException e) {
+            throw new IllegalStateException("Invalid compressed I18N text", e);
+        } finally {
+            inflater.end();
+        }
+        return new String(result, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the specified length as a variable length integer.
+     *
+     * @param out The output stream
+     * @param length The length to write
+     */
+    private static void writeLength(
+            final @NotNull ByteArrayOutputStream out,
+            final int length) {
+        int remaining = length;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Returns the number of currently cached decompressed texts.
+     *
+     * @return The number of cached texts
+     */
+    public int getCachedCount() {
+        return this.cache.size();
+    }
+
+    /**
+     * Discards all the cached decompressed texts.
+     */
+    public void clearCache() {
+        this.cache.clear();
+        this.cacheOrder.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.dictionary);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Instances with the same dictionary and minimum length produce the
+     * same compressed data.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (!getClass().equals(obj.getClass())) { return false; }
+        final I18nTextCompressor other = (I18nTextCompressor) obj;
+        return this.minLength == other.minLength &&
+                Arrays.equals(this.dictionary, other.dictionary);
+    }
+
+    /**
+     * Restores the transient state of deserialized instances.
+     *
+     * @return The restored instance
+     */
+    private Object readResolve() {
+        return new I18nTextCompressor(this.dictionary, this.minLength, this.cacheSize);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Internal accessor to the default text and translations of the
+ * {@code I18nString} implementations backed by a fixed set of
+ * translations.
+ * <p>
+ * Instances of implementing types are equivalent if they have the same
+ * default text and translations, and are copied by copying their
+ * default text and translations.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nStringMap#I18nStringMap(I18nString)
+ * @since 0.2
+ */
+@API(status=Status.INTERNAL, since="0.2")
+interface I18nTranslatedString
+extends I18nString {
+
+    /**
+     * Returns the default text.
+     *
+     * @return The default text
+     */
+    @NotNull String getDefaultText();
+
+    /**
+     * Returns the text translations.
+     *
+     * @return The text translations
+     */
+    @NotNull Map<@NotNull String, @NotNull String> getI18n();
+
+    /**
+     * Returns a consistent state of this instance, whose default text and
+     * translations don't change between calls. Instances that can be
+     * modified concurrently return an immutable snapshot, other instances
+     * return themselves.
+     *
+     * @return The consistent state of this instance
+     */
+    @NotNull I18nTranslatedString translatedState();
+
+    /**
+     * Returns {@code true} if the specified {@code I18nString} is
+     * equivalent to the specified instance. Instances of
+     * {@code I18nTranslatedString} are equivalent if they have the same
+     * default text and translations. Other instances are equivalent if
+     * they return the same text for the current locale.
+     *
+     * @param value The instance to compare with
+     * @param obj The {@code I18nString} to compare
+     * @return If the {@code I18nString} is equivalent to the instance
+     */
+    static boolean isEquivalent(
+            final @NotNull I18nTranslatedString value,
+            final I18nString obj) {
+        if (obj == null) { return false; }
+        if (obj == value) { return true; }
+        if (obj instanceof I18nTranslatedString) {
+            final I18nTranslatedString state = value.translatedState();
+            final I18nTranslatedString other = ((I18nTranslatedString) obj).translatedState();
+            return state.getDefaultText().equals(other.getDefaultText()) &&
+                    state.getI18n().equals(other.getI18n());
+        }
+        return value.get().equals(obj.get());
+    }
+}
@@ -0,0 +1,872 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Compact {@code Map} of translations by language used by
+ * {@code I18nStringMap}.
+ * <p>
+ * Small maps are stored as a pair of parallel arrays of language
+ * identifiers, as assigned by {@code I18nLanguageIds}, and translated
+ * texts, sorted by language identifier. Language tags are not stored in
+ * each instance. When the number of translations exceeds
+ * {@value #COMPACT_MAX_SIZE}, or a language tag gets no identifier, the
+ * translations are moved to a {@code HashMap}.
+ * <p>
+ * Translations in compact form are iterated in the order a default sized
+ * {@code HashMap} with the same language tags would iterate them,
+ * language tags in the same hash bucket sorted by language tag. Thus the
+ * iteration order does not depend on the language identifiers assigned in
+ * the running JVM, and only differs from the order of previous versions for
+ * language tags in the same hash bucket, previously iterated in insertion
+ * order. Translations in hash form are iterated in {@code HashMap} order.
+ * <p>
+ * Null keys and values are not supported. Instances are serialized as
+ * {@code HashMap}, so the serialized form of {@code I18nStringMap} is not
+ * affected by the internal representation.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nStringMap
+ * @see I18nLanguageIds
+ * @since 0.2
+ */
+@API(status=Status.INTERNAL, since="0.2")
+final class I18nTranslations
+extends AbstractMap<String, String>
+implements Serializable {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+    /** The maximum number of translations stored in compact form. */
+    static final int COMPACT_MAX_SIZE = 8;
+    /** The shared empty language identifiers array. */
+    private static final int[] NO_IDS = new int[0];
+    /** The table size of a default sized {@code HashMap}. */
+    private static final int DEFAULT_TABLE_SIZE = 16;
+    /** The shared empty texts array. */
+    private static final String[] NO_TEXTS = new String[0];
+
+    /**
+     * The language identifiers of the translations in compact form, sorted.
+     * Replaced on each structural modification.
+     */
+    private int[] ids = NO_IDS;
+    /** The translated texts in compact form, parallel to {@code ids}. */
+    private String[] texts = NO_TEXTS;
+    /** The translations in hash form, if the compact form was exceeded. */
+    private HashMap<String, String> table;
+    /**
+     * If the compact arrays are shared with other instances and must be
+     * copied before being modified in place.
+     */
+    private transient boolean shared;
+
+    /**
+     * Creates a new empty instance.
+     */
+    I18nTranslations() {
+        super();
+    }
+
+    /**
+     * Creates a new instance with the specified translations.
+     *
+     * @param translations The initial translations
+     */
+    I18nTranslations(
+            final @NotNull Map<String, String> translations) {
+        super();
+        putAll(translations);
+    }
+
+    /**
+     * Returns a copy of this instance. In compact form the copy shares the
+     * arrays of this instance, that are copied by either instance on first
+     * in place modification.
+     *
+     * @return The copy of this instance
+     */
+    @NotNull I18nTranslations sharedCopy() {
+        final I18nTranslations result = new I18nTranslations();
+        if (this.table == null) {
+            result.ids = this.ids;
+            result.texts = this.texts;
+            if (this.ids.length != 0) {
+                result.shared = true;
+                this.shared = true;
+            }
+        } else {
+            result.table = new HashMap<>(this.table);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of the specified translations. Instances of
+     * {@code I18nTranslations} and their unmodifiable views are copied
+     * with {@link #sharedCopy()}.
+     *
+     * @param translations The translations to copy
+     * @return The copy of the translations
+     */
+    static @NotNull I18nTranslations copyOf(
+            final @NotNull Map<String, String> translations) {
+        if (translations instanceof I18nTranslations) {
+            return ((I18nTranslations) translations).sharedCopy();
+        } else if (translations instanceof UnmodifiableView) {
+            return ((UnmodifiableView) translations).target().sharedCopy();
+        }
+        return new I18nTranslations(translations);
+    }
+
+    /**
+     * Returns an unmodifiable view of this instance.
+     *
+     * @return The unmodifiable view
+     */
+    @NotNull Map<String, String> unmodifiableView() {
+        return new UnmodifiableView();
+    }
+
+    /**
+     * Returns {@code true} if the translations are stored in compact form.
+     *
+     * @return If the translations are stored in compact form
+     */
+    boolean isCompact() {
+        return this.table == null;
+    }
+
+    /**
+     * Returns the position of the specified language identifier in the
+     * compact identifiers, or {@code -(insertion position) - 1} if not
+     * present.
+     *
+     * @param ids The compact language identifiers
+     * @param id The language identifier
+     * @return The position of the language identifier
+     */
+    private static int indexOf(
+            final @NotNull int[] ids,
+            final int id) {
+        int low = 0;
+        int high = ids.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midId = ids[mid];
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the language tags of the specified compact language
+     * identifiers.
+     *
+     * @param ids The compact language identifiers
+     * @return The language tags
+     */
+    private static @NotNull String[] tagsOf(
+            final @NotNull int[] ids) {
+        final String[] result = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = I18nLanguageIds.tag(ids[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the iteration order of the specified compact language tags,
+     * as positions of the language tags sorted by their bucket in a default
+     * sized {@code HashMap} and by language tag.
+     *
+     * @param tags The compact language tags
+     * @return The positions of the language tags in iteration order
+     */
+    private static @NotNull int[] iterationOrder(
+            final @NotNull String[] tags) {
+        final int[] buckets = new int[tags.length];
+        final int[] result = new int[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            final int hash = tags[i].hashCode();
+            buckets[i] = (hash ^ (hash >>> 16)) & (DEFAULT_TABLE_SIZE - 1);
+            int j = i;
+            while (j > 0 && (buckets[result[j - 1]] > buckets[i] ||
+                    buckets[result[j - 1]] == buckets[i] &&
+                    tags[result[j - 1]].compareTo(tags[i]) > 0)) {
+                result[j] = result[j - 1];
+                j--;
+            }
+            result[j] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the translation for the specified language tag following its
+     * fallback chain, or {@code null} if none is found.
+     *
+     * @param language The language tag
+     * @return The translated text, or {@code null}
+     * @see I18nFallbackChain#of(String)
+     */
+    String resolve(
+            final @NotNull String language) {
+        if (isEmpty()) {
+            return null;
+        }
+        if (language.indexOf('-') == -1) {
+            return get(language);
+        }
+        return resolve(I18nFallbackChain.of(language));
+    }
+
+    /**
+     * Returns the translation for the specified locale following its
+     * fallback chain, or {@code null} if none is found.
+     *
+     * @param locale The locale
+     * @return The translated text, or {@code null}
+     * @see I18nFallbackChain#of(Locale)
+     */
+    String resolve(
+            final @NotNull Locale locale) {
+        if (isEmpty()) {
+            return null;
+        }
+        return resolve(I18nFallbackChain.of(locale));
+    }
+
+    /**
+     * Returns the translation for the first language tag of the specified
+     * fallback chain with translation, or {@code null} if none is found.
+     * In compact form language tags are looked up by their cached
+     * identifiers.
+     *
+     * @param chain The fallback chain
+     * @return The translated text, or {@code null}
+     */
+    String resolve(
+            final @NotNull I18nFallbackChain chain) {
+        if (this.table != null) {
+            for (int i = 0; i < chain.size(); i++) {
+                final String result = this.table.get(chain.get(i));
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        }
+        final int[] currentIds = this.ids;
+        if (currentIds.length == 0) {
+            return null;
+        }
+        final String[] currentTexts = this.texts;
+        for (int i = 0; i < chain.size(); i++) {
+            final int id = chain.getId(i);
+            if (id != I18nLanguageIds.NONE) {
+                final int index = indexOf(currentIds, id);
+                if (index >= 0) {
+                    return currentTexts[index];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.table == null ? this.ids.length : this.table.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String get(
+            final Object key) {
+        if (this.table != null) {
+            return this.table.get(key);
+        }
+        final int id = I18nLanguageIds.lookup(key);
+        if (id == I18nLanguageIds.NONE) {
+            return null;
+        }
+        final String[] currentTexts = this.texts;
+        final int index = indexOf(this.ids, id);
+        return index < 0 ? null : currentTexts[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(
+            final Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String put(
+            final @NotNull String key,
+            final @NotNull String value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * Associates the specified translation with the specified language
+     * tag, read from external input. Language tags are not registered in
+     * {@code I18nLanguageIds}, and unknown language tags move the
+     * translations to hash form.
+     *
+     * @param key The language tag
+     * @param value The translated text
+     * @return The previous translation, or {@code null}
+     */
+    String putUntrusted(
+            final @NotNull String key,
+            final @NotNull String value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * Associates the specified translation with the specified language
+     * tag.
+     *
+     * @param key The language tag
+     * @param value The translated text
+     * @param register If the language tag must be registered in
+     * {@code I18nLanguageIds} when unknown
+     * @return The previous translation, or {@code null}
+     */
+    private String put(
+            final @NotNull String key,
+            final @NotNull String value,
+            final boolean register) {
+        Validate.notNull(key);
+        Validate.notNull(value);
+        if (this.table != null) {
+            return this.table.put(key, value);
+        }
+        final int id = register ?
+                I18nLanguageIds.register(key) :
+                I18nLanguageIds.lookup(key);
+        if (id == I18nLanguageIds.NONE) {
+            return toTable(size() + 1).put(key, value);
+        }
+        final int[] currentIds = this.ids;
+        final String[] currentTexts = this.texts;
+        final int index = indexOf(currentIds, id);
+        if (index >= 0) {
+            final String previous = currentTexts[index];
+            if (this.shared) {
+                final String[] newTexts = currentTexts.clone();
+                newTexts[index] = value;
+                this.texts = newTexts;
+                this.shared = false;
+            } else {
+                currentTexts[index] = value;
+            }
+            return previous;
+        }
+        final int size = currentIds.length;
+        if (size == COMPACT_MAX_SIZE) {
+            toTable(size + 1).put(key, value);
+            return null;
+        }
+        final int pos = -index - 1;
+        final int[] newIds = new int[size + 1];
+        final String[] newTexts = new String[size + 1];
+        System.arraycopy(currentIds, 0, newIds, 0, pos);
+        System.arraycopy(currentTexts, 0, newTexts, 0, pos);
+        newIds[pos] = id;
+        newTexts[pos] = value;
+        System.arraycopy(currentIds, pos, newIds, pos + 1, size - pos);
+        System.arraycopy(currentTexts, pos, newTexts, pos + 1, size - pos);
+        this.texts = newTexts;
+        this.ids = newIds;
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putAll(
+            final @NotNull Map<? extends String, ? extends String> map) {
+        if (this.table == null && size() + map.size() > COMPACT_MAX_SIZE) {
+            toTable(size() + map.size());
+        }
+        for (final Map.Entry<? extends String, ? extends String> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Copies all the translations of the specified map, read from
+     * external input, without registering their language tags.
+     *
+     * @param map The translations to copy
+     * @see #putUntrusted(String, String)
+     */
+    void putAllUntrusted(
+            final @NotNull Map<? extends String, ? extends String> map) {
+        if (this.table == null && size() + map.size() > COMPACT_MAX_SIZE) {
+            toTable(size() + map.size());
+        }
+        for (final Map.Entry<? extends String, ? extends String> entry : map.entrySet()) {
+            putUntrusted(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Moves the translations from compact form to hash form.
+     *
+     * @param expectedSize The expected number of translations
+     * @return The created hash table
+     */
+    private @NotNull HashMap<String, String> toTable(
+            final int expectedSize) {
+        final HashMap<String, String> result = new HashMap<>(
+                Math.max(16, (int) (expectedSize / 0.75f) + 1));
+        final int[] currentIds = this.ids;
+        final String[] currentTexts = this.texts;
+        for (int i = 0; i < currentIds.length; i++) {
+            result.put(I18nLanguageIds.tag(currentIds[i]), currentTexts[i]);
+        }
+        this.table = result;
+        this.ids = NO_IDS;
+        this.texts = NO_TEXTS;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String remove(
+            final Object key) {
+        if (this.table != null) {
+            return this.table.remove(key);
+        }
+        final int id = I18nLanguageIds.lookup(key);
+        if (id == I18nLanguageIds.NONE) {
+            return null;
+        }
+        final int index = indexOf(this.ids, id);
+        if (index < 0) {
+            return null;
+        }
+        final String previous = this.texts[index];
+        removeAt(this.ids, index);
+        return previous;
+    }
+
+    /**
+     * Removes the compact translation at the specified position.
+     *
+     * @param currentIds The current compact language identifiers
+     * @param index The translation position
+     */
+    private void removeAt(
+            final @NotNull int[] currentIds,
+            final int index) {
+        final String[] currentTexts = this.texts;
+        if (currentIds.length == 1) {
+            this.ids = NO_IDS;
+            this.texts = NO_TEXTS;
+        } else {
+            final int size = currentIds.length - 1;
+            final int[] newIds = new int[size];
+            final String[] newTexts = new String[size];
+            System.arraycopy(currentIds, 0, newIds, 0, index);
+            System.arraycopy(currentTexts, 0, newTexts, 0, index);
+            System.arraycopy(currentIds, index + 1, newIds, index, size - index);
+            System.arraycopy(currentTexts, index + 1, newTexts, index, size - index);
+            this.ids = newIds;
+            this.texts = newTexts;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        this.table = null;
+        this.ids = NO_IDS;
+        this.texts = NO_TEXTS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(
+            final @NotNull BiConsumer<? super String, ? super String> action) {
+        Validate.notNull(action);
+        if (this.table != null) {
+            this.table.forEach(action);
+        } else {
+            final String[] currentTexts = this.texts;
+            final String[] tags = tagsOf(this.ids);
+            for (final int index : iterationOrder(tags)) {
+                action.accept(tags[index], currentTexts[index]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Map.Entry<String, String>> entrySet() {
+        return new EntrySet();
+    }
+
+    /**
+     * Replaces this instance with a {@code HashMap} on serialization.
+     *
+     * @return The instance to serialize
+     */
+    private Object writeReplace() {
+        return new HashMap<>(this);
+    }
+
+    /**
+     * Unmodifiable view of the translations, recognized by
+     * {@link I18nTranslations#copyOf(Map)}.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private final class UnmodifiableView
+    extends AbstractMap<String, String> {
+
+        /** The unmodifiable entry set. */
+        private final @NotNull Set<Map.Entry<String, String>> entries =
+                Collections.unmodifiableMap(I18nTranslations.this).entrySet();
+
+        /**
+         * Returns the viewed translations.
+         *
+         * @return The viewed translations
+         */
+        @NotNull I18nTranslations target() {
+            return I18nTranslations.this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return I18nTranslations.this.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            return I18nTranslations.this.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String get(
+                final Object key) {
+            return I18nTranslations.this.get(key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean containsKey(
+                final Object key) {
+            return I18nTranslations.this.containsKey(key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void forEach(
+                final @NotNull BiConsumer<? super String, ? super String> action) {
+            I18nTranslations.this.forEach(action);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Set<Map.Entry<String, String>> entrySet() {
+            return this.entries;
+        }
+    }
+
+    /**
+     * Live entry set view of the translations.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private final class EntrySet
+    extends AbstractSet<Map.Entry<String, String>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return I18nTranslations.this.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            I18nTranslations.this.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Iterator<Map.Entry<String, String>> iterator() {
+            if (table != null) {
+                return table.entrySet().iterator();
+            }
+            return new CompactIterator();
+        }
+    }
+
+    /**
+     * Iterator over translations in compact form, in the iteration order
+     * documented in {@link I18nTranslations}.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private final class CompactIterator
+    implements Iterator<Map.Entry<String, String>> {
+
+        /** The expected compact language identifiers. */
+        private int[] expected = ids;
+        /** The language tags of the expected identifiers. */
+        private final @NotNull String[] tags = tagsOf(this.expected);
+        /** The translation positions in iteration order. */
+        private final @NotNull int[] order = iterationOrder(this.tags);
+        /** The next position in iteration order. */
+        private int next;
+        /** The last returned translation position. */
+        private int last = -1;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return this.next < this.order.length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Map.Entry<String, String> next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.order[this.next++];
+            return new CompactEntry(
+                    this.tags[this.last],
+                    texts[this.last - removedBefore(this.last)]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(this.expected, this.last - removedBefore(this.last));
+            this.expected = ids;
+            this.tags[this.last] = null;
+            this.last = -1;
+        }
+
+        /**
+         * Returns the number of translations removed through this iterator
+         * before the specified original translation position.
+         *
+         * @param position The original translation position
+         * @return The number of removed translations before the position
+         */
+        private int removedBefore(
+                final int position) {
+            int result = 0;
+            for (int i = 0; i < position; i++) {
+                if (this.tags[i] == null) {
+                    result++;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Verifies that the translations have not been structurally
+         * modified outside this iterator.
+         *
+         * @throws ConcurrentModificationException If the translations
+         * have been modified
+         */
+        private void checkForComodification() {
+            if (ids != this.expected || table != null) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Live entry of a translation in compact form.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private final class CompactEntry
+    extends AbstractMap.SimpleEntry<String, String> {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param key The language tag
+         * @param value The translated text
+         */
+        private CompactEntry(
+                final @NotNull String key,
+                final @NotNull String value) {
+            super(key, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String setValue(
+                final @NotNull String value) {
+            I18nTranslations.this.put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.table != null) {
+            return this.table.hashCode();
+        }
+        final int[] currentIds = this.ids;
+        final String[] currentTexts = this.texts;
+        int result = 0;
+        for (int i = 0; i < currentIds.length; i++) {
+            result += I18nLanguageIds.tag(currentIds[i]).hashCode() ^ currentTexts[i].hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final Object obj) {
+        if (obj == this) { return true; }
+        if (obj instanceof I18nTranslations) {
+            final I18nTranslations other = (I18nTranslations) obj;
+            if (this.table == null && other.table == null) {
+                return Arrays.equals(this.ids, other.ids) &&
+                        Arrays.equals(this.texts, other.texts);
+            }
+        }
+        return super.equals(obj);
+    }
+}
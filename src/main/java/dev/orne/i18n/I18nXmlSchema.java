@@ -44,6 +44,46 @@ public final class I18nXmlSchema {
     public static final String TRANSLATION_ELEMENT = "translation";
     /** The I18n string translation XML element language attribute. */
     public static final String TRANSLATION_LANG_ATTR = "lang";
+    /**
+     * The structured I18n resources string XML type local name.
+     * 
+     * @since 0.2
+     */
+    public static final String RESOURCES_STRING_TYPE = "resourcesString";
+    /**
+     * The structured I18n resources string XML element local name.
+     * 
+     * @since 0.2
+     */
+    public static final String RESOURCES_STRING_ELEMENT = "resourcesString";
+    /**
+     * The structured I18n resources string XML element resources key
+     * attribute.
+     * 
+     * @since 0.2
+     */
+    public static final String RESOURCES_STRING_RESOURCES_ATTR = "resources";
+    /**
+     * The structured I18n resources string default text XML element local
+     * name.
+     * 
+     * @since 0.2
+     */
+    public static final String RESOURCES_STRING_DEFAULT_TEXT_ELEMENT = "defaultText";
+    /**
+     * The structured I18n resources string text code XML element local
+     * name.
+     * 
+     * @since 0.2
+     */
+    public static final String RESOURCES_STRING_CODE_ELEMENT = "code";
+    /**
+     * The structured I18n resources string text argument XML element local
+     * name.
+     * 
+     * @since 0.2
+     */
+    public static final String RESOURCES_STRING_ARGUMENT_ELEMENT = "argument";
 
     /**
      * Private constructor.
@@ -40,6 +40,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.i18n.I18nConfigurationException;
 import dev.orne.i18n.I18nResources;
 
 /**
@@ -173,11 +174,30 @@ implements I18nContextProvider {
      * <p>
      * This implementation resets available languages, and I18N resources to
      * defaults and generates a new session UUID to invalidate any existing
-     * contexts.
+     * contexts. Messages cached by {@code CachingI18nResources} instances
+     * are discarded.
      */
     @Override
     public synchronized void invalidate() {
         this.sessionUUID = UUID.randomUUID();
+        clearCache(this.defaultI18nResources);
+        for (final I18nResources resources : this.i18nResources.values()) {
+            clearCache(resources);
+        }
+    }
+
+    /**
+     * Discards the cached messages of the specified I18N resources, if
+     * they are a {@code CachingI18nResources}.
+     * 
+     * @param resources The I18N resources
+     * @since 0.2
+     */
+    private static void clearCache(
+            final @NotNull I18nResources resources) {
+        if (resources instanceof CachingI18nResources) {
+            ((CachingI18nResources) resources).clear();
+        }
     }
 
     /**
@@ -235,6 +255,11 @@ implements I18nContextProvider {
         /** The alternative I18N resources by key. */
         protected final @NotNull Map<@NotNull String, @NotNull I18nResources> i18nResources =
                 new HashMap<>();
+        /**
+         * The I18N resources cache configuration, or {@code null} if
+         * resources are not cached.
+         */
+        private Properties cacheConfig;
 
         /**
          * Creates a new instance.
@@ -253,6 +278,7 @@ implements I18nContextProvider {
         @SuppressWarnings("unchecked")
         public @NotNull B configure(
                 @NotNull Properties config) {
+            configureI18nResourcesCache(config);
             configureDefaultLocaleSupplier(config);
             configureAvailableLocalesSupplier(config);
             configureDefaultI18nResources(config);
@@ -313,7 +339,8 @@ implements I18nContextProvider {
         protected void configureAlternativeI18nResources(
                 final @NotNull Properties config) {
             for (final String prop : config.stringPropertyNames()) {
-                if (prop.startsWith(I18nConfiguration.NAMED_RESOURCES_PREFIX)) {
+                if (prop.startsWith(I18nConfiguration.NAMED_RESOURCES_PREFIX)
+                        && !isCacheProperty(prop)) {
                     final String resourceName = prop.substring(I18nConfiguration.NAMED_RESOURCES_PREFIX.length());
                     addI18nResources(
                             resourceName,
@@ -322,6 +349,144 @@ implements I18nContextProvider {
             }
         }
 
+        /**
+         * Returns {@code true} if the specified configuration property
+         * configures the message cache of I18N resources.
+         * 
+         * @param property The configuration property.
+         * @return If the property configures a message cache.
+         * @since 0.2
+         */
+        private static boolean isCacheProperty(
+                final @NotNull String property) {
+            return property.endsWith(I18nConfiguration.CACHE_SIZE_SUFFIX)
+                    || property.endsWith(I18nConfiguration.CACHE_REFRESH_SUFFIX);
+        }
+
+        /**
+         * Configures the message caches of the I18N resources based on
+         * specified configuration.
+         * <p>
+         * The default I18N resources and the alternative I18N resources
+         * without specific configuration use the global cache
+         * configuration. Resources already added are decorated, as are
+         * resources set or added later.
+         * 
+         * @param config The I18N configuration.
+         * @since 0.2
+         * @see I18nConfiguration#RESOURCES_CACHE_SIZE
+         * @see I18nConfiguration#CACHE_SIZE_SUFFIX
+         */
+        protected void configureI18nResourcesCache(
+                final @NotNull Properties config) {
+            boolean cached = false;
+            for (final String prop : config.stringPropertyNames()) {
+                if (!prop.equals(I18nConfiguration.RESOURCES_CACHE_SIZE)
+                        && !prop.equals(I18nConfiguration.RESOURCES_CACHE_REFRESH)
+                        && !prop.startsWith(I18nConfiguration.NAMED_RESOURCES_PREFIX)) {
+                    continue;
+                }
+                if (prop.endsWith(I18nConfiguration.CACHE_SIZE_SUFFIX)) {
+                    final long maxSize = parseCacheProperty(config, prop);
+                    if (maxSize < 0 || maxSize > Integer.MAX_VALUE) {
+                        throw new I18nConfigurationException(
+                                "Invalid I18N resources cache size: " + maxSize);
+                    }
+                    cached = true;
+                } else if (prop.endsWith(I18nConfiguration.CACHE_REFRESH_SUFFIX)) {
+                    parseCacheProperty(config, prop);
+                }
+            }
+            if (!cached) {
+                return;
+            }
+            this.cacheConfig = new Properties();
+            this.cacheConfig.putAll(config);
+            this.defaultI18nResources = toCaching(null, this.defaultI18nResources);
+            for (final Map.Entry<String, I18nResources> entry : this.i18nResources.entrySet()) {
+                entry.setValue(toCaching(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        /**
+         * Parses the numeric value of the specified configuration property.
+         * 
+         * @param config The I18N configuration.
+         * @param property The configuration property.
+         * @return The numeric value.
+         * @throws I18nConfigurationException If the value is not a valid number.
+         * @since 0.2
+         */
+        private static @NotNull Long parseCacheProperty(
+                final @NotNull Properties config,
+                final @NotNull String property) {
+            final String value = config.getProperty(property);
+            try {
+                return Long.valueOf(StringUtils.trim(value));
+            } catch (final NumberFormatException nfe) {
+                throw new I18nConfigurationException(
+                        "Invalid value for I18N configuration property " + property + ": " + value,
+                        nfe);
+            }
+        }
+
+        /**
+         * Returns the value of the first of the specified configuration
+         * properties set in the cache configuration.
+         * 
+         * @param property The specific configuration property, or
+         * {@code null} for none.
+         * @param global The global configuration property.
+         * @return The numeric value, or {@code null} if none is set.
+         * @since 0.2
+         */
+        private Long getCacheProperty(
+                final String property,
+                final @NotNull String global) {
+            if (property != null && this.cacheConfig.containsKey(property)) {
+                return parseCacheProperty(this.cacheConfig, property);
+            } else if (this.cacheConfig.containsKey(global)) {
+                return parseCacheProperty(this.cacheConfig, global);
+            }
+            return null;
+        }
+
+        /**
+         * Decorates the specified I18N resources with a message cache as
+         * configured for the specified key, unless already cached or
+         * caching is not configured.
+         * 
+         * @param key The key of the alternative I18N resources, or
+         * {@code null} for the default I18N resources.
+         * @param resources The I18N resources.
+         * @return The caching I18N resources, or {@code resources} if not
+         * cached.
+         * @since 0.2
+         */
+        private @NotNull I18nResources toCaching(
+                final String key,
+                final @NotNull I18nResources resources) {
+            if (this.cacheConfig == null
+                    || resources instanceof CachingI18nResources
+                    || resources instanceof DummyI18nResources) {
+                return resources;
+            }
+            final String prefix = key == null ? null : I18nConfiguration.NAMED_RESOURCES_PREFIX + key;
+            final Long maxSize = getCacheProperty(
+                    prefix == null ? null : prefix + I18nConfiguration.CACHE_SIZE_SUFFIX,
+                    I18nConfiguration.RESOURCES_CACHE_SIZE);
+            if (maxSize == null || maxSize.longValue() == 0) {
+                return resources;
+            }
+            final Long refresh = getCacheProperty(
+                    prefix == null ? null : prefix + I18nConfiguration.CACHE_REFRESH_SUFFIX,
+                    I18nConfiguration.RESOURCES_CACHE_REFRESH);
+            return new CachingI18nResources(
+                    resources,
+                    maxSize.intValue(),
+                    refresh == null ? 0 : refresh.longValue());
+        }
+
         /**
          * Sets the default locale supplier.
          * 
@@ -360,7 +525,7 @@ implements I18nContextProvider {
         @SuppressWarnings("unchecked")
         public @NotNull B setDefaultI18nResources(
                 final @NotNull I18nResources resources) {
-            this.defaultI18nResources = Validate.notNull(resources);
+            this.defaultI18nResources = toCaching(null, Validate.notNull(resources));
             return (B) this;
         }
 
@@ -379,7 +544,7 @@ implements I18nContextProvider {
                 final @NotNull I18nResources resource) {
             this.i18nResources.put(
                     Validate.notNull(key),
-                    Validate.notNull(resource));
+                    toCaching(key, Validate.notNull(resource)));
             return (B) this;
         }
     }
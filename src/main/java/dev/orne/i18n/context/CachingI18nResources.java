@@ -0,0 +1,459 @@
+package dev.orne.i18n.context;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.i18n.I18nResources;
+
+/**
+ * Decorator of {@code I18nResources} that caches the resolved messages.
+ * <p>
+ * Messages are cached by default message, message codes, locale and message
+ * parameters. The cache is bounded: when the maximum size is exceeded the
+ * least frequently used entries are evicted, with entry frequencies halved
+ * on each eviction round so recent usage prevails over old usage.
+ * Optionally cached messages are resolved again once the configured refresh
+ * interval has elapsed since they were resolved.
+ * <p>
+ * Message parameters are part of the cache key, so they are expected to be
+ * immutable values.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nResources
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public class CachingI18nResources
+implements I18nResources {
+
+    /** The default maximum number of cached messages. */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+    /** The empty message parameters. */
+    private static final Object[] NO_PARAMS = new Object[0];
+
+    /** The decorated I18N resources. */
+    private final @NotNull I18nResources delegate;
+    /** The maximum number of cached messages. */
+    private final int maxSize;
+    /** The refresh interval of cached messages, in milliseconds. */
+    private final long refreshMillis;
+    /** The cached messages. */
+    private final @NotNull Map<Key, Entry> cache;
+    /** The lock for eviction rounds. */
+    private final @NotNull Object evictionLock = new Object();
+    /** The cache hits counter. */
+    private final @NotNull LongAdder hits = new LongAdder();
+    /** The cache misses counter. */
+    private final @NotNull LongAdder misses = new LongAdder();
+    /** The cache evictions counter. */
+    private final @NotNull LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new instance with default maximum size and no refresh.
+     *
+     * @param delegate The decorated I18N resources
+     */
+    public CachingI18nResources(
+            final @NotNull I18nResources delegate) {
+        this(delegate, DEFAULT_MAX_SIZE, 0);
+    }
+
+    /**
+     * Creates a new instance with no refresh.
+     *
+     * @param delegate The decorated I18N resources
+     * @param maxSize The maximum number of cached messages
+     */
+    public CachingI18nResources(
+            final @NotNull I18nResources delegate,
+            final int maxSize) {
+        this(delegate, maxSize, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate The decorated I18N resources
+     * @param maxSize The maximum number of cached messages
+     * @param refreshMillis The refresh interval of cached messages, in
+     * milliseconds. Zero or negative values disable refresh.
+     */
+    public CachingI18nResources(
+            final @NotNull I18nResources delegate,
+            final int maxSize,
+            final long refreshMillis) {
+        super();
+        this.delegate = Validate.notNull(delegate);
+        Validate.isTrue(maxSize > 0, "Maximum cache size must be positive");
+        this.maxSize = maxSize;
+        this.refreshMillis = Math.max(0, refreshMillis);
+        this.cache = new ConcurrentHashMap<>(Math.min(maxSize, DEFAULT_MAX_SIZE));
+    }
+
+    /**
+     * Returns the decorated I18N resources.
+     *
+     * @return The decorated I18N resources
+     */
+    public @NotNull I18nResources getDelegate() {
+        return this.delegate;
+    }
+
+    /**
+     * Returns the maximum number of cached messages.
+     *
+     * @return The maximum number of cached messages
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Returns the refresh interval of cached messages, in milliseconds.
+     * Zero if refresh is disabled.
+     *
+     * @return The refresh interval of cached messages
+     */
+    public long getRefreshMillis() {
+        return this.refreshMillis;
+    }
+
+    /**
+     * Returns the number of cached messages.
+     *
+     * @return The number of cached messages
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return The number of cache hits
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of requests resolved by the decorated resources,
+     * including refreshes of expired messages.
+     *
+     * @return The number of cache misses
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of cached messages evicted due to cache size.
+     *
+     * @return The number of evictions
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Discards all the cached messages. Statistics are preserved.
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String getMessage(
+            final @NotNull String defaultMessage,
+            final @NotNull String code,
+            final @NotNull Locale locale,
+            final Object... params) {
+        Validate.notNull(code);
+        return getMessage(defaultMessage, new String[] { code }, locale, params);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String getMessage(
+            final @NotNull String defaultMessage,
+            final @NotNull String[] codes,
+            final @NotNull Locale locale,
+            final Object... params) {
+        Validate.notNull(defaultMessage);
+        Validate.notNull(codes);
+        Validate.notNull(locale);
+        final Object[] safeParams = params == null || params.length == 0 ? NO_PARAMS : params;
+        final Key key = new Key(defaultMessage, codes, locale, safeParams);
+        final long now = this.refreshMillis == 0 ? 0 : System.nanoTime();
+        final Entry entry = this.cache.get(key);
+        if (entry != null && !isExpired(entry, now)) {
+            entry.frequency++;
+            this.hits.increment();
+            return entry.message;
+        }
+        this.misses.increment();
+        final String message = this.delegate.getMessage(defaultMessage, codes, locale, params);
+        this.cache.put(key.copy(), new Entry(message, now));
+        if (this.cache.size() > this.maxSize) {
+            evict();
+        }
+        return message;
+    }
+
+    /**
+     * Returns {@code true} if the specified cached message must be resolved
+     * again.
+     *
+     * @param entry The cache entry
+     * @param now The current {@code System.nanoTime()} value
+     * @return If the cached message is expired
+     */
+    private boolean isExpired(
+            final @NotNull Entry entry,
+            final long now) {
+        return this.refreshMillis != 0 &&
+                now - entry.loadTime > TimeUnit.MILLISECONDS.toNanos(this.refreshMillis);
+    }
+
+    /**
+     * Evicts the least frequently used cached messages until the cache
+     * size is, at least, a tenth below the maximum size. The frequency of
+     * the remaining entries is halved.
+     */
+    private void evict() {
+        synchronized (this.evictionLock) {
+            final int size = this.cache.size();
+            if (size <= this.maxSize) {
+                return;
+            }
+            final int target = size - this.maxSize + this.maxSize / 10;
+            final int[] frequencies = new int[size];
+            int count = 0;
+            for (final Entry entry : this.cache.values()) {
+                if (count == frequencies.length) {
+                    break;
+                }
+                frequencies[count++] = entry.frequency;
+            }
+            if (count == 0) {
+                return;
+            }
+            Arrays.sort(frequencies, 0, count);
+            final int threshold = frequencies[Math.min(target, count) - 1];
+            int evicted = 0;
+            final Iterator<Entry> it = this.cache.values().iterator();
+            while (it.hasNext()) {
+                final Entry entry = it.next();
+                if (evicted < target && entry.frequency <= threshold) {
+                    it.remove();
+                    evicted++;
+                } else {
+                    entry.frequency >>>= 1;
+                }
+            }
+            this.evictions.add(evicted);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(this.delegate)
+                .append(this.maxSize)
+                .append(this.refreshMillis)
+                .toHashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (!getClass().equals(obj.getClass())) { return false; }
+        final CachingI18nResources other = (CachingI18nResources) obj;
+        return new EqualsBuilder()
+                .append(this.delegate, other.delegate)
+                .append(this.maxSize, other.maxSize)
+                .append(this.refreshMillis, other.refreshMillis)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("delegate", this.delegate)
+                .append("maxSize", this.maxSize)
+                .append("refreshMillis", this.refreshMillis)
+                .append("size", size())
+                .append("hits", getHitCount())
+                .append("misses", getMissCount())
+                .append("evictions", getEvictionCount())
+                .toString();
+    }
+
+    /**
+     * Cache key of resolved messages.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class Key {
+
+        /** The default message. */
+        private final @NotNull String defaultMessage;
+        /** The message codes. */
+        private final @NotNull String[] codes;
+        /** The message locale. */
+        private final @NotNull Locale locale;
+        /** The message parameters. */
+        private final @NotNull Object[] params;
+        /** The precomputed hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param defaultMessage The default message
+         * @param codes The message codes
+         * @param locale The message locale
+         * @param params The message parameters
+         */
+        private Key(
+                final @NotNull String defaultMessage,
+                final @NotNull String[] codes,
+                final @NotNull Locale locale,
+                final @NotNull Object[] params) {
+            this.defaultMessage = defaultMessage;
+            this.codes = codes;
+            this.locale = locale;
+            this.params = params;
+            int result = defaultMessage.hashCode();
+            result = 31 * result + Arrays.hashCode(codes);
+            result = 31 * result + locale.hashCode();
+            if (params.length != 0) {
+                result = 31 * result + Arrays.deepHashCode(params);
+            }
+            this.hash = result;
+        }
+
+        /**
+         * Returns a copy of this key safe from modifications of the
+         * caller's arrays.
+         *
+         * @return A copy of this key
+         */
+        private @NotNull Key copy() {
+            return new Key(
+                    this.defaultMessage,
+                    this.codes.clone(),
+                    this.locale,
+                    this.params.length == 0 ? NO_PARAMS : this.params.clone());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) { return true; }
+            if (!(obj instanceof Key)) { return false; }
+            final Key other = (Key) obj;
+            return this.hash == other.hash &&
+                    this.locale.equals(other.locale) &&
+                    this.defaultMessage.equals(other.defaultMessage) &&
+                    Arrays.equals(this.codes, other.codes) &&
+                    Arrays.deepEquals(this.params, other.params);
+        }
+    }
+
+    /**
+     * Cache entry of resolved messages.
+     *
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    private static final class Entry {
+
+        /** The resolved message. */
+        private final String message;
+        /** The {@code System.nanoTime()} value when the message was resolved. */
+        private final long loadTime;
+        /** The approximate usage frequency. Updated without synchronization. */
+        private volatile int frequency;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message The resolved message
+         * @param loadTime The {@code System.nanoTime()} value when the
+         * message was resolved
+         */
+        private Entry(
+                final String message,
+                final long loadTime) {
+            this.message = message;
+            this.loadTime = loadTime;
+        }
+    }
+}
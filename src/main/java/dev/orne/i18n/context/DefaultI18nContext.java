@@ -36,6 +36,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.i18n.I18nStringCodec;
+
 /**
  * Default implementation of {@code I18nContext}.
  * 
@@ -143,4 +145,16 @@ implements I18nContext, Serializable {
                 .append("locale", this.locale)
                 .toString();
     }
+
+    /**
+     * Replaces this instance with its compact serialized form.
+     * <p>
+     * Subclasses use the default serialization.
+     *
+     * @return The serialized form
+     * @see I18nStringCodec
+     */
+    private Object writeReplace() {
+        return I18nStringCodec.serializedForm(this);
+    }
 }
@@ -22,6 +22,7 @@ package dev.orne.i18n.context;
  * #L%
  */
 
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.Locale;
 
@@ -115,6 +116,25 @@ implements I18nResources {
         return getMessage(defaultMessage, (String) null, params);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The message is formatted directly into the {@code Appendable}.
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public void writeMessage(
+            final @NotNull Appendable out,
+            final @NotNull String defaultMessage,
+            final String[] codes,
+            final Locale locale,
+            final Object... params)
+    throws IOException {
+        Validate.notNull(out);
+        Validate.notNull(defaultMessage, "The default message cannot be null");
+        MessageFormats.format(out, defaultMessage, params);
+    }
+
     /**
      * Shared instance lazy initialization class.
      * 
@@ -22,10 +22,14 @@ package dev.orne.i18n.context;
  * #L%
  */
 
+import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.TreeMap;
 
 import javax.validation.constraints.NotNull;
 
@@ -36,10 +40,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import dev.orne.i18n.I18N;
+import dev.orne.i18n.I18nCatalogResources;
 import dev.orne.i18n.I18nResources;
 
 /**
  * Implementation of {@code I18nResources} based on {@code ResourceBundle}.
+ * <p>
+ * Supports exporting the bundle messages for a locale as a catalog.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2021-01
@@ -49,7 +56,7 @@ import dev.orne.i18n.I18nResources;
  */
 @API(status=Status.STABLE, since="0.1")
 public class I18nBundleResources
-implements I18nResources {
+implements I18nCatalogResources {
 
     /** The logger of the class. */
     private static final Logger LOG = LoggerFactory.getLogger(I18nBundleResources.class);
@@ -118,24 +125,80 @@ implements I18nResources {
         Validate.notNull(defaultMessage);
         Validate.notNull(codes);
         Validate.noNullElements(codes);
-        final ResourceBundle bundle = getBundle(locale);
-        String format = null;
+        final String format = getFormat(getBundle(locale), defaultMessage, codes);
+        try {
+            return MessageFormat.format(format, params);
+        } catch (final IllegalArgumentException ignore) {
+            return format;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The message is formatted directly into the {@code Appendable}.
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public void writeMessage(
+            final @NotNull Appendable out,
+            final @NotNull String defaultMessage,
+            final @NotNull String[] codes,
+            final @NotNull Locale locale,
+            final Object... params)
+    throws IOException {
+        Validate.notNull(out);
+        Validate.notNull(defaultMessage);
+        Validate.notNull(codes);
+        Validate.noNullElements(codes);
+        MessageFormats.format(
+                out,
+                getFormat(getBundle(locale), defaultMessage, codes),
+                params);
+    }
+
+    /**
+     * Returns the message format of the first message code defined in the
+     * specified bundle, or the default message if none is defined.
+     * 
+     * @param bundle The I18N resources bundle
+     * @param defaultMessage The default message format
+     * @param codes The message codes, in order of preference
+     * @return The message format
+     */
+    private static @NotNull String getFormat(
+            final @NotNull ResourceBundle bundle,
+            final @NotNull String defaultMessage,
+            final @NotNull String[] codes) {
         for (final String code : codes) {
             try {
-                format = bundle.getString(code);
-                break;
+                return bundle.getString(code);
             } catch (final MissingResourceException ignore) {
                 // Ignored
             }
         }
-        if (format == null) {
-            format = defaultMessage;
-        }
-        try {
-            return MessageFormat.format(format, params);
-        } catch (final IllegalArgumentException ignore) {
-            return format;
+        return defaultMessage;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Bundle entries with values other than strings are ignored.
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public @NotNull Map<@NotNull String, @NotNull String> getCatalog(
+            final @NotNull Locale locale) {
+        Validate.notNull(locale);
+        final ResourceBundle bundle = getBundle(locale);
+        final Map<String, String> result = new TreeMap<>();
+        for (final String code : bundle.keySet()) {
+            final Object value = bundle.getObject(code);
+            if (value instanceof String) {
+                result.put(code, (String) value);
+            }
         }
+        return Collections.unmodifiableMap(result);
     }
 
     /**
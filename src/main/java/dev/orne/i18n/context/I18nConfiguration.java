@@ -102,8 +102,66 @@ public final class I18nConfiguration {
      * To be concatenated with bundle name. For example:
      * {@value NAMED_RESOURCES_PREFIX}{@code .alt-messages}
      * configures resource with name {@code alt-messages}.
+     * <p>
+     * Properties ending with {@value CACHE_SIZE_SUFFIX} or
+     * {@value CACHE_REFRESH_SUFFIX} configure the cache of the named
+     * resources instead.
      */
     public static final String NAMED_RESOURCES_PREFIX = PREFIX + "resources.named.";
+    /**
+     * The configuration property for the maximum number of cached messages
+     * of each configured {@code I18nResources}.
+     * <p>
+     * If set configured resources are decorated with
+     * {@code CachingI18nResources}, unless overridden for named resources
+     * with {@value NAMED_RESOURCES_PREFIX}{@code <key>}{@value CACHE_SIZE_SUFFIX}.
+     * A value of {@code 0} disables caching. Not set by default.
+     *
+     * @see CachingI18nResources
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String RESOURCES_CACHE_SIZE = PREFIX + "resources.cache.size";
+    /**
+     * The configuration property for the refresh interval, in milliseconds,
+     * of cached messages of each configured {@code I18nResources}.
+     * <p>
+     * Only used if {@value RESOURCES_CACHE_SIZE} is set. Cached messages
+     * are not refreshed by default.
+     *
+     * @see CachingI18nResources
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String RESOURCES_CACHE_REFRESH = PREFIX + "resources.cache.refresh";
+    /**
+     * The configuration property suffix for the maximum number of cached
+     * messages of named {@code I18nResources}, overriding
+     * {@value RESOURCES_CACHE_SIZE}. A value of {@code 0} disables caching
+     * of the named resources.
+     * <p>
+     * To be concatenated with {@value NAMED_RESOURCES_PREFIX} and the
+     * resources name. For example:
+     * {@value NAMED_RESOURCES_PREFIX}{@code alt-messages}{@value CACHE_SIZE_SUFFIX}
+     * configures the cache size of resources with name
+     * {@code alt-messages}.
+     *
+     * @see #NAMED_RESOURCES_PREFIX
+     * @see CachingI18nResources
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String CACHE_SIZE_SUFFIX = ".cache.size";
+    /**
+     * The configuration property suffix for the refresh interval, in
+     * milliseconds, of cached messages of named {@code I18nResources},
+     * overriding {@value RESOURCES_CACHE_REFRESH}.
+     *
+     * @see #NAMED_RESOURCES_PREFIX
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static final String CACHE_REFRESH_SUFFIX = ".cache.refresh";
 
     /** The default configuration resource, relative to this class. */
     @API(status=Status.INTERNAL, since="0.1")
@@ -0,0 +1,113 @@
+package dev.orne.i18n.context;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.MessageFormat;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Utility methods for formatting I18N messages into {@code Appendable}
+ * instances.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ */
+@API(status=Status.INTERNAL, since="0.2")
+final class MessageFormats {
+
+    /** The size of the chunks copied to {@code Writer} instances. */
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * Private constructor.
+     */
+    private MessageFormats() {
+        // Utility class
+    }
+
+    /**
+     * Formats the specified message pattern with {@code MessageFormat} and
+     * appends the result to the specified {@code Appendable}.
+     * <p>
+     * Patterns without format elements or quotes are appended as is,
+     * without parsing them. If the pattern is not valid, or the parameters
+     * don't match the pattern, the pattern is appended as is, as
+     * {@code I18nResources.getMessage()} does.
+     *
+     * @param out The {@code Appendable} to append to
+     * @param pattern The message pattern
+     * @param params The message parameters
+     * @throws IOException If an I/O error occurs
+     */
+    static void format(
+            final @NotNull Appendable out,
+            final @NotNull String pattern,
+            final Object... params)
+    throws IOException {
+        if (pattern.indexOf('{') == -1 && pattern.indexOf('\'') == -1) {
+            out.append(pattern);
+            return;
+        }
+        final StringBuffer buffer = new StringBuffer(pattern.length() + 16);
+        try {
+            new MessageFormat(pattern).format(params, buffer, null);
+        } catch (final IllegalArgumentException ignore) {
+            out.append(pattern);
+            return;
+        }
+        append(out, buffer);
+    }
+
+    /**
+     * Appends the specified characters to the specified {@code Appendable}.
+     * Characters are copied to {@code Writer} instances in chunks, without
+     * converting them to a {@code String}.
+     *
+     * @param out The {@code Appendable} to append to
+     * @param chars The characters to append
+     * @throws IOException If an I/O error occurs
+     */
+    static void append(
+            final @NotNull Appendable out,
+            final @NotNull StringBuffer chars)
+    throws IOException {
+        if (out instanceof Writer) {
+            final Writer writer = (Writer) out;
+            final char[] chunk = new char[Math.min(CHUNK_SIZE, chars.length())];
+            for (int start = 0; start < chars.length(); start += chunk.length) {
+                final int end = Math.min(start + chunk.length, chars.length());
+                chars.getChars(start, end, chunk, 0);
+                writer.write(chunk, 0, end - start);
+            }
+        } else {
+            out.append(chars);
+        }
+    }
+}
@@ -101,6 +101,18 @@ extends AbstractI18nContextProvider {
         this.context = null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation discards the shared context, so a new one is
+     * created for the new session on next access.
+     */
+    @Override
+    public synchronized void invalidate() {
+        super.invalidate();
+        this.context = null;
+    }
+
     /**
      * {@inheritDoc}
      */
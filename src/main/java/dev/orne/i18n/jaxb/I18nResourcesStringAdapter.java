@@ -93,4 +93,44 @@ extends XmlAdapter<XmlI18nString, I18nResourcesString> {
             return JaxbUtils.toFullXml(value);
         }
     }
+
+    /**
+     * JAXB adapter for {@code I18nResourcesString} instances that marshalls
+     * their structured form, with the resources key, codes, arguments and
+     * unformatted default text, allowing clients to resolve the texts.
+     * Supports unmarshalling, restoring text arguments as text.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @see I18nResourcesString
+     * @see XmlI18nResourcesString
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static class Structured
+    extends XmlAdapter<XmlI18nResourcesString, I18nResourcesString> {
+
+        /**
+         * Creates a new instance.
+         */
+        public Structured() {
+            super();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public XmlI18nResourcesString marshal(final I18nResourcesString value) {
+            return JaxbUtils.toStructuredXml(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public I18nResourcesString unmarshal(final XmlI18nResourcesString value) {
+            return JaxbUtils.fromStructuredXml(value);
+        }
+    }
 }
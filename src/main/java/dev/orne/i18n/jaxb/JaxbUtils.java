@@ -23,8 +23,8 @@ package dev.orne.i18n.jaxb;
  */
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.validation.constraints.NotNull;
@@ -33,8 +33,12 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.i18n.I18nFixedString;
+import dev.orne.i18n.I18nLanguageProjection;
+import dev.orne.i18n.I18nResourcesString;
 import dev.orne.i18n.I18nString;
+import dev.orne.i18n.I18nStringLimits;
 import dev.orne.i18n.I18nStringMap;
+import dev.orne.i18n.I18nStringPool;
 
 /**
  * Utility class for Jakarta XML Binding (JAXB)
@@ -83,6 +87,26 @@ public final class JaxbUtils {
      */
     public static XmlI18nString toFullXml(
             final I18nString value) {
+        return toFullXml(value, null);
+    }
+
+    /**
+     * Converts the specified {@code I18nString} to {@code XmlI18NString}
+     * containing the available translations included in the specified
+     * language projection.
+     * Calls {@code I18nString.asMap()} to retrieve the full translations
+     * version.
+     * 
+     * @param value The {@code I18nString} to convert
+     * @param projection The languages to include, or {@code null} to
+     * include all the available translations
+     * @return The {@code XmlI18NString} to marshall
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static XmlI18nString toFullXml(
+            final I18nString value,
+            final I18nLanguageProjection projection) {
         final XmlI18nString result;
         if (value == null) {
             result = null;
@@ -91,6 +115,9 @@ public final class JaxbUtils {
             result = new XmlI18nString();
             result.getContent().add(map.getDefaultText());
             for (final Map.Entry<String,String> entry : map.getI18n().entrySet()) {
+                if (projection != null && !projection.includes(entry.getKey())) {
+                    continue;
+                }
                 final XmlI18nStringTranslation translation = new XmlI18nStringTranslation();
                 translation.setLang(entry.getKey());
                 translation.setValue(entry.getValue());
@@ -105,33 +132,159 @@ public final class JaxbUtils {
      * If {@code XmlI18NString} contains {@code XmlI18NStringTranslation}
      * instances a {@code I18nStringMap} is returned.
      * Otherwise a {@code I18nFixedString} is returned.
+     * <p>
+     * If a shared {@code I18nStringPool} is configured the returned
+     * instances are canonicalized through it.
+     * <p>
+     * If shared {@code I18nStringLimits} are configured they are checked.
      * 
      * @param value The {@code XmlI18NString} to convert
      * @return The equivalent {@code I18nString}
+     * @throws IllegalArgumentException If the value exceeds the shared
+     * limits
+     * @see I18nStringLimits#getShared()
      */
     public static @NotNull I18nString fromXml(
             final @NotNull XmlI18nString value) {
+        return fromXml(value, I18nStringLimits.getShared());
+    }
+
+    /**
+     * Converts the specified {@code XmlI18NString} to {@code I18nString},
+     * checking the specified limits.
+     * If {@code XmlI18NString} contains {@code XmlI18NStringTranslation}
+     * instances a {@code I18nStringMap} is returned.
+     * Otherwise a {@code I18nFixedString} is returned.
+     * <p>
+     * Each translation is checked before adding it, so oversized values
+     * fail before the {@code I18nString} is created.
+     * <p>
+     * If a shared {@code I18nStringPool} is configured the returned
+     * instances are canonicalized through it.
+     * 
+     * @param value The {@code XmlI18NString} to convert
+     * @param limits The limits to check, or {@code null} for no limits
+     * @return The equivalent {@code I18nString}
+     * @throws IllegalArgumentException If the value exceeds the limits
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static @NotNull I18nString fromXml(
+            final @NotNull XmlI18nString value,
+            final I18nStringLimits limits) {
         final StringBuilder buffer = new StringBuilder();
-        final List<XmlI18nStringTranslation> translations = new ArrayList<>();
+        final Map<String, String> translations = new LinkedHashMap<>();
         for (final Serializable part : value.getContent()) {
             if (part instanceof XmlI18nStringTranslation) {
-                translations.add((XmlI18nStringTranslation) part);
+                final XmlI18nStringTranslation trans = (XmlI18nStringTranslation) part;
+                if (limits != null) {
+                    checkTranslation(trans, translations, limits);
+                }
+                translations.put(trans.getLang(), trans.getValue());
             } else {
                 buffer.append(part.toString());
             }
         }
         final String text = buffer.toString().trim();
+        if (limits != null && !limits.allowsTextLength(text.length())) {
+            throw new IllegalArgumentException(String.format(
+                    "Default text longer than %d characters",
+                    limits.getMaxTextLength()));
+        }
         final I18nString result;
         if (translations.isEmpty()) {
             result = I18nFixedString.from(text);
         } else {
-            final I18nStringMap tmp = new I18nStringMap(text);
-            for (final XmlI18nStringTranslation trans : translations) {
-                tmp.set(
-                        trans.getLang(),
-                        trans.getValue());
+            result = I18nStringPool.canonicalShared(
+                    I18nStringMap.fromUntrusted(text, translations));
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the specified translation can be added to the specified
+     * translations.
+     * 
+     * @param translation The translation to check
+     * @param translations The current translations
+     * @param limits The limits to check
+     * @throws IllegalArgumentException If the translation exceeds the
+     * limits
+     */
+    private static void checkTranslation(
+            final @NotNull XmlI18nStringTranslation translation,
+            final @NotNull Map<String, String> translations,
+            final @NotNull I18nStringLimits limits) {
+        final String language = translation.getLang();
+        if (!limits.allowsLanguage(language)) {
+            throw new IllegalArgumentException(String.format(
+                    "Translation language '%s' not allowed",
+                    language));
+        }
+        if (!translations.containsKey(language)
+                && !limits.allowsLanguages(translations.size() + 1)) {
+            throw new IllegalArgumentException(String.format(
+                    "More than %d translations",
+                    limits.getMaxLanguages()));
+        }
+        final String text = translation.getValue();
+        if (text != null && !limits.allowsTextLength(text.length())) {
+            throw new IllegalArgumentException(String.format(
+                    "Text of translation '%s' longer than %d characters",
+                    language,
+                    limits.getMaxTextLength()));
+        }
+    }
+
+    /**
+     * Converts the specified {@code I18nResourcesString} to
+     * {@code XmlI18nResourcesString} containing its structured form.
+     * Text arguments are converted to text with {@code toString()}.
+     * 
+     * @param value The {@code I18nResourcesString} to convert
+     * @return The {@code XmlI18nResourcesString} to marshall
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static XmlI18nResourcesString toStructuredXml(
+            final I18nResourcesString value) {
+        final XmlI18nResourcesString result;
+        if (value == null) {
+            result = null;
+        } else {
+            result = new XmlI18nResourcesString();
+            result.setResources(value.getI18nResourcesKey());
+            result.setDefaultText(value.getDefaultText());
+            result.getCodes().addAll(Arrays.asList(value.getCodes()));
+            for (final Serializable argument : value.getArguments()) {
+                result.getArguments().add(argument == null ? null : argument.toString());
             }
-            result = tmp;
+        }
+        return result;
+    }
+
+    /**
+     * Converts the specified {@code XmlI18nResourcesString} to
+     * {@code I18nResourcesString}. Text arguments are restored as text.
+     * 
+     * @param value The {@code XmlI18nResourcesString} to convert
+     * @return The equivalent {@code I18nResourcesString}
+     * @throws NullPointerException If the default text is missing
+     * @throws IllegalArgumentException If the text codes are missing
+     * @since 0.2
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public static I18nResourcesString fromStructuredXml(
+            final XmlI18nResourcesString value) {
+        final I18nResourcesString result;
+        if (value == null) {
+            result = null;
+        } else {
+            result = I18nResourcesString.forDefault(value.getDefaultText())
+                    .ofResources(value.getResources())
+                    .withCodes(value.getCodes().toArray(new String[0]))
+                    .withArgs(value.getArguments().toArray(new Serializable[0]))
+                    .build();
         }
         return result;
     }
@@ -67,4 +67,14 @@ public class ObjectFactory {
     public XmlI18nStringTranslation createTranslation() {
         return new XmlI18nStringTranslation();
     }
+
+    /**
+     * Create an instance of {@link XmlI18nResourcesString}.
+     * 
+     * @return The instance of {@link XmlI18nResourcesString}.
+     * @since 0.2
+     */
+    public XmlI18nResourcesString createResourcesString() {
+        return new XmlI18nResourcesString();
+    }
 }
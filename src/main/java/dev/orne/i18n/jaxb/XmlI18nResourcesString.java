@@ -0,0 +1,177 @@
+package dev.orne.i18n.jaxb;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.i18n.I18nResourcesString;
+import dev.orne.i18n.I18nXmlSchema;
+
+/**
+ * XML representation of the structured form of I18N resources string.
+ * <p>The following schema fragment specifies the expected content contained
+ * within this class.
+ * <pre>
+ * &lt;complexType name="resourcesString"&gt;
+ *   &lt;sequence&gt;
+ *     &lt;element name="defaultText" type="{http://www.w3.org/2001/XMLSchema}string" form="qualified"/&gt;
+ *     &lt;element name="code" type="{http://www.w3.org/2001/XMLSchema}string" form="qualified" maxOccurs="unbounded"/&gt;
+ *     &lt;element name="argument" type="{http://www.w3.org/2001/XMLSchema}string" form="qualified" nillable="true" minOccurs="0" maxOccurs="unbounded"/&gt;
+ *   &lt;/sequence&gt;
+ *   &lt;attribute name="resources" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nResourcesString
+ * @since 0.2
+ */
+@API(status=Status.INTERNAL, since="0.2")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(
+        name=I18nXmlSchema.RESOURCES_STRING_TYPE,
+        namespace=I18nXmlSchema.NS,
+        propOrder={
+            "defaultText",
+            "codes",
+            "arguments"
+        })
+@XmlRootElement(
+        name=I18nXmlSchema.RESOURCES_STRING_ELEMENT,
+        namespace=I18nXmlSchema.NS)
+public class XmlI18nResourcesString
+implements Serializable {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The key of the I18N resources. */
+    @XmlAttribute(name=I18nXmlSchema.RESOURCES_STRING_RESOURCES_ATTR)
+    protected String resources;
+    /** The unformatted default text. */
+    @XmlElement(
+            name=I18nXmlSchema.RESOURCES_STRING_DEFAULT_TEXT_ELEMENT,
+            namespace=I18nXmlSchema.NS,
+            required=true)
+    protected String defaultText;
+    /** The I18N text codes, in order of priority. */
+    @XmlElement(
+            name=I18nXmlSchema.RESOURCES_STRING_CODE_ELEMENT,
+            namespace=I18nXmlSchema.NS,
+            required=true)
+    protected List<String> codes;
+    /** The text arguments. */
+    @XmlElement(
+            name=I18nXmlSchema.RESOURCES_STRING_ARGUMENT_ELEMENT,
+            namespace=I18nXmlSchema.NS,
+            nillable=true)
+    protected List<String> arguments;
+
+    /**
+     * Creates a new instance.
+     */
+    public XmlI18nResourcesString() {
+        super();
+    }
+
+    /**
+     * Gets the key of the I18N resources.
+     * 
+     * @return The key of the I18N resources, or {@code null} for the
+     * default ones
+     */
+    public String getResources() {
+        return this.resources;
+    }
+
+    /**
+     * Sets the key of the I18N resources.
+     * 
+     * @param value The key of the I18N resources, or {@code null} for the
+     * default ones
+     */
+    public void setResources(final String value) {
+        this.resources = value;
+    }
+
+    /**
+     * Gets the unformatted default text.
+     * 
+     * @return The unformatted default text
+     */
+    public String getDefaultText() {
+        return this.defaultText;
+    }
+
+    /**
+     * Sets the unformatted default text.
+     * 
+     * @param value The unformatted default text
+     */
+    public void setDefaultText(final String value) {
+        this.defaultText = value;
+    }
+
+    /**
+     * Gets the I18N text codes, in order of priority.
+     * <p>
+     * This accessor method returns a reference to the live list, not a
+     * snapshot.
+     * 
+     * @return The I18N text codes
+     */
+    public List<String> getCodes() {
+        if (this.codes == null) {
+            this.codes = new ArrayList<>();
+        }
+        return this.codes;
+    }
+
+    /**
+     * Gets the text arguments, as text.
+     * <p>
+     * This accessor method returns a reference to the live list, not a
+     * snapshot.
+     * 
+     * @return The text arguments
+     */
+    public List<String> getArguments() {
+        if (this.arguments == null) {
+            this.arguments = new ArrayList<>();
+        }
+        return this.arguments;
+    }
+}
@@ -0,0 +1,546 @@
+package dev.orne.i18n.spring;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPOutputStream;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.orne.i18n.I18N;
+import dev.orne.i18n.I18nCatalogResources;
+import dev.orne.i18n.I18nFallbackChain;
+import dev.orne.i18n.I18nResources;
+import dev.orne.i18n.context.CachingI18nResources;
+import dev.orne.i18n.context.I18nContext;
+
+/**
+ * Spring Web component that exports the catalogs of
+ * {@code I18nCatalogResources} as JSON objects, for clients that resolve
+ * and format the texts themselves.
+ * <p>
+ * The catalogs are serialized and compressed once per resources key,
+ * locale and I18N context provider session, and rebuilt only after the
+ * context provider is invalidated. Concurrent requests of the same catalog
+ * share a single export. Responses include strong ETags and conditional
+ * requests with matching {@code If-None-Match} headers, strong or weak,
+ * are answered with {@code 304 Not Modified}. Compressed catalogs are served
+ * to clients that accept {@code gzip} encoding.
+ * <p>
+ * The exporter is intended to be used from Spring MVC or WebFlux
+ * controllers:
+ * <pre>
+ * &#64;GetMapping("/i18n/{lang}")
+ * public ResponseEntity&lt;byte[]&gt; catalog(
+ *         &#64;PathVariable String lang,
+ *         &#64;RequestHeader HttpHeaders headers) {
+ *     return exporter.export(null, Locale.forLanguageTag(lang), headers);
+ * }
+ * </pre>
+ * 
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @see I18nCatalogResources
+ * @since 0.2
+ */
+@API(status=Status.EXPERIMENTAL, since="0.2")
+public class I18nSpringCatalogExporter {
+
+    /** The default maximum number of exported catalogs kept. */
+    public static final int DEFAULT_MAX_SIZE = 64;
+    /** The {@code gzip} content encoding. */
+    private static final String GZIP_ENCODING = "gzip";
+    /** The prefix of weak ETags. */
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    /** The ETag suffix of compressed catalogs. */
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    /** The hexadecimal digits. */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** The JSON object mapper. */
+    private final @NotNull ObjectMapper mapper;
+    /** The maximum number of exported catalogs kept. */
+    private final int maxSize;
+    /** The exported catalogs, in access order. */
+    private final @NotNull Map<CatalogKey, CatalogEntry> catalogs;
+
+    /**
+     * Creates a new instance with a default JSON object mapper.
+     */
+    public I18nSpringCatalogExporter() {
+        this(new ObjectMapper(), DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param mapper The JSON object mapper
+     * @param maxSize The maximum number of exported catalogs kept
+     */
+    public I18nSpringCatalogExporter(
+            final @NotNull ObjectMapper mapper,
+            final int maxSize) {
+        super();
+        Validate.isTrue(maxSize > 0, "Maximum size must be positive");
+        this.mapper = Validate.notNull(mapper);
+        this.maxSize = maxSize;
+        this.catalogs = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the maximum number of exported catalogs kept.
+     * 
+     * @return The maximum number of exported catalogs kept
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Returns the response with the catalog of the specified I18N resources
+     * for the specified locale.
+     * 
+     * @param resourcesKey The key of the I18N resources, or {@code null}
+     * for the default ones
+     * @param locale The locale of the catalog
+     * @param requestHeaders The HTTP request headers
+     * @return The HTTP response
+     * @throws UnsupportedOperationException If the I18N resources don't
+     * support catalogs
+     */
+    public @NotNull ResponseEntity<byte[]> export(
+            final String resourcesKey,
+            final @NotNull Locale locale,
+            final @NotNull HttpHeaders requestHeaders) {
+        Validate.notNull(locale);
+        Validate.notNull(requestHeaders);
+        final ExportedCatalog catalog = getCatalog(resourcesKey, locale);
+        final boolean compressed = acceptsGzip(requestHeaders);
+        final String etag = compressed ? catalog.gzipEtag : catalog.etag;
+        if (matches(requestHeaders.getIfNoneMatch(), catalog)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (compressed) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+                    .contentLength(catalog.gzip.length)
+                    .body(catalog.gzip);
+        }
+        return response
+                .contentLength(catalog.json.length)
+                .body(catalog.json);
+    }
+
+    /**
+     * Returns {@code true} if any of the specified {@code If-None-Match}
+     * entity tags matches the specified catalog. Uses the weak comparison
+     * of RFC 7232, ignoring the {@code W/} prefix of weak entity tags.
+     * 
+     * @param ifNoneMatch The entity tags of the {@code If-None-Match}
+     * request header
+     * @param catalog The exported catalog
+     * @return If the catalog has not been modified
+     */
+    protected static boolean matches(
+            final @NotNull List<String> ifNoneMatch,
+            final @NotNull ExportedCatalog catalog) {
+        for (final String value : ifNoneMatch) {
+            final String tag = value.startsWith(WEAK_ETAG_PREFIX) ?
+                    value.substring(WEAK_ETAG_PREFIX.length()) :
+                    value;
+            if ("*".equals(tag)
+                    || catalog.etag.equals(tag)
+                    || catalog.gzipEtag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Discards all the exported catalogs.
+     */
+    public void clear() {
+        synchronized (this.catalogs) {
+            this.catalogs.clear();
+        }
+    }
+
+    /**
+     * Returns the exported catalog of the specified I18N resources for the
+     * specified locale, exporting it if not exported for the current I18N
+     * context provider session.
+     * <p>
+     * Concurrent requests of a catalog not exported yet wait for a single
+     * export, performed by the first of them. Failed exports are not kept.
+     * 
+     * @param resourcesKey The key of the I18N resources, or {@code null}
+     * for the default ones
+     * @param locale The locale of the catalog
+     * @return The exported catalog
+     */
+    protected @NotNull ExportedCatalog getCatalog(
+            final String resourcesKey,
+            final @NotNull Locale locale) {
+        final UUID session = I18nContext.getInstance().getProviderUUID();
+        final CatalogKey key = new CatalogKey(resourcesKey, I18nFallbackChain.toTag(locale));
+        final CatalogEntry entry;
+        boolean export = false;
+        synchronized (this.catalogs) {
+            final CatalogEntry current = this.catalogs.get(key);
+            if (current == null || !current.session.equals(session)) {
+                entry = new CatalogEntry(session);
+                export = true;
+                this.catalogs.put(key, entry);
+                if (this.catalogs.size() > this.maxSize) {
+                    this.catalogs.remove(this.catalogs.keySet().iterator().next());
+                }
+            } else {
+                entry = current;
+            }
+        }
+        if (export) {
+            try {
+                entry.future.complete(new ExportedCatalog(
+                        session,
+                        toJson(getCatalogResources(resourcesKey).getCatalog(locale))));
+            } catch (final RuntimeException | Error e) {
+                synchronized (this.catalogs) {
+                    this.catalogs.remove(key, entry);
+                }
+                entry.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the I18N resources with the specified key, unwrapping caching
+     * decorators.
+     * 
+     * @param resourcesKey The key of the I18N resources, or {@code null}
+     * for the default ones
+     * @return The I18N resources
+     * @throws UnsupportedOperationException If the I18N resources don't
+     * support catalogs
+     */
+    protected @NotNull I18nCatalogResources getCatalogResources(
+            final String resourcesKey) {
+        I18nResources resources = I18N.getResources(resourcesKey);
+        while (resources instanceof CachingI18nResources) {
+            resources = ((CachingI18nResources) resources).getDelegate();
+        }
+        if (!(resources instanceof I18nCatalogResources)) {
+            throw new UnsupportedOperationException(
+                    "I18N resources do not support catalog exporting: "
+                    + resources.getClass().getName());
+        }
+        return (I18nCatalogResources) resources;
+    }
+
+    /**
+     * Serializes the specified catalog as a JSON object.
+     * 
+     * @param catalog The catalog
+     * @return The UTF-8 encoded JSON object
+     */
+    protected @NotNull byte[] toJson(
+            final @NotNull Map<String, String> catalog) {
+        try {
+            return this.mapper.writeValueAsBytes(catalog);
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified request headers accept
+     * {@code gzip} content encoding.
+     * 
+     * @param requestHeaders The HTTP request headers
+     * @return If {@code gzip} content encoding is accepted
+     */
+    protected static boolean acceptsGzip(
+            final @NotNull HttpHeaders requestHeaders) {
+        final List<String> values = requestHeaders.get(HttpHeaders.ACCEPT_ENCODING);
+        if (values == null) {
+            return false;
+        }
+        for (final String value : values) {
+            for (final String coding : value.split(",")) {
+                final String[] parts = coding.split(";");
+                if (GZIP_ENCODING.equalsIgnoreCase(parts[0].trim())
+                        && !isZeroQuality(parts)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if the specified content coding parameters
+     * include a zero quality value.
+     * 
+     * @param parts The content coding and its parameters
+     * @return If the quality value is zero
+     */
+    private static boolean isZeroQuality(
+            final @NotNull String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (final NumberFormatException ignore) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Key of the exported catalogs.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    @API(status=Status.INTERNAL, since="0.2")
+    private static final class CatalogKey {
+
+        /** The key of the I18N resources. */
+        private final String resourcesKey;
+        /** The language tag of the catalog. */
+        private final @NotNull String language;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param resourcesKey The key of the I18N resources
+         * @param language The language tag of the catalog
+         */
+        CatalogKey(
+                final String resourcesKey,
+                final @NotNull String language) {
+            super();
+            this.resourcesKey = resourcesKey;
+            this.language = language;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder()
+                    .append(this.resourcesKey)
+                    .append(this.language)
+                    .toHashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null) { return false; }
+            if (obj == this) { return true; }
+            if (!getClass().equals(obj.getClass())) { return false; }
+            final CatalogKey other = (CatalogKey) obj;
+            return new EqualsBuilder()
+                    .append(this.resourcesKey, other.resourcesKey)
+                    .append(this.language, other.language)
+                    .isEquals();
+        }
+    }
+
+    /**
+     * Entry of the exported catalogs, completed once the catalog is
+     * exported.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    @API(status=Status.INTERNAL, since="0.2")
+    private static final class CatalogEntry {
+
+        /** The I18N context provider session of the catalog. */
+        private final @NotNull UUID session;
+        /** The exported catalog, once exported. */
+        private final @NotNull CompletableFuture<ExportedCatalog> future =
+                new CompletableFuture<>();
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param session The I18N context provider session of the catalog
+         */
+        CatalogEntry(
+                final @NotNull UUID session) {
+            super();
+            this.session = session;
+        }
+    }
+
+    /**
+     * Exported catalog, serialized and compressed.
+     * 
+     * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.2
+     */
+    @API(status=Status.INTERNAL, since="0.2")
+    protected static final class ExportedCatalog {
+
+        /** The I18N context provider session of the catalog. */
+        private final @NotNull UUID session;
+        /** The UTF-8 encoded JSON catalog. */
+        private final @NotNull byte[] json;
+        /** The compressed JSON catalog. */
+        private final @NotNull byte[] gzip;
+        /** The ETag of the JSON catalog. */
+        private final @NotNull String etag;
+        /** The ETag of the compressed JSON catalog. */
+        private final @NotNull String gzipEtag;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param session The I18N context provider session of the catalog
+         * @param json The UTF-8 encoded JSON catalog
+         */
+        ExportedCatalog(
+                final @NotNull UUID session,
+                final @NotNull byte[] json) {
+            super();
+            this.session = session;
+            this.json = json;
+            this.gzip = gzip(json);
+            final String hash = sha256(json);
+            this.etag = "\"" + hash + "\"";
+            this.gzipEtag = "\"" + hash + GZIP_ETAG_SUFFIX + "\"";
+        }
+
+        /**
+         * Returns the UTF-8 encoded JSON catalog.
+         * 
+         * @return The UTF-8 encoded JSON catalog
+         */
+        public @NotNull byte[] getJson() {
+            return this.json.clone();
+        }
+
+        /**
+         * Returns the ETag of the JSON catalog.
+         * 
+         * @return The ETag of the JSON catalog
+         */
+        public @NotNull String getEtag() {
+            return this.etag;
+        }
+
+        /**
+         * Compresses the specified data with {@code gzip}.
+         * 
+         * @param data The data to compress
+         * @return The compressed data
+         */
+        private static @NotNull byte[] gzip(
+                final @NotNull byte[] data) {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4 + 32);
+            try (final GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(data);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+
+        /**
+         * Returns the hexadecimal SHA-256 digest of the specified data.
+         * 
+         * @param data The data
+         * @return The hexadecimal digest
+         */
+        private static @NotNull String sha256(
+                final @NotNull byte[] data) {
+            final byte[] digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256").digest(data);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            final char[] result = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                result[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+                result[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+            }
+            return new String(result);
+        }
+    }
+}
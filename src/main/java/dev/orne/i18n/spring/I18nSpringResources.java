@@ -23,7 +23,14 @@ package dev.orne.i18n.spring;
  */
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import javax.validation.constraints.NotNull;
 
@@ -32,12 +39,21 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.AbstractResourceBasedMessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.util.ClassUtils;
 
+import dev.orne.i18n.I18nCatalogResources;
 import dev.orne.i18n.I18nResources;
 
 /**
  * Implementation of {@code I18nResources} based on Spring
  * {@code MessageSource}.
+ * <p>
+ * Catalogs can be exported for resource based message sources, as
+ * {@code ResourceBundleMessageSource} and
+ * {@code ReloadableResourceBundleMessageSource}, loading the message codes
+ * of their class path base names as resource bundles.
  * 
  * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
  * @version 1.0, 2021-01
@@ -47,7 +63,10 @@ import dev.orne.i18n.I18nResources;
  */
 @API(status=Status.STABLE, since="0.1")
 public class I18nSpringResources
-implements I18nResources {
+implements I18nCatalogResources {
+
+    /** The class path resources prefix of Spring resource locations. */
+    private static final String CLASSPATH_PREFIX = "classpath:";
 
     /** The I18N messages source. */
     private final @NotNull MessageSource source;
@@ -111,4 +130,59 @@ implements I18nResources {
         }
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The message codes are loaded from the base names of the message
+     * source as class path resource bundles. Base names of
+     * {@code ResourceBundleMessageSource} are class path bundle names. Other
+     * resource based message sources, as
+     * {@code ReloadableResourceBundleMessageSource}, must use
+     * {@code classpath:} base names. Class path bundles that can't be
+     * loaded are ignored. The messages are retrieved from the message
+     * source without arguments.
+     * 
+     * @throws UnsupportedOperationException If the message source is not
+     * resource based or any of its base names is not a class path location
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.2")
+    public @NotNull Map<@NotNull String, @NotNull String> getCatalog(
+            final @NotNull Locale locale) {
+        Validate.notNull(locale);
+        if (!(this.source instanceof AbstractResourceBasedMessageSource)) {
+            throw new UnsupportedOperationException(
+                    "Message source does not support catalog exporting: "
+                    + this.source.getClass().getName());
+        }
+        final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        final Set<String> codes = new TreeSet<>();
+        for (final String basename : ((AbstractResourceBasedMessageSource) this.source).getBasenameSet()) {
+            final String bundleName;
+            if (basename.startsWith(CLASSPATH_PREFIX)) {
+                bundleName = basename.substring(CLASSPATH_PREFIX.length());
+            } else if (this.source instanceof ResourceBundleMessageSource) {
+                bundleName = basename;
+            } else {
+                throw new UnsupportedOperationException(
+                        "Message source base name is not a class path location: "
+                        + basename);
+            }
+            try {
+                codes.addAll(ResourceBundle.getBundle(bundleName, locale, classLoader).keySet());
+            } catch (final MissingResourceException ignore) {
+                // Ignored
+            }
+        }
+        final Map<String, String> result = new TreeMap<>();
+        for (final String code : codes) {
+            try {
+                result.put(code, this.source.getMessage(code, null, locale));
+            } catch (final NoSuchMessageException ignore) {
+                // Ignored
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
 }
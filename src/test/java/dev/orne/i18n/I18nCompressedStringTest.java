@@ -0,0 +1,142 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nCompressedString}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nCompressedString
+ */
+@Tag("ut")
+class I18nCompressedStringTest {
+
+    private static final String LONG_TEXT = "A long description of a very useful"
+            + " item, with several features and benefits. ";
+    private static final String MOCK_DEF_MSG = LONG_TEXT + LONG_TEXT + "default";
+    private static final String MOCK_XX_MSG = LONG_TEXT + LONG_TEXT + "xx";
+    private static final String MOCK_YY_MSG = "mock yy message";
+    private static final String XX_LANG = "xx";
+    private static final String YY_LANG = "yy";
+
+    private static I18nStringMap createMap() {
+        return new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .set(YY_LANG, MOCK_YY_MSG);
+    }
+
+    /**
+     * Test {@link I18nCompressedString#of(I18nString, I18nTextCompressor)}.
+     */
+    @Test
+    void testOf() {
+        final I18nTextCompressor compressor = new I18nTextCompressor();
+        final I18nStringMap map = createMap();
+        final I18nCompressedString result = I18nCompressedString.of(map, compressor);
+        assertSame(compressor, result.getCompressor());
+        assertEquals(MOCK_DEF_MSG, result.getDefaultText());
+        assertEquals(map.getI18n(), result.getI18n());
+        assertSame(result, I18nCompressedString.of(result, compressor));
+        assertSame(result, I18nCompressedString.of(result, new I18nTextCompressor()));
+        assertNull(I18nCompressedString.of(null, compressor));
+        assertThrows(NullPointerException.class, () -> {
+            I18nCompressedString.of(map, null);
+        });
+    }
+
+    /**
+     * Test {@link I18nCompressedString#get(String)} and
+     * {@link I18nCompressedString#get(Locale)}.
+     */
+    @Test
+    void testGet() {
+        final I18nCompressedString bean = new I18nTextCompressor().compress(createMap());
+        assertEquals(MOCK_XX_MSG, bean.get(XX_LANG));
+        assertEquals(MOCK_XX_MSG, bean.get("xx-ZZ"));
+        assertEquals(MOCK_YY_MSG, bean.get(new Locale(YY_LANG, "ZZ")));
+        assertEquals(MOCK_DEF_MSG, bean.get("zz"));
+        assertEquals(MOCK_DEF_MSG, bean.toString());
+    }
+
+    /**
+     * Test {@link I18nCompressedString#equals(Object)},
+     * {@link I18nCompressedString#hashCode()} and
+     * {@link I18nCompressedString#isEquivalent(I18nString)}.
+     */
+    @Test
+    void testEquality() {
+        final I18nStringMap map = createMap();
+        final I18nCompressedString bean = new I18nTextCompressor().compress(map);
+        final I18nCompressedString other = new I18nTextCompressor(
+                I18nTextCompressor.train(Arrays.asList(MOCK_DEF_MSG, MOCK_XX_MSG), 1024))
+                .compress(map);
+        assertEquals(bean, new I18nTextCompressor().compress(map));
+        assertEquals(bean, other);
+        assertEquals(map.hashCode(), bean.hashCode());
+        assertEquals(map.hashCode(), other.hashCode());
+        assertNotEquals(bean, map);
+        assertNotEquals(bean, new I18nTextCompressor().compress(
+                createMap().set(XX_LANG, MOCK_YY_MSG)));
+        assertTrue(bean.isEquivalent(map));
+        assertTrue(map.isEquivalent(bean));
+        assertTrue(map.freeze().isEquivalent(bean));
+        assertFalse(bean.isEquivalent(I18nFixedString.from(MOCK_XX_MSG)));
+        assertEquals(map, bean.asMap());
+        assertEquals(map, new I18nStringMap(bean));
+    }
+
+    /**
+     * Test {@code I18nCompressedString} serialization.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testSerialization() throws Exception {
+        final I18nCompressedString bean = new I18nTextCompressor().compress(createMap());
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(bean);
+        }
+        final I18nCompressedString result;
+        try (final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            result = (I18nCompressedString) in.readObject();
+        }
+        assertEquals(bean, result);
+        assertEquals(MOCK_XX_MSG, result.get(XX_LANG));
+    }
+}
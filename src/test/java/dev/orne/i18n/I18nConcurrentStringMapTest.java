@@ -0,0 +1,179 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nConcurrentStringMap}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nConcurrentStringMap
+ */
+@Tag("ut")
+class I18nConcurrentStringMapTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final String MOCK_XX_MSG = "mock xx message";
+    private static final String MOCK_YY_MSG = "mock yy message";
+    private static final String XX_LANG = "xx";
+    private static final String YY_LANG = "yy";
+
+    /**
+     * Test {@link I18nConcurrentStringMap#set(String, String)}.
+     */
+    @Test
+    void testSet() {
+        final I18nConcurrentStringMap bean = new I18nConcurrentStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .set(new Locale(YY_LANG), MOCK_YY_MSG);
+        assertEquals(MOCK_DEF_MSG, bean.getDefaultText());
+        assertEquals(MOCK_XX_MSG, bean.get(XX_LANG));
+        assertEquals(MOCK_YY_MSG, bean.get(new Locale(YY_LANG, "ZZ")));
+        assertEquals(MOCK_DEF_MSG, bean.get("zz"));
+        bean.remove(XX_LANG);
+        assertEquals(MOCK_DEF_MSG, bean.get(XX_LANG));
+        assertThrows(NullPointerException.class, () -> {
+            bean.set((String) null, MOCK_XX_MSG);
+        });
+    }
+
+    /**
+     * Test {@link I18nConcurrentStringMap#snapshot()}.
+     */
+    @Test
+    void testSnapshot() {
+        final I18nConcurrentStringMap bean = new I18nConcurrentStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        final I18nFrozenString snapshot = bean.snapshot();
+        final Map<String, String> translations = bean.getI18n();
+        bean.set(XX_LANG, MOCK_YY_MSG);
+        assertEquals(MOCK_XX_MSG, snapshot.get(XX_LANG));
+        assertEquals(MOCK_XX_MSG, translations.get(XX_LANG));
+        assertEquals(MOCK_YY_MSG, bean.get(XX_LANG));
+    }
+
+    /**
+     * Test {@link I18nConcurrentStringMap#setI18n(Map)}.
+     */
+    @Test
+    void testSetI18n() {
+        final Map<String, String> translations = new HashMap<>();
+        translations.put(YY_LANG, MOCK_YY_MSG);
+        final I18nConcurrentStringMap bean = new I18nConcurrentStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .setI18n(translations);
+        assertEquals(translations, bean.getI18n());
+        translations.put(XX_LANG, MOCK_XX_MSG);
+        assertEquals(1, bean.getI18n().size());
+    }
+
+    /**
+     * Test {@link I18nConcurrentStringMap#update(java.util.function.Consumer)}.
+     */
+    @Test
+    void testUpdate_Failed() {
+        final I18nConcurrentStringMap bean = new I18nConcurrentStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        final I18nFrozenString snapshot = bean.snapshot();
+        assertThrows(IllegalStateException.class, () -> {
+            bean.update(map -> {
+                map.set(XX_LANG, MOCK_YY_MSG);
+                throw new IllegalStateException();
+            });
+        });
+        assertSame(snapshot, bean.snapshot());
+    }
+
+    /**
+     * Test that concurrent readers never see partial updates.
+     */
+    @Test
+    void testUpdate_Atomic()
+    throws Exception {
+        final I18nConcurrentStringMap bean = new I18nConcurrentStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, "0")
+                .set(YY_LANG, "0");
+        final AtomicBoolean torn = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                for (int i = 1; i < 5000; i++) {
+                    final String value = String.valueOf(i);
+                    bean.update(map -> map.set(XX_LANG, value).set(YY_LANG, value));
+                }
+            });
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                readers.add(executor.submit(() -> {
+                    while (!writer.isDone()) {
+                        final I18nFrozenString snapshot = bean.snapshot();
+                        if (!snapshot.get(XX_LANG).equals(snapshot.get(YY_LANG))) {
+                            torn.set(true);
+                        }
+                    }
+                }));
+            }
+            writer.get(10, TimeUnit.SECONDS);
+            for (final Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(torn.get());
+        assertEquals("4999", bean.get(XX_LANG));
+    }
+
+    /**
+     * Test {@link I18nConcurrentStringMap#isEquivalent(I18nString)}.
+     */
+    @Test
+    void testIsEquivalent() {
+        final I18nConcurrentStringMap bean = new I18nConcurrentStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        final I18nStringMap map = new I18nStringMap(bean);
+        assertEquals(MOCK_DEF_MSG, map.getDefaultText());
+        assertEquals(bean.getI18n(), map.getI18n());
+        assertTrue(bean.isEquivalent(map));
+        assertTrue(map.isEquivalent(bean));
+        assertEquals(bean, new I18nConcurrentStringMap(bean));
+        assertEquals(bean.hashCode(), new I18nConcurrentStringMap(map).hashCode());
+    }
+}
@@ -0,0 +1,136 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nFallbackChain}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nFallbackChain
+ */
+@Tag("ut")
+class I18nFallbackChainTest {
+
+    /**
+     * Test {@link I18nFallbackChain#of(String)}.
+     */
+    @Test
+    void testOf_Tag() {
+        assertEquals(Arrays.asList("xx"), I18nFallbackChain.of("xx").toList());
+        assertEquals(Arrays.asList("xx-YY", "xx"), I18nFallbackChain.of("xx-YY").toList());
+        assertEquals(
+                Arrays.asList("es-ES-valencia", "es-ES", "es"),
+                I18nFallbackChain.of("es-ES-valencia").toList());
+        assertEquals(
+                Arrays.asList("zh-Hant-TW", "zh-Hant", "zh"),
+                I18nFallbackChain.of("zh-Hant-TW").toList());
+        assertEquals(Arrays.asList(""), I18nFallbackChain.of("").toList());
+        assertThrows(NullPointerException.class, () -> {
+            I18nFallbackChain.of((String) null);
+        });
+    }
+
+    /**
+     * Test {@link I18nFallbackChain#of(String)}.
+     */
+    @Test
+    void testOf_Tag_Singletons() {
+        assertEquals(
+                Arrays.asList("de-CH-x-phonebk", "de-CH", "de"),
+                I18nFallbackChain.of("de-CH-x-phonebk").toList());
+        assertEquals(
+                Arrays.asList("x-private"),
+                I18nFallbackChain.of("x-private").toList());
+    }
+
+    /**
+     * Test {@link I18nFallbackChain#of(String)}.
+     */
+    @Test
+    void testOf_Tag_Cached() {
+        assertSame(I18nFallbackChain.of("xx-YY"), I18nFallbackChain.of("xx-YY"));
+    }
+
+    /**
+     * Test {@link I18nFallbackChain#of(Locale)}.
+     */
+    @Test
+    void testOf_Locale() {
+        assertEquals(Arrays.asList("xx"), I18nFallbackChain.of(new Locale("xx")).toList());
+        assertEquals(
+                Arrays.asList("xx-YY", "xx"),
+                I18nFallbackChain.of(new Locale("xx", "YY")).toList());
+        assertEquals(
+                Arrays.asList("xx-yy", "xx"),
+                I18nFallbackChain.of(new Locale("xx-YY")).toList());
+        assertEquals(
+                Arrays.asList("es-ES-valencia", "es-ES", "es"),
+                I18nFallbackChain.of(new Locale("es", "ES", "valencia")).toList());
+        assertEquals(
+                Arrays.asList("sr-Latn-RS", "sr-Latn", "sr"),
+                I18nFallbackChain.of(Locale.forLanguageTag("sr-Latn-RS")).toList());
+        assertEquals(Arrays.asList(""), I18nFallbackChain.of(Locale.ROOT).toList());
+        assertSame(
+                I18nFallbackChain.of(new Locale("xx", "YY")),
+                I18nFallbackChain.of(new Locale("xx", "YY")));
+        assertThrows(NullPointerException.class, () -> {
+            I18nFallbackChain.of((Locale) null);
+        });
+    }
+
+    /**
+     * Test {@link I18nFallbackChain#toTag(Locale)}.
+     */
+    @Test
+    void testToTag() {
+        assertEquals("xx", I18nFallbackChain.toTag(new Locale("xx")));
+        assertEquals("xx-YY", I18nFallbackChain.toTag(new Locale("xx", "YY")));
+        assertEquals("xx-YY-a-b", I18nFallbackChain.toTag(new Locale("xx", "YY", "a_b")));
+        assertEquals("", I18nFallbackChain.toTag(new Locale("", "YY")));
+    }
+
+    /**
+     * Test {@link I18nFallbackChain#toList()}.
+     */
+    @Test
+    void testToList_Unmodifiable() {
+        final List<String> list = I18nFallbackChain.of("xx-YY").toList();
+        assertThrows(UnsupportedOperationException.class, () -> {
+            list.set(0, "zz");
+        });
+        assertEquals("xx-YY", I18nFallbackChain.of("xx-YY").getTag());
+        assertEquals(2, I18nFallbackChain.of("xx-YY").size());
+        assertEquals("xx", I18nFallbackChain.of("xx-YY").get(1));
+    }
+}
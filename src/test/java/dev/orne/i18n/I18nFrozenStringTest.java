@@ -0,0 +1,205 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nFrozenString}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nFrozenString
+ */
+@Tag("ut")
+class I18nFrozenStringTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final String MOCK_XX_MSG = "mock xx message";
+    private static final String MOCK_YY_MSG = "mock yy message";
+    private static final String XX_LANG = "xx";
+    private static final String YY_LANG = "yy";
+
+    /**
+     * Test {@link I18nStringMap#freeze()}.
+     */
+    @Test
+    void testFreeze() {
+        final I18nStringMap map = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        final I18nFrozenString result = map.freeze();
+        assertEquals(MOCK_DEF_MSG, result.getDefaultText());
+        assertEquals(map.getI18n(), result.getI18n());
+        assertEquals(MOCK_XX_MSG, result.get(XX_LANG));
+        assertEquals(MOCK_XX_MSG, result.get(new Locale(XX_LANG, "ZZ")));
+        assertEquals(MOCK_DEF_MSG, result.get(YY_LANG));
+        assertEquals(map.hashCode(), result.hashCode());
+        assertTrue(result.isEquivalent(map));
+        assertTrue(map.isEquivalent(result));
+        assertNotEquals(map, result);
+    }
+
+    /**
+     * Test {@link I18nStringMap#freeze()}.
+     */
+    @Test
+    void testFreeze_SourceModified() {
+        final I18nStringMap map = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        final I18nFrozenString result = map.freeze();
+        map.set(XX_LANG, MOCK_YY_MSG);
+        map.getI18n().entrySet().iterator().next().setValue(MOCK_YY_MSG);
+        map.set(YY_LANG, MOCK_YY_MSG);
+        map.setDefaultText(MOCK_YY_MSG);
+        assertEquals(MOCK_DEF_MSG, result.getDefaultText());
+        assertEquals(1, result.getI18n().size());
+        assertEquals(MOCK_XX_MSG, result.get(XX_LANG));
+    }
+
+    /**
+     * Test {@link I18nFrozenString#getI18n()}.
+     */
+    @Test
+    void testGetI18n_Unmodifiable() {
+        final I18nFrozenString result = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze();
+        assertThrows(UnsupportedOperationException.class, () -> {
+            result.getI18n().put(YY_LANG, MOCK_YY_MSG);
+        });
+        assertThrows(UnsupportedOperationException.class, () -> {
+            result.getI18n().remove(XX_LANG);
+        });
+    }
+
+    /**
+     * Test {@link I18nStringMap#I18nStringMap(I18nString)} with a frozen
+     * instance.
+     */
+    @Test
+    void testCopyConstructor() {
+        final I18nFrozenString frozen = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze();
+        final I18nStringMap result = new I18nStringMap(frozen);
+        assertEquals(MOCK_DEF_MSG, result.getDefaultText());
+        assertEquals(frozen.getI18n(), result.getI18n());
+        result.set(XX_LANG, MOCK_YY_MSG);
+        assertEquals(MOCK_XX_MSG, frozen.get(XX_LANG));
+        assertEquals(MOCK_YY_MSG, result.get(XX_LANG));
+        assertEquals(new I18nStringMap(frozen), frozen.asMap());
+    }
+
+    /**
+     * Test {@link I18nFrozenString#isEquivalent(I18nString)}.
+     */
+    @Test
+    void testIsEquivalent() {
+        final I18nFrozenString frozen = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze();
+        final I18nConcurrentStringMap concurrent = new I18nConcurrentStringMap(frozen);
+        final I18nCompressedString compressed = I18nCompressedString.of(frozen, new I18nTextCompressor());
+        final I18nStringMap different = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_YY_MSG);
+        assertTrue(frozen.isEquivalent(concurrent));
+        assertTrue(concurrent.isEquivalent(frozen));
+        assertTrue(frozen.isEquivalent(compressed));
+        assertTrue(compressed.isEquivalent(frozen));
+        assertTrue(concurrent.isEquivalent(compressed));
+        assertTrue(compressed.isEquivalent(concurrent));
+        assertFalse(frozen.isEquivalent(different));
+        assertFalse(different.isEquivalent(concurrent));
+        assertFalse(concurrent.isEquivalent(different));
+        assertFalse(frozen.isEquivalent(null));
+    }
+
+    /**
+     * Test {@link I18nFrozenString#from(I18nString)}.
+     */
+    @Test
+    void testFrom() {
+        assertNull(I18nFrozenString.from(null));
+        final I18nFrozenString frozen = new I18nStringMap(MOCK_DEF_MSG).freeze();
+        assertSame(frozen, I18nFrozenString.from(frozen));
+        final I18nFrozenString fixed = I18nFrozenString.from(I18nFixedString.from(MOCK_DEF_MSG));
+        assertEquals(frozen, fixed);
+    }
+
+    /**
+     * Test {@link I18nFrozenString#equals(Object)}.
+     */
+    @Test
+    void testEquals() {
+        final I18nFrozenString frozen = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze();
+        final I18nFrozenString other = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze();
+        final I18nFrozenString different = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_YY_MSG)
+                .freeze();
+        assertEquals(frozen, frozen);
+        assertEquals(frozen, other);
+        assertEquals(frozen.hashCode(), other.hashCode());
+        assertNotEquals(frozen, different);
+        assertNotEquals(frozen, null);
+    }
+
+    /**
+     * Test {@link java.io.Serializable} implementation.
+     */
+    @Test
+    void testSerializable() throws IOException, ClassNotFoundException {
+        final I18nFrozenString bean = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .set(YY_LANG, MOCK_YY_MSG)
+                .freeze();
+        final byte[] serializationResult;
+        try (
+                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                final ObjectOutputStream out = new ObjectOutputStream(baos)){
+            out.writeObject(bean);
+            serializationResult = baos.toByteArray();
+        }
+        final I18nFrozenString result;
+        try (
+                final ByteArrayInputStream bais = new ByteArrayInputStream(serializationResult);
+                final ObjectInputStream in = new ObjectInputStream(bais)){
+            result = (I18nFrozenString) in.readObject();
+        }
+        assertEquals(bean, result);
+    }
+}
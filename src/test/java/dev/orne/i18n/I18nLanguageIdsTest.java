@@ -0,0 +1,82 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nLanguageIds}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nLanguageIds
+ */
+@Tag("ut")
+class I18nLanguageIdsTest {
+
+    /**
+     * Test {@link I18nLanguageIds#register(String)}.
+     */
+    @Test
+    void testRegister() {
+        final String tag = "qab-x-register";
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.lookup(tag));
+        final int id = I18nLanguageIds.register(tag);
+        assertTrue(id >= 0);
+        assertEquals(id, I18nLanguageIds.register(new String(tag)));
+        assertEquals(id, I18nLanguageIds.lookup(tag));
+        assertSame(tag, I18nLanguageIds.tag(id));
+        assertNotEquals(id, I18nLanguageIds.register(tag + "-other"));
+    }
+
+    /**
+     * Test {@link I18nLanguageIds#register(String)}.
+     */
+    @Test
+    void testRegister_NotRegistrable() {
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.register(""));
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.register("und"));
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.register("QAC"));
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.register("qac_QA"));
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.register("not a language tag"));
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.lookup("QAC"));
+        assertTrue(I18nLanguageIds.isRegistrable("qac-QA"));
+        assertFalse(I18nLanguageIds.isRegistrable("qac-qa"));
+    }
+
+    /**
+     * Test {@link I18nLanguageIds#lookup(Object)}.
+     */
+    @Test
+    void testLookup_Invalid() {
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.lookup(null));
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.lookup(1));
+        assertThrows(NullPointerException.class, () -> {
+            I18nLanguageIds.register(null);
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nLanguageProjection}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nLanguageProjection
+ */
+@Tag("ut")
+class I18nLanguageProjectionTest {
+
+    /**
+     * Test {@link I18nLanguageProjection#of(String...)}.
+     */
+    @Test
+    void testOf_Tags() {
+        final I18nLanguageProjection projection = I18nLanguageProjection.of("xx-YY", "zz");
+        assertEquals(
+                new HashSet<>(Arrays.asList("xx-YY", "xx", "zz")),
+                projection.getLanguages());
+        assertTrue(projection.includes("xx-YY"));
+        assertTrue(projection.includes("xx"));
+        assertTrue(projection.includes("zz"));
+        assertFalse(projection.includes("xx-ZZ"));
+        assertFalse(projection.includes("yy"));
+        assertFalse(projection.includes(null));
+        assertThrows(NullPointerException.class, () -> {
+            I18nLanguageProjection.of((String[]) null);
+        });
+    }
+
+    /**
+     * Test {@link I18nLanguageProjection#of(Locale...)}.
+     */
+    @Test
+    void testOf_Locales() {
+        final I18nLanguageProjection projection = I18nLanguageProjection.of(
+                new Locale("xx", "YY"));
+        assertEquals(
+                new HashSet<>(Arrays.asList("xx-YY", "xx")),
+                projection.getLanguages());
+        assertThrows(NullPointerException.class, () -> {
+            I18nLanguageProjection.of((Locale[]) null);
+        });
+    }
+
+    /**
+     * Test {@link I18nLanguageProjection#of(java.util.Collection)}.
+     */
+    @Test
+    void testOf_Collection() {
+        final I18nLanguageProjection projection = I18nLanguageProjection.of(
+                Arrays.asList("xx-YY", new Locale("zz")));
+        assertEquals(
+                new HashSet<>(Arrays.asList("xx-YY", "xx", "zz")),
+                projection.getLanguages());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            projection.getLanguages().add("yy");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            I18nLanguageProjection.of(Arrays.asList("xx", 1));
+        });
+    }
+
+    /**
+     * Test {@link I18nLanguageProjection#equals(Object)} and
+     * {@link I18nLanguageProjection#hashCode()}.
+     */
+    @Test
+    void testEqualsHashCode() {
+        final I18nLanguageProjection projection = I18nLanguageProjection.of("xx-YY");
+        final I18nLanguageProjection other = I18nLanguageProjection.of("xx", "xx-YY");
+        assertEquals(projection, other);
+        assertEquals(projection.hashCode(), other.hashCode());
+        assertNotEquals(projection, I18nLanguageProjection.of("xx"));
+        assertNotEquals(projection, null);
+        assertNotNull(projection.toString());
+    }
+}
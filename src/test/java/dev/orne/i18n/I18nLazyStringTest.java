@@ -0,0 +1,231 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.xml.bind.JAXBContext;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.orne.i18n.jaxb.JaxbUtils;
+
+/**
+ * Unit tests for {@code I18nLazyString}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nLazyString
+ */
+@Tag("ut")
+class I18nLazyStringTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final Locale XX_LOCALE = new Locale("xx");
+    private static final Locale YY_LOCALE = new Locale("yy", "YY");
+    private static final Locale ZZ_LOCALE = new Locale("zz");
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * Creates a new lazy instance that counts the supplier calls and
+     * has no translation for {@code ZZ_LOCALE}.
+     *
+     * @return The new instance
+     */
+    private I18nLazyString createLazy() {
+        final Function<Locale, String> supplier = locale -> {
+            calls.incrementAndGet();
+            return ZZ_LOCALE.equals(locale) ? null : "text " + locale.toLanguageTag();
+        };
+        return new I18nLazyString(MOCK_DEF_MSG, supplier);
+    }
+
+    /**
+     * Test {@link I18nLazyString#get(Locale)}.
+     */
+    @Test
+    void testGet_Locale() {
+        final I18nLazyString bean = createLazy();
+        assertFalse(bean.isComputed(XX_LOCALE));
+        assertEquals("text xx", bean.get(XX_LOCALE));
+        assertEquals("text xx", bean.get(XX_LOCALE));
+        assertEquals("text xx", bean.get("xx"));
+        assertEquals(1, calls.get());
+        assertTrue(bean.isComputed(XX_LOCALE));
+        assertEquals("text yy-YY", bean.get(YY_LOCALE));
+        assertEquals(MOCK_DEF_MSG, bean.get(ZZ_LOCALE));
+        assertEquals(MOCK_DEF_MSG, bean.get(ZZ_LOCALE));
+        assertEquals(3, calls.get());
+    }
+
+    /**
+     * Test {@link I18nLazyString#invalidate(Locale)} and
+     * {@link I18nLazyString#invalidateAll()}.
+     */
+    @Test
+    void testInvalidate() {
+        final I18nLazyString bean = createLazy();
+        bean.get(XX_LOCALE);
+        bean.get(YY_LOCALE);
+        assertSame(bean, bean.invalidate(XX_LOCALE));
+        assertFalse(bean.isComputed(XX_LOCALE));
+        assertTrue(bean.isComputed(YY_LOCALE));
+        bean.get(XX_LOCALE);
+        assertEquals(3, calls.get());
+        assertSame(bean, bean.invalidateAll());
+        assertFalse(bean.isComputed(XX_LOCALE));
+        assertFalse(bean.isComputed(YY_LOCALE));
+        assertTrue(bean.getI18n().isEmpty());
+    }
+
+    /**
+     * Test {@link I18nLazyString#asMap()}.
+     */
+    @Test
+    void testAsMap() {
+        final I18nLazyString bean = createLazy();
+        assertEquals(new I18nStringMap(MOCK_DEF_MSG), bean.asMap());
+        bean.get(XX_LOCALE);
+        bean.get(YY_LOCALE);
+        bean.get(ZZ_LOCALE);
+        final I18nStringMap expected = new I18nStringMap(MOCK_DEF_MSG)
+                .set("xx", "text xx")
+                .set("yy-YY", "text yy-YY");
+        assertEquals(expected, bean.asMap());
+        assertEquals(expected.getI18n(), bean.getI18n());
+        assertEquals(3, calls.get());
+    }
+
+    /**
+     * Test {@link I18nLazyString#equals(Object)}.
+     */
+    @Test
+    void testEquals() {
+        final I18nLazyString bean = createLazy();
+        assertEquals(bean, bean);
+        assertNotEquals(bean, createLazy());
+        assertTrue(bean.isEquivalent(createLazy()));
+        assertFalse(bean.isEquivalent(null));
+    }
+
+    /**
+     * Test {@code I18nLazyString} Java serialization.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testSerialization() throws Exception {
+        final I18nLazyString bean = createLazy();
+        bean.get(XX_LOCALE);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(bean);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(bean.asMap(), in.readObject());
+        }
+    }
+
+    /**
+     * Test {@code I18nLazyString} Jackson and JAXB serialization.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testFullSerialization() throws Exception {
+        final I18nLazyString bean = createLazy();
+        bean.get(XX_LOCALE);
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final JsonNode tree = new ObjectMapper().valueToTree(container).get("bean");
+        assertEquals(MOCK_DEF_MSG, tree.get("defaultText").asText());
+        assertEquals("text xx", tree.get("i18n").get("xx").asText());
+        assertEquals(1, tree.get("i18n").size());
+        assertEquals(bean.asMap(), JaxbUtils.fromXml(JaxbUtils.toFullXml(bean)));
+    }
+
+    /**
+     * Test JAXB marshalling and unmarshalling of {@code I18nLazyString}
+     * properties.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testJaxbSerialization() throws Exception {
+        final I18nLazyString bean = createLazy();
+        bean.get(XX_LOCALE);
+        bean.get(ZZ_LOCALE);
+        final I18nLazyStringAsObjectContainer container = new I18nLazyStringAsObjectContainer();
+        container.setBean(bean);
+        final I18nLazyString result = jaxbCopy(container).getBean();
+        assertNotNull(result);
+        assertEquals(MOCK_DEF_MSG, result.getDefaultText());
+        assertEquals(bean.getI18n(), result.getI18n());
+        assertTrue(result.isComputed(XX_LOCALE));
+        assertEquals("text xx", result.get(XX_LOCALE));
+        assertEquals("text xx", result.get(new Locale("xx", "AA")));
+        assertEquals(MOCK_DEF_MSG, result.get(ZZ_LOCALE));
+        assertEquals(MOCK_DEF_MSG, result.get(YY_LOCALE));
+        final I18nLazyStringContainer textContainer = new I18nLazyStringContainer();
+        textContainer.setBean(bean);
+        final I18nLazyString textResult = jaxbCopy(textContainer).getBean();
+        assertNotNull(textResult);
+        assertEquals(bean.get(), textResult.getDefaultText());
+        assertTrue(textResult.getI18n().isEmpty());
+    }
+
+    /**
+     * Marshalls and unmarshalls the specified container with JAXB.
+     *
+     * @param <T> The container type
+     * @param container The container
+     * @return The unmarshalled container
+     * @throws Exception If an error occurs
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T jaxbCopy(
+            final T container)
+    throws Exception {
+        final JAXBContext context = JAXBContext.newInstance(container.getClass());
+        final StringWriter writer = new StringWriter();
+        context.createMarshaller().marshal(container, writer);
+        return (T) context.createUnmarshaller().unmarshal(new StringReader(writer.toString()));
+    }
+}
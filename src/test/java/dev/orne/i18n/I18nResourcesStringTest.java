@@ -34,6 +34,7 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -736,6 +737,30 @@ class I18nResourcesStringTest {
         then(mockResources).shouldHaveNoMoreInteractions();
     }
 
+    /**
+     * Test {@link I18nResourcesString#writeTo(Appendable, Locale)}.
+     */
+    @Test
+    void testWriteTo_Locale()
+    throws IOException {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(MOCK_DEF_MSG)
+                .ofResources(MOCK_RESOURCES_KEY)
+                .withCodes(CODES)
+                .withArgs(ARGS)
+                .build();
+        final StringBuilder out = new StringBuilder();
+        willReturn(mockContext).given(mockProvider).getContext();
+        willReturn(mockResources).given(mockContext).getI18nResources(MOCK_RESOURCES_KEY);
+        bean.writeTo(out, MOCK_LOCALE);
+        then(mockProvider).should().getContext();
+        then(mockProvider).shouldHaveNoMoreInteractions();
+        then(mockContext).should().getI18nResources(MOCK_RESOURCES_KEY);
+        then(mockContext).shouldHaveNoMoreInteractions();
+        then(mockResources).should().writeMessage(out, MOCK_DEF_MSG, CODES, MOCK_LOCALE, (Object[]) ARGS);
+        then(mockResources).shouldHaveNoMoreInteractions();
+    }
+
     /**
      * Test {@link I18nResourcesString#get(Locale)}.
      */
@@ -752,6 +777,102 @@ class I18nResourcesStringTest {
         });
     }
 
+    /**
+     * Test {@link I18nResourcesString#memoize()}.
+     */
+    @Test
+    void testMemoize() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(MOCK_DEF_MSG)
+                .ofResources(MOCK_RESOURCES_KEY)
+                .withCodes(CODES)
+                .withArgs(ARGS)
+                .build();
+        assertFalse(bean.isMemoized());
+        final I18nResourcesString result = bean.memoize();
+        assertNotSame(bean, result);
+        assertTrue(result.isMemoized());
+        assertEquals(bean, result);
+        assertEquals(bean.hashCode(), result.hashCode());
+        assertSame(result, result.memoize());
+        final I18nResourcesString built = I18nResourcesString
+                .forDefault(MOCK_DEF_MSG)
+                .ofResources(MOCK_RESOURCES_KEY)
+                .withCodes(CODES)
+                .withArgs(ARGS)
+                .memoized()
+                .build();
+        assertTrue(built.isMemoized());
+        assertEquals(result, built);
+    }
+
+    /**
+     * Test {@link I18nResourcesString#get(Locale)} for memoized instances.
+     */
+    @Test
+    void testGet_Locale_Memoized() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(MOCK_DEF_MSG)
+                .ofResources(MOCK_RESOURCES_KEY)
+                .withCodes(CODES)
+                .withArgs(ARGS)
+                .memoized()
+                .build();
+        final UUID session = UUID.randomUUID();
+        willReturn(mockContext).given(mockProvider).getContext();
+        willReturn(session).given(mockContext).getProviderUUID();
+        willReturn(mockResources).given(mockContext).getI18nResources(MOCK_RESOURCES_KEY);
+        willReturn(MOCK_MSG).given(mockResources).getMessage(MOCK_DEF_MSG, CODES, MOCK_LOCALE, (Object[]) ARGS);
+        assertEquals(MOCK_MSG, bean.get(MOCK_LOCALE));
+        assertEquals(MOCK_MSG, bean.get(MOCK_LOCALE));
+        assertEquals(MOCK_MSG, bean.get(MOCK_LANG));
+        then(mockResources).should(times(1)).getMessage(MOCK_DEF_MSG, CODES, MOCK_LOCALE, (Object[]) ARGS);
+        then(mockResources).shouldHaveNoMoreInteractions();
+    }
+
+    /**
+     * Test {@link I18nResourcesString#get()} for memoized instances when the
+     * I18N context provider is invalidated.
+     */
+    @Test
+    void testGet_Memoized_Invalidated() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(MOCK_DEF_MSG)
+                .ofResources(MOCK_RESOURCES_KEY)
+                .withCodes(CODES)
+                .withArgs(ARGS)
+                .memoized()
+                .build();
+        final String otherMsg = "other mock message";
+        willReturn(mockContext).given(mockProvider).getContext();
+        willReturn(MOCK_LOCALE).given(mockContext).getLocale();
+        willReturn(UUID.randomUUID(), UUID.randomUUID()).given(mockContext).getProviderUUID();
+        willReturn(mockResources).given(mockContext).getI18nResources(MOCK_RESOURCES_KEY);
+        willReturn(MOCK_MSG, otherMsg).given(mockResources).getMessage(MOCK_DEF_MSG, CODES, MOCK_LOCALE, (Object[]) ARGS);
+        assertEquals(MOCK_MSG, bean.get());
+        assertEquals(otherMsg, bean.get());
+        then(mockResources).should(times(2)).getMessage(MOCK_DEF_MSG, CODES, MOCK_LOCALE, (Object[]) ARGS);
+    }
+
+    /**
+     * Test {@link I18nResourcesString#getFormattedDefaultText()} for memoized
+     * instances.
+     */
+    @Test
+    void testGetFormattedDefaultText_Memoized() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(MOCK_DEF_MSG_TMPL)
+                .ofResources(MOCK_RESOURCES_KEY)
+                .withCodes(CODES)
+                .withArgs(ARGS)
+                .memoized()
+                .build();
+        final String result = bean.getFormattedDefaultText();
+        assertEquals(MOCK_DEF_MSG_TMPL_RESULT, result);
+        assertSame(result, bean.getFormattedDefaultText());
+        assertSame(result, bean.toString());
+    }
+
     /**
      * Test {@link I18nResourcesString#equals(Object)} and {@link I18nResourcesString#hashCode()}.
      */
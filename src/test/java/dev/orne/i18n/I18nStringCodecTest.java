@@ -0,0 +1,286 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.i18n.context.DefaultI18nContext;
+
+/**
+ * Unit tests for {@code I18nStringCodec}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nStringCodec
+ */
+@Tag("ut")
+class I18nStringCodecTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final String MOCK_XX_MSG = "mock xx message";
+    private static final String MOCK_YY_MSG = "mock yy message";
+    private static final String XX_LANG = "xx";
+    private static final String YY_LANG = "yy";
+    private static final UUID MOCK_UUID = UUID.fromString("3f1c2e1a-9b5f-4c55-8c1e-0d9a2b7e6f10");
+
+    /** Default serialized form of {@code I18nFixedString}. */
+    private static final String LEGACY_FIXED = "rO0ABXNyAB1kZXYub3JuZS5pMThuLkkxOG5GaXhlZFN0cmluZwAAAAAAAAABAgAB"
+            + "TAAEdGV4dHQAEkxqYXZhL2xhbmcvU3RyaW5nO3hwdAAUbW9jayBkZWZhdWx0IG1l"
+            + "c3NhZ2U=";
+    /** Default serialized form of {@code I18nStringMap}. */
+    private static final String LEGACY_MAP = "rO0ABXNyABtkZXYub3JuZS5pMThuLkkxOG5TdHJpbmdNYXAAAAAAAAAAAQMAAkwA"
+            + "C2RlZmF1bHRUZXh0dAASTGphdmEvbGFuZy9TdHJpbmc7TAAEaTE4bnQAD0xqYXZh"
+            + "L3V0aWwvTWFwO3hwdAAUbW9jayBkZWZhdWx0IG1lc3NhZ2VzcgARamF2YS51dGls"
+            + "Lkhhc2hNYXAFB9rBwxZg0QMAAkYACmxvYWRGYWN0b3JJAAl0aHJlc2hvbGR4cD9A"
+            + "AAAAAAADdwgAAAAEAAAAAnQAAnh4dAAPbW9jayB4eCBtZXNzYWdldAACeXl0AA9t"
+            + "b2NrIHl5IG1lc3NhZ2V4eA==";
+    /** Default serialized form of {@code I18nResourcesString}. */
+    private static final String LEGACY_RESOURCES = "rO0ABXNyACFkZXYub3JuZS5pMThuLkkxOG5SZXNvdXJjZXNTdHJpbmcAAAAAAAAA"
+            + "AQIABVoACG1lbW9pemVkWwAJYXJndW1lbnRzdAAXW0xqYXZhL2lvL1NlcmlhbGl6"
+            + "YWJsZTtbAAVjb2Rlc3QAE1tMamF2YS9sYW5nL1N0cmluZztMAAtkZWZhdWx0VGV4"
+            + "dHQAEkxqYXZhL2xhbmcvU3RyaW5nO0wAEGkxOG5SZXNvdXJjZXNLZXlxAH4AA3hw"
+            + "AHVyABdbTGphdmEuaW8uU2VyaWFsaXphYmxlO67QCaxT1+1JAgAAeHAAAAABdAAI"
+            + "bW9jayBhcmd1cgATW0xqYXZhLmxhbmcuU3RyaW5nO63SVufpHXtHAgAAeHAAAAAC"
+            + "dAAJbW9jay5jb2RldAANbW9jay5jb2RlLmFsdHQAGG1vY2sgZGVmYXVsdCBtZXNz"
+            + "YWdlIHswfXQADm1vY2sucmVzb3VyY2Vz";
+    /** Default serialized form of {@code DefaultI18nContext}. */
+    private static final String LEGACY_CONTEXT = "rO0ABXNyAChkZXYub3JuZS5pMThuLmNvbnRleHQuRGVmYXVsdEkxOG5Db250ZXh0"
+            + "AAAAAAAAAAECAAJMAAZsb2NhbGV0ABJMamF2YS91dGlsL0xvY2FsZTtMAAxwcm92"
+            + "aWRlclVVSUR0ABBMamF2YS91dGlsL1VVSUQ7eHBzcgAQamF2YS51dGlsLkxvY2Fs"
+            + "ZX74EWCcMPnsAwAGSQAIaGFzaGNvZGVMAAdjb3VudHJ5dAASTGphdmEvbGFuZy9T"
+            + "dHJpbmc7TAAKZXh0ZW5zaW9uc3EAfgAFTAAIbGFuZ3VhZ2VxAH4ABUwABnNjcmlw"
+            + "dHEAfgAFTAAHdmFyaWFudHEAfgAFeHD/////dAACWVl0AAB0AAJ4eHEAfgAIcQB+"
+            + "AAh4c3IADmphdmEudXRpbC5VVUlEvJkD95hthS8CAAJKAAxsZWFzdFNpZ0JpdHNK"
+            + "AAttb3N0U2lnQml0c3hwjB4Nmit+bxA/HC4am19MVQ==";
+
+    private static I18nStringMap createMap() {
+        return new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .set(YY_LANG, MOCK_YY_MSG);
+    }
+
+    private static I18nResourcesString createResources() {
+        return I18nResourcesString.forDefault("mock default message {0}")
+                .ofResources("mock.resources")
+                .withCodes("mock.code", "mock.code.alt")
+                .withArg("mock arg")
+                .build();
+    }
+
+    private static DefaultI18nContext createContext() {
+        final DefaultI18nContext context = new DefaultI18nContext(MOCK_UUID);
+        context.setLocale(new Locale(XX_LANG, "YY"));
+        return context;
+    }
+
+    private static byte[] serialize(final Object value) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] data)
+    throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(data))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * Test {@link I18nStringCodec#encode(I18nString)} and
+     * {@link I18nStringCodec#decode(byte[])}.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testEncode() throws Exception {
+        final I18nStringMap map = createMap().set("xx-ZZ", MOCK_XX_MSG);
+        final I18nString[] values = new I18nString[] {
+                null,
+                I18nFixedString.from(MOCK_DEF_MSG),
+                map,
+                map.freeze(),
+                new I18nConcurrentStringMap(map),
+                createResources(),
+                I18nResourcesString.forDefault(MOCK_DEF_MSG)
+                    .withCode("mock.code")
+                    .withArgs(1, 2L, 3.0, true, null, I18nFixedString.from(MOCK_XX_MSG))
+                    .memoized()
+                    .build()
+        };
+        for (final I18nString value : values) {
+            final I18nString result = I18nStringCodec.decode(I18nStringCodec.encode(value));
+            assertEquals(value, result);
+        }
+        assertTrue(((I18nResourcesString) I18nStringCodec.decode(
+                I18nStringCodec.encode(values[6]))).isMemoized());
+        final I18nStringTable table = new I18nStringTable();
+        table.add(map);
+        assertEquals(map, I18nStringCodec.decode(I18nStringCodec.encode(table.row(0))));
+    }
+
+    /**
+     * Test {@link I18nStringCodec#encode(I18nString)} with unsupported
+     * arguments.
+     */
+    @Test
+    void testEncode_UnsupportedArgument() {
+        final I18nResourcesString value = I18nResourcesString.forDefault(MOCK_DEF_MSG)
+                .withCode("mock.code")
+                .withArg(new Date())
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> {
+            I18nStringCodec.encode(value);
+        });
+    }
+
+    /**
+     * Test {@link I18nStringCodec#decode(byte[])} with invalid data.
+     */
+    @Test
+    void testDecode_Invalid() {
+        assertThrows(StreamCorruptedException.class, () -> {
+            I18nStringCodec.decode(new byte[] { 99, 1 });
+        });
+        assertThrows(StreamCorruptedException.class, () -> {
+            I18nStringCodec.decode(new byte[] { I18nStringCodec.VERSION, 99 });
+        });
+        assertThrows(IOException.class, () -> {
+            I18nStringCodec.decode(new byte[] { I18nStringCodec.VERSION, 1, 10 });
+        });
+        final byte[] maxLength = new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+        assertThrows(EOFException.class, () -> {
+            I18nStringCodec.decode(concat(new byte[] { I18nStringCodec.VERSION, 1 }, maxLength, new byte[16]));
+        });
+        assertThrows(EOFException.class, () -> {
+            I18nStringCodec.decodeDelta(concat(new byte[] { I18nStringCodec.VERSION, 7, 0, 0 }, maxLength));
+        });
+    }
+
+    /**
+     * Concatenates the specified byte arrays.
+     *
+     * @param parts The byte arrays to concatenate
+     * @return The concatenated byte array
+     */
+    private static byte[] concat(
+            final byte[]... parts) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (final byte[] part : parts) {
+            result.write(part, 0, part.length);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Test language tags back-references of streams.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testStream() throws Exception {
+        final I18nStringMap map = createMap();
+        final I18nStringCodec writer = new I18nStringCodec();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final int firstSize;
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out, map);
+            firstSize = bytes.size();
+            writer.write(out, map);
+        }
+        assertTrue(bytes.size() - firstSize < firstSize);
+        final I18nStringCodec reader = new I18nStringCodec();
+        try (final DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(map, reader.read(in));
+            assertEquals(map, reader.read(in));
+        }
+    }
+
+    /**
+     * Test Java serialization of the supported types.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testSerialization() throws Exception {
+        final Object[] values = new Object[] {
+                I18nFixedString.from(MOCK_DEF_MSG),
+                createMap(),
+                createMap().freeze(),
+                new I18nConcurrentStringMap(createMap()),
+                createResources(),
+                I18nResourcesString.forDefault(MOCK_DEF_MSG)
+                    .withCode("mock.code")
+                    .withArg(new Date(0))
+                    .build(),
+                createContext()
+        };
+        for (final Object value : values) {
+            assertEquals(value, deserialize(serialize(value)));
+        }
+    }
+
+    /**
+     * Test deserialization of instances serialized with default Java
+     * serialization.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testLegacySerialization() throws Exception {
+        final Object[][] cases = new Object[][] {
+                { LEGACY_FIXED, I18nFixedString.from(MOCK_DEF_MSG) },
+                { LEGACY_MAP, createMap() },
+                { LEGACY_RESOURCES, createResources() },
+                { LEGACY_CONTEXT, createContext() }
+        };
+        for (final Object[] testCase : cases) {
+            final byte[] legacy = Base64.getDecoder().decode((String) testCase[0]);
+            final Object result = deserialize(legacy);
+            assertEquals(testCase[1], result);
+            assertTrue(serialize(result).length < legacy.length);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nStringLimits}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nStringLimits
+ */
+@Tag("ut")
+class I18nStringLimitsTest {
+
+    @AfterEach
+    void resetShared() {
+        I18nStringLimits.setShared(null);
+    }
+
+    /**
+     * Test {@link I18nStringLimits#unlimited()}.
+     */
+    @Test
+    void testUnlimited() {
+        final I18nStringLimits limits = I18nStringLimits.unlimited();
+        assertSame(limits, I18nStringLimits.unlimited());
+        assertEquals(Integer.MAX_VALUE, limits.getMaxLanguages());
+        assertEquals(Integer.MAX_VALUE, limits.getMaxTextLength());
+        assertNull(limits.getLanguages());
+        assertTrue(limits.allowsLanguage("xx"));
+        assertTrue(limits.allowsLanguages(Integer.MAX_VALUE));
+        assertTrue(limits.allowsTextLength(Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE, limits.getMaxCodes());
+        assertEquals(Integer.MAX_VALUE, limits.getMaxArguments());
+        assertTrue(limits.allowsCodes(Integer.MAX_VALUE));
+        assertTrue(limits.allowsArguments(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Test {@link I18nStringLimits} copy methods.
+     */
+    @Test
+    void testWith() {
+        final I18nLanguageProjection projection = I18nLanguageProjection.of("xx-YY");
+        final I18nStringLimits limits = I18nStringLimits.unlimited()
+                .withMaxLanguages(2)
+                .withMaxTextLength(10)
+                .withLanguages(projection);
+        assertEquals(2, limits.getMaxLanguages());
+        assertEquals(10, limits.getMaxTextLength());
+        assertSame(projection, limits.getLanguages());
+        assertTrue(limits.allowsLanguages(2));
+        assertFalse(limits.allowsLanguages(3));
+        assertTrue(limits.allowsTextLength(10));
+        assertFalse(limits.allowsTextLength(11));
+        assertTrue(limits.allowsLanguage("xx"));
+        assertTrue(limits.allowsLanguage("xx-YY"));
+        assertFalse(limits.allowsLanguage("xx-ZZ"));
+        assertFalse(limits.allowsLanguage("zz"));
+        assertEquals(limits, I18nStringLimits.unlimited()
+                .withLocales(new Locale("xx", "YY"))
+                .withMaxTextLength(10)
+                .withMaxLanguages(2));
+        assertEquals(limits.hashCode(), I18nStringLimits.unlimited()
+                .withLocales(new Locale("xx", "YY"))
+                .withMaxTextLength(10)
+                .withMaxLanguages(2)
+                .hashCode());
+        assertNotEquals(limits, limits.withLanguages(null));
+        assertTrue(limits.withLanguages(null).allowsLanguage("zz"));
+        assertTrue(I18nStringLimits.unlimited().withMaxLanguages(0).allowsLanguages(0));
+        assertFalse(I18nStringLimits.unlimited().withMaxLanguages(0).allowsLanguages(1));
+        assertNotNull(limits.toString());
+        final I18nStringLimits resourcesLimits = limits
+                .withMaxCodes(1)
+                .withMaxArguments(3);
+        assertEquals(1, resourcesLimits.getMaxCodes());
+        assertEquals(3, resourcesLimits.getMaxArguments());
+        assertTrue(resourcesLimits.allowsCodes(1));
+        assertFalse(resourcesLimits.allowsCodes(2));
+        assertTrue(resourcesLimits.allowsArguments(3));
+        assertFalse(resourcesLimits.allowsArguments(4));
+        assertNotEquals(limits, resourcesLimits);
+        assertEquals(resourcesLimits, limits.withMaxArguments(3).withMaxCodes(1));
+        assertEquals(2, resourcesLimits.getMaxLanguages());
+    }
+
+    /**
+     * Test {@link I18nStringLimits} copy methods with invalid values.
+     */
+    @Test
+    void testWith_Invalid() {
+        final I18nStringLimits limits = I18nStringLimits.unlimited();
+        assertThrows(IllegalArgumentException.class, () -> {
+            limits.withMaxLanguages(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            limits.withMaxTextLength(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            limits.withMaxCodes(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            limits.withMaxArguments(-1);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            limits.withLocales((Locale[]) null);
+        });
+    }
+
+    /**
+     * Test {@link I18nStringLimits#setShared(I18nStringLimits)}.
+     */
+    @Test
+    void testShared() {
+        assertNull(I18nStringLimits.getShared());
+        final I18nStringLimits limits = I18nStringLimits.unlimited().withMaxLanguages(1);
+        I18nStringLimits.setShared(limits);
+        assertSame(limits, I18nStringLimits.getShared());
+        I18nStringLimits.setShared(null);
+        assertNull(I18nStringLimits.getShared());
+    }
+}
@@ -0,0 +1,165 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@code I18nStringMapDelta}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nStringMapDelta
+ */
+@Tag("ut")
+class I18nStringMapDeltaTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final String MOCK_NEW_DEF_MSG = "mock new default message";
+    private static final String MOCK_XX_MSG = "mock xx message";
+    private static final String MOCK_NEW_XX_MSG = "mock new xx message";
+    private static final String MOCK_YY_MSG = "mock yy message";
+    private static final String MOCK_ZZ_MSG = "mock zz message";
+    private static final String XX_LANG = "xx";
+    private static final String YY_LANG = "yy";
+    private static final String ZZ_LANG = "zz";
+
+    private static I18nStringMap createSource() {
+        return new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .set(YY_LANG, MOCK_YY_MSG);
+    }
+
+    private static I18nStringMap createTarget() {
+        return new I18nStringMap(MOCK_NEW_DEF_MSG)
+                .set(XX_LANG, MOCK_NEW_XX_MSG)
+                .set(ZZ_LANG, MOCK_ZZ_MSG);
+    }
+
+    /**
+     * Test {@link I18nStringMapDelta#diff(I18nStringMap, I18nStringMap)}.
+     */
+    @Test
+    void testDiff() {
+        final I18nStringMapDelta delta = I18nStringMapDelta.diff(createSource(), createTarget());
+        assertEquals(MOCK_NEW_DEF_MSG, delta.getDefaultText());
+        assertEquals(2, delta.getChanged().size());
+        assertEquals(MOCK_NEW_XX_MSG, delta.getChanged().get(XX_LANG));
+        assertEquals(MOCK_ZZ_MSG, delta.getChanged().get(ZZ_LANG));
+        assertEquals(Collections.singleton(YY_LANG), delta.getRemoved());
+        assertFalse(delta.isEmpty());
+        final I18nStringMapDelta empty = I18nStringMapDelta.diff(createSource(), createSource());
+        assertTrue(empty.isEmpty());
+        assertNull(empty.getDefaultText());
+        assertTrue(empty.getChanged().isEmpty());
+        assertTrue(empty.getRemoved().isEmpty());
+    }
+
+    /**
+     * Test {@link I18nStringMapDelta#applyTo(I18nStringMap)}.
+     */
+    @Test
+    void testApplyTo() {
+        final I18nStringMap source = createSource();
+        final I18nStringMapDelta delta = I18nStringMapDelta.diff(source, createTarget());
+        assertSame(source, delta.applyTo(source));
+        assertEquals(createTarget(), source);
+        final I18nStringMap target = createTarget();
+        I18nStringMapDelta.diff(createTarget(), createTarget()).applyTo(target);
+        assertEquals(createTarget(), target);
+    }
+
+    /**
+     * Test {@link I18nStringMapDelta#I18nStringMapDelta(String, java.util.Map, java.util.Collection)}
+     * with conflicting changes.
+     */
+    @Test
+    void testConstructor_Conflict() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new I18nStringMapDelta(
+                    null,
+                    Collections.singletonMap(XX_LANG, MOCK_XX_MSG),
+                    Arrays.asList(XX_LANG));
+        });
+    }
+
+    /**
+     * Test {@code I18nStringMapDelta} Jackson serialization.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testJackson() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        final I18nStringMapDelta delta = I18nStringMapDelta.diff(createSource(), createTarget());
+        final String json = mapper.writeValueAsString(delta);
+        final JsonNode tree = mapper.readTree(json);
+        assertEquals(MOCK_NEW_DEF_MSG, tree.get("defaultText").asText());
+        assertEquals(MOCK_ZZ_MSG, tree.get("changed").get(ZZ_LANG).asText());
+        assertEquals(YY_LANG, tree.get("removed").get(0).asText());
+        assertFalse(tree.has("empty"));
+        assertEquals(delta, mapper.readValue(json, I18nStringMapDelta.class));
+        final I18nStringMapDelta empty = I18nStringMapDelta.diff(createSource(), createSource());
+        assertEquals("{}", mapper.writeValueAsString(empty));
+        assertEquals(empty, mapper.readValue("{}", I18nStringMapDelta.class));
+    }
+
+    /**
+     * Test {@code I18nStringMapDelta} binary encoding.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testEncode() throws Exception {
+        final I18nStringMapDelta delta = I18nStringMapDelta.diff(createSource(), createTarget());
+        final byte[] data = I18nStringCodec.encodeDelta(delta);
+        assertEquals(delta, I18nStringCodec.decodeDelta(data));
+        final I18nStringMap modified = createSource().set(XX_LANG, MOCK_NEW_XX_MSG);
+        final I18nStringMapDelta single = I18nStringMapDelta.diff(createSource(), modified);
+        final byte[] singleData = I18nStringCodec.encodeDelta(single);
+        assertEquals(single, I18nStringCodec.decodeDelta(singleData));
+        assertTrue(singleData.length < I18nStringCodec.encode(modified).length);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(delta);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(delta, in.readObject());
+        }
+    }
+}
@@ -436,6 +436,36 @@ class I18nStringMapTest {
         assertTrue(bean.getI18n().containsKey(XX_LANG));
     }
 
+    /**
+     * Test {@link I18nStringMap#get(String)}.
+     */
+    @Test
+    void testGet_Language_Bcp47() {
+        final I18nStringMap bean = new I18nStringMap(MOCK_DEF_MSG)
+                .set("es", "es")
+                .set("es-ES", "es-ES")
+                .set("de-CH", "de-CH");
+        assertEquals("es-ES", bean.get("es-ES-valencia"));
+        assertEquals("es-ES", bean.get("es-ES"));
+        assertEquals("es", bean.get("es-MX"));
+        assertEquals("es", bean.get("es-419"));
+        assertEquals("de-CH", bean.get("de-CH-x-phonebk"));
+        assertEquals(MOCK_DEF_MSG, bean.get("de"));
+        assertEquals(MOCK_DEF_MSG, bean.get("x-es"));
+        assertEquals(MOCK_DEF_MSG, bean.get(""));
+    }
+
+    /**
+     * Test {@link I18nStringMap#get(String)}.
+     */
+    @Test
+    void testGet_Language_Empty() {
+        final I18nStringMap bean = new I18nStringMap(MOCK_DEF_MSG);
+        assertEquals(MOCK_DEF_MSG, bean.get(XX_LANG));
+        assertEquals(MOCK_DEF_MSG, bean.get(XX_YY_LANG));
+        assertEquals(MOCK_DEF_MSG, bean.get(XX_LOCALE));
+    }
+
     /**
      * Test {@link I18nResourcesString#get(String)}.
      */
@@ -482,6 +512,36 @@ class I18nStringMapTest {
         assertTrue(bean.getI18n().containsKey(XX_LANG));
     }
 
+    /**
+     * Test {@link I18nStringMap#get(Locale)}.
+     */
+    @Test
+    void testGet_Locale_Region() {
+        final I18nStringMap bean = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .set("xx-ZZ", MOCK_ZZ_MSG);
+        assertEquals(MOCK_ZZ_MSG, bean.get(new Locale(XX_LANG, "ZZ")));
+        assertEquals(MOCK_ZZ_MSG, bean.get(new Locale(XX_LANG, "ZZ", "variant")));
+        assertEquals(MOCK_XX_MSG, bean.get(new Locale(XX_LANG, "WW")));
+    }
+
+    /**
+     * Test {@link I18nStringMap#get(Locale)}.
+     */
+    @Test
+    void testGet_Locale_ScriptAndVariant() {
+        final I18nStringMap bean = new I18nStringMap(MOCK_DEF_MSG)
+                .set("sr", "sr")
+                .set("sr-Latn", "sr-Latn")
+                .set("es-ES", "es-ES");
+        assertEquals("sr-Latn", bean.get(Locale.forLanguageTag("sr-Latn-RS")));
+        assertEquals("sr", bean.get(Locale.forLanguageTag("sr-Cyrl-RS")));
+        assertEquals("sr", bean.get(new Locale("sr")));
+        assertEquals("es-ES", bean.get(new Locale("es", "ES", "valencia")));
+        assertEquals(MOCK_DEF_MSG, bean.get(new Locale("es", "MX")));
+        assertEquals(MOCK_DEF_MSG, bean.get(Locale.ROOT));
+    }
+
     /**
      * Test {@link I18nResourcesString#get(Locale)}.
      */
@@ -0,0 +1,158 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.i18n.jaxb.JaxbUtils;
+
+/**
+ * Unit tests for {@code I18nStringPool}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nStringPool
+ */
+@Tag("ut")
+class I18nStringPoolTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final String MOCK_XX_MSG = "mock xx message";
+    private static final String MOCK_YY_MSG = "mock yy message";
+    private static final String XX_LANG = "xx";
+
+    /**
+     * Resets the shared pool after each test.
+     */
+    @AfterEach
+    void resetSharedPool() {
+        I18nStringPool.setShared(null);
+    }
+
+    /**
+     * Test {@link I18nStringPool#intern(I18nString)}.
+     */
+    @Test
+    void testIntern() {
+        final I18nStringPool pool = I18nStringPool.weak();
+        final I18nFixedString fixed = I18nFixedString.from(MOCK_DEF_MSG);
+        assertSame(fixed, pool.intern(fixed));
+        assertSame(fixed, pool.intern(I18nFixedString.from(MOCK_DEF_MSG)));
+        final I18nFrozenString frozen = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze();
+        assertSame(frozen, pool.intern(frozen));
+        assertSame(frozen, pool.intern(new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze()));
+        assertEquals(2, pool.size());
+        assertNull(pool.intern(null));
+    }
+
+    /**
+     * Test {@link I18nStringPool#intern(I18nString)}.
+     */
+    @Test
+    void testIntern_Mutable() {
+        final I18nStringPool pool = I18nStringPool.weak();
+        final I18nStringMap map = new I18nStringMap(MOCK_DEF_MSG);
+        assertSame(map, pool.intern(map));
+        assertNotSame(map, pool.intern(new I18nStringMap(MOCK_DEF_MSG)));
+        assertEquals(0, pool.size());
+    }
+
+    /**
+     * Test {@link I18nStringPool#bounded(int)}.
+     */
+    @Test
+    void testBounded() {
+        final I18nStringPool pool = I18nStringPool.bounded(2);
+        final I18nFixedString first = pool.intern(I18nFixedString.from("1"));
+        pool.intern(I18nFixedString.from("2"));
+        pool.intern(I18nFixedString.from("3"));
+        assertEquals(2, pool.size());
+        assertNotSame(first, pool.intern(I18nFixedString.from("1")));
+        final I18nStringPool segmented = I18nStringPool.bounded(100);
+        for (int i = 0; i < 1000; i++) {
+            segmented.intern(I18nFixedString.from(String.valueOf(i)));
+        }
+        assertTrue(segmented.size() <= 100);
+        final I18nFixedString last = I18nFixedString.from("999");
+        assertNotSame(last, segmented.intern(last));
+        pool.clear();
+        assertEquals(0, pool.size());
+        assertThrows(IllegalArgumentException.class, () -> {
+            I18nStringPool.bounded(0);
+        });
+    }
+
+    /**
+     * Test {@link I18nStringPool#canonical(I18nStringMap)}.
+     */
+    @Test
+    void testCanonical() {
+        final I18nStringPool pool = I18nStringPool.weak();
+        final I18nStringMap map = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        final I18nStringMap result = pool.canonical(map);
+        assertSame(map, result);
+        assertEquals(1, pool.size());
+        final I18nStringMap copy = new I18nStringMap(map);
+        final I18nStringMap other = pool.canonical(copy);
+        assertNotSame(copy, other);
+        assertEquals(map, other);
+        assertEquals(1, pool.size());
+        other.set(XX_LANG, MOCK_DEF_MSG);
+        assertEquals(MOCK_XX_MSG, result.get(XX_LANG));
+        result.set(XX_LANG, MOCK_YY_MSG);
+        final I18nFrozenString pooled = pool.intern(new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .freeze());
+        assertEquals(MOCK_XX_MSG, pooled.get(XX_LANG));
+        assertNull(pool.canonical(null));
+    }
+
+    /**
+     * Test shared pool usage by factory methods.
+     */
+    @Test
+    void testShared() {
+        assertNull(I18nStringPool.getShared());
+        assertNotSame(I18nFixedString.from(MOCK_DEF_MSG), I18nFixedString.from(MOCK_DEF_MSG));
+        final I18nStringPool pool = I18nStringPool.weak();
+        I18nStringPool.setShared(pool);
+        assertSame(pool, I18nStringPool.getShared());
+        assertSame(I18nFixedString.from(MOCK_DEF_MSG), I18nFixedString.from(MOCK_DEF_MSG));
+        final I18nStringMap map = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        assertSame(I18nFrozenString.from(map), I18nFrozenString.from(new I18nStringMap(map)));
+        assertSame(
+                JaxbUtils.fromXml(JaxbUtils.toXml(I18nFixedString.from(MOCK_DEF_MSG))),
+                I18nFixedString.from(MOCK_DEF_MSG));
+    }
+}
@@ -0,0 +1,213 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nStringTable}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nStringTable
+ */
+@Tag("ut")
+class I18nStringTableTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final String MOCK_XX_MSG = "mock xx message";
+    private static final String MOCK_XX_ZZ_MSG = "mock xx-ZZ message";
+    private static final String MOCK_YY_MSG = "mock yy message";
+    private static final String XX_LANG = "xx";
+    private static final String XX_ZZ_LANG = "xx-ZZ";
+    private static final String YY_LANG = "yy";
+
+    /**
+     * Test {@link I18nStringTable#add(String, Map)}.
+     */
+    @Test
+    void testAdd() {
+        final I18nStringTable table = new I18nStringTable(false, 0);
+        final Map<String, String> translations = new HashMap<>();
+        translations.put(XX_LANG, MOCK_XX_MSG);
+        translations.put(XX_ZZ_LANG, MOCK_XX_ZZ_MSG);
+        assertEquals(0, table.add(MOCK_DEF_MSG, translations));
+        assertEquals(1, table.add(new I18nStringMap(MOCK_DEF_MSG).set(YY_LANG, MOCK_YY_MSG)));
+        assertEquals(2, table.add(I18nFixedString.from(MOCK_DEF_MSG)));
+        assertEquals(3, table.size());
+        assertEquals(3, table.getLanguages().size());
+        final I18nStringTable.Row row = table.row(0);
+        assertEquals(0, row.getIndex());
+        assertEquals(MOCK_DEF_MSG, row.getDefaultText());
+        assertEquals(translations, row.getI18n());
+        assertEquals(MOCK_XX_MSG, row.get(XX_LANG));
+        assertEquals(MOCK_XX_ZZ_MSG, row.get(XX_ZZ_LANG));
+        assertEquals(MOCK_XX_MSG, row.get("xx-WW"));
+        assertEquals(MOCK_XX_ZZ_MSG, row.get(new Locale(XX_LANG, "ZZ")));
+        assertEquals(MOCK_DEF_MSG, row.get(YY_LANG));
+        assertEquals(MOCK_YY_MSG, table.row(1).get(YY_LANG));
+        assertEquals(MOCK_DEF_MSG, table.row(2).get(XX_LANG));
+        assertTrue(table.row(2).getI18n().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            table.row(3);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            table.add(null, translations);
+        });
+    }
+
+    /**
+     * Test {@link I18nStringTable#addAll(java.util.Collection)}.
+     */
+    @Test
+    void testAddAll() {
+        final I18nStringTable table = new I18nStringTable();
+        table.add(I18nFixedString.from(MOCK_DEF_MSG));
+        final int first = table.addAll(Arrays.asList(
+                new I18nStringMap(MOCK_DEF_MSG).set(XX_LANG, MOCK_XX_MSG),
+                new I18nStringMap(MOCK_DEF_MSG).set(YY_LANG, MOCK_YY_MSG),
+                table.row(0)));
+        assertEquals(1, first);
+        assertEquals(4, table.size());
+        assertEquals(table.row(0), table.row(3));
+        for (int i = 0; i < 100; i++) {
+            table.add(new I18nStringMap(MOCK_DEF_MSG).set(XX_LANG, MOCK_XX_MSG + i));
+        }
+        assertEquals(104, table.size());
+        assertEquals(MOCK_XX_MSG, table.row(1).get(XX_LANG));
+        assertEquals(MOCK_XX_MSG + 99, table.row(103).get(XX_LANG));
+    }
+
+    /**
+     * Test {@link I18nStringTable#I18nStringTable(boolean)}.
+     */
+    @Test
+    void testDeduplicate() {
+        final I18nStringTable table = new I18nStringTable(true);
+        assertTrue(table.isDeduplicate());
+        table.add(new I18nStringMap(new String(MOCK_DEF_MSG))
+                .set(XX_LANG, new String(MOCK_XX_MSG)));
+        table.add(new I18nStringMap(new String(MOCK_DEF_MSG))
+                .set(XX_LANG, new String(MOCK_XX_MSG)));
+        assertSame(table.row(0).getDefaultText(), table.row(1).getDefaultText());
+        assertSame(table.row(0).get(XX_LANG), table.row(1).get(XX_LANG));
+        final I18nStringTable other = new I18nStringTable();
+        assertFalse(other.isDeduplicate());
+        other.add(new I18nStringMap(new String(MOCK_DEF_MSG)));
+        other.add(new I18nStringMap(new String(MOCK_DEF_MSG)));
+        assertNotSame(other.row(0).getDefaultText(), other.row(1).getDefaultText());
+    }
+
+    /**
+     * Test {@link I18nStringTable#extract(String)}.
+     */
+    @Test
+    void testExtract() {
+        final I18nStringTable table = new I18nStringTable();
+        table.add(new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG)
+                .set(XX_ZZ_LANG, MOCK_XX_ZZ_MSG));
+        table.add(new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG));
+        table.add(new I18nStringMap(MOCK_DEF_MSG)
+                .set(YY_LANG, MOCK_YY_MSG));
+        assertArrayEquals(
+                new String[] { MOCK_DEF_MSG, MOCK_DEF_MSG, MOCK_DEF_MSG },
+                table.extractDefault());
+        assertArrayEquals(
+                new String[] { MOCK_XX_ZZ_MSG, MOCK_XX_MSG, MOCK_DEF_MSG },
+                table.extract(XX_ZZ_LANG));
+        assertArrayEquals(
+                new String[] { MOCK_XX_MSG, MOCK_XX_MSG, MOCK_DEF_MSG },
+                table.extract(new Locale(XX_LANG)));
+        assertArrayEquals(
+                new String[] { MOCK_DEF_MSG, MOCK_DEF_MSG, MOCK_YY_MSG },
+                table.extract(YY_LANG));
+        for (int i = 0; i < table.size(); i++) {
+            assertEquals(table.row(i).get(XX_ZZ_LANG), table.extract(XX_ZZ_LANG)[i]);
+        }
+    }
+
+    /**
+     * Test {@link I18nStringTable.Row#equals(Object)},
+     * {@link I18nStringTable.Row#hashCode()} and
+     * {@link I18nStringTable.Row#isEquivalent(I18nString)}.
+     */
+    @Test
+    void testRowEquality() {
+        final I18nStringMap map = new I18nStringMap(MOCK_DEF_MSG)
+                .set(XX_LANG, MOCK_XX_MSG);
+        final I18nStringTable table = new I18nStringTable();
+        table.add(map);
+        table.add(map);
+        table.add(I18nFixedString.from(MOCK_DEF_MSG));
+        final I18nStringTable.Row row = table.row(0);
+        assertEquals(row, table.row(0));
+        assertEquals(row, table.row(1));
+        assertNotEquals(row, table.row(2));
+        assertNotEquals(row, map);
+        assertEquals(map.hashCode(), row.hashCode());
+        assertTrue(row.isEquivalent(map));
+        assertTrue(map.isEquivalent(row));
+        assertTrue(row.isEquivalent(map.freeze()));
+        assertTrue(map.freeze().isEquivalent(row));
+        assertFalse(row.isEquivalent(table.row(2)));
+        assertEquals(map, row.asMap());
+        assertEquals(map, new I18nStringMap(row));
+        assertEquals(MOCK_DEF_MSG, row.toString());
+    }
+
+    /**
+     * Test {@code I18nStringTable.Row} serialization.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testRowSerialization() throws Exception {
+        final I18nStringTable table = new I18nStringTable();
+        table.add(new I18nStringMap(MOCK_DEF_MSG).set(XX_LANG, MOCK_XX_MSG));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(table.row(0));
+        }
+        final Object result;
+        try (final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            result = in.readObject();
+        }
+        assertEquals(table.row(0).asMap(), result);
+    }
+}
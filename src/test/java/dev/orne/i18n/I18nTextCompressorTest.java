@@ -0,0 +1,149 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nTextCompressor}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nTextCompressor
+ */
+@Tag("ut")
+class I18nTextCompressorTest {
+
+    private static final String LONG_TEXT = "A long description of a very useful"
+            + " item, with several features and benefits. ";
+
+    /**
+     * Test {@link I18nTextCompressor#encode(String)} and
+     * {@link I18nTextCompressor#decode(Object)}.
+     */
+    @Test
+    void testEncode() {
+        final I18nTextCompressor compressor = new I18nTextCompressor();
+        final String shortText = "short";
+        assertSame(shortText, compressor.encode(shortText));
+        final String longText = LONG_TEXT + LONG_TEXT + LONG_TEXT;
+        final Object encoded = compressor.encode(longText);
+        assertTrue(encoded instanceof byte[]);
+        assertTrue(((byte[]) encoded).length < longText.length());
+        assertEquals(longText, compressor.decode(encoded));
+        assertEquals(shortText, compressor.decode(shortText));
+    }
+
+    /**
+     * Test {@link I18nTextCompressor#train(Iterable, int)}.
+     */
+    @Test
+    void testTrain() {
+        final List<String> samples = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            samples.add(LONG_TEXT + i);
+        }
+        final byte[] dictionary = I18nTextCompressor.train(samples, 1024);
+        assertTrue(dictionary.length > 0);
+        assertTrue(dictionary.length <= 1024);
+        assertTrue(new String(dictionary, StandardCharsets.UTF_8).contains("description "));
+        assertEquals(0, I18nTextCompressor.train(samples, 0).length);
+        assertEquals(0, I18nTextCompressor.train(Arrays.asList(LONG_TEXT), 1024).length);
+        final I18nTextCompressor trained = new I18nTextCompressor(dictionary, 0, 0);
+        final I18nTextCompressor plain = new I18nTextCompressor(new byte[0], 0, 0);
+        final String text = LONG_TEXT + "other";
+        final byte[] trainedData = (byte[]) trained.encode(text);
+        assertTrue(trainedData.length < ((byte[]) plain.encode(text)).length);
+        assertEquals(text, trained.decode(trainedData));
+        assertThrows(IllegalArgumentException.class, () -> {
+            I18nTextCompressor.train(samples, I18nTextCompressor.MAX_DICTIONARY_SIZE + 1);
+        });
+    }
+
+    /**
+     * Test decompressed texts cache.
+     */
+    @Test
+    void testCache() {
+        final I18nTextCompressor compressor = new I18nTextCompressor(new byte[0], 0, 2);
+        final Object first = compressor.encode(LONG_TEXT + 1);
+        assertEquals(0, compressor.getCachedCount());
+        final String decoded = compressor.decode(first);
+        assertSame(decoded, compressor.decode(first));
+        compressor.decode(compressor.encode(LONG_TEXT + 2));
+        compressor.decode(compressor.encode(LONG_TEXT + 3));
+        assertEquals(2, compressor.getCachedCount());
+        assertNotSame(decoded, compressor.decode(first));
+        compressor.clearCache();
+        assertEquals(0, compressor.getCachedCount());
+    }
+
+    /**
+     * Test decoding of invalid compressed data.
+     */
+    @Test
+    void testDecode_Invalid() {
+        final I18nTextCompressor compressor = new I18nTextCompressor(new byte[0], 0, 0);
+        final byte[] data = (byte[]) compressor.encode(LONG_TEXT);
+        final byte[] oversized = data.clone();
+        oversized[0] = (byte) 0xFF;
+        oversized[1] = (byte) 0xFF;
+        oversized[2] = (byte) 0xFF;
+        oversized[3] = (byte) 0x7F;
+        assertThrows(IllegalStateException.class, () -> {
+            compressor.decode(oversized);
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            compressor.decode(new byte[] { (byte) 0x80, (byte) 0x80 });
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            compressor.decode(Arrays.copyOf(data, data.length / 2));
+        });
+        assertEquals(LONG_TEXT, compressor.decode(data));
+    }
+
+    /**
+     * Test {@link I18nTextCompressor#equals(Object)}.
+     */
+    @Test
+    void testEquals() {
+        final byte[] dictionary = LONG_TEXT.getBytes(StandardCharsets.UTF_8);
+        final I18nTextCompressor compressor = new I18nTextCompressor(dictionary);
+        assertEquals(compressor, new I18nTextCompressor(dictionary));
+        assertEquals(compressor.hashCode(), new I18nTextCompressor(dictionary).hashCode());
+        assertNotEquals(compressor, new I18nTextCompressor());
+        assertNotEquals(compressor, new I18nTextCompressor(dictionary, 0, 10));
+        assertArrayEquals(dictionary, compressor.getDictionary());
+        assertEquals(I18nTextCompressor.DEFAULT_MIN_LENGTH, compressor.getMinLength());
+        assertEquals(I18nTextCompressor.DEFAULT_CACHE_SIZE, compressor.getCacheSize());
+    }
+}
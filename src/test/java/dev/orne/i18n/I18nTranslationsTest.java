@@ -0,0 +1,263 @@
+package dev.orne.i18n;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code I18nTranslations}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nTranslations
+ */
+@Tag("ut")
+class I18nTranslationsTest {
+
+    /**
+     * Test {@link I18nTranslations#put(String, String)}.
+     */
+    @Test
+    void testPut() {
+        final I18nTranslations map = new I18nTranslations();
+        assertNull(map.put("zz", "z"));
+        assertNull(map.put("aa", "a"));
+        assertEquals("a", map.put("aa", "a2"));
+        assertEquals(2, map.size());
+        assertEquals("a2", map.get("aa"));
+        assertEquals("z", map.get("zz"));
+        assertNull(map.get("mm"));
+        assertNull(map.get((Object) null));
+        assertFalse(map.containsKey(null));
+        assertTrue(map.isCompact());
+        assertThrows(NullPointerException.class, () -> map.put(null, "x"));
+        assertThrows(NullPointerException.class, () -> map.put("xx", null));
+    }
+
+    /**
+     * Test {@link I18nTranslations#put(String, String)}.
+     */
+    @Test
+    void testPut_Upgrade() {
+        final I18nTranslations map = new I18nTranslations();
+        final Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i <= I18nTranslations.COMPACT_MAX_SIZE; i++) {
+            map.put("l" + i, "v" + i);
+            expected.put("l" + i, "v" + i);
+        }
+        assertFalse(map.isCompact());
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        map.clear();
+        assertTrue(map.isCompact());
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Test {@link I18nTranslations#putUntrusted(String, String)}.
+     */
+    @Test
+    void testPutUntrusted() {
+        final I18nTranslations map = new I18nTranslations();
+        map.put("aa", "a");
+        assertEquals("a", map.putUntrusted("aa", "a2"));
+        assertTrue(map.isCompact());
+        final String tag = "qad-x-untrusted";
+        assertNull(map.putUntrusted(tag, "u"));
+        assertFalse(map.isCompact());
+        assertEquals(I18nLanguageIds.NONE, I18nLanguageIds.lookup(tag));
+        assertEquals("a2", map.get("aa"));
+        assertEquals("u", map.get(tag));
+    }
+
+    /**
+     * Test {@link I18nTranslations#remove(Object)}.
+     */
+    @Test
+    void testRemove() {
+        final I18nTranslations map = new I18nTranslations();
+        map.put("aa", "a");
+        map.put("bb", "b");
+        map.put("cc", "c");
+        assertEquals("b", map.remove("bb"));
+        assertNull(map.remove("bb"));
+        assertNull(map.remove(null));
+        assertEquals(2, map.size());
+        assertEquals("a", map.get("aa"));
+        assertEquals("c", map.get("cc"));
+    }
+
+    /**
+     * Test {@link I18nTranslations#entrySet()}.
+     */
+    @Test
+    void testEntrySet_Live() {
+        final I18nTranslations map = new I18nTranslations();
+        map.put("aa", "a");
+        map.put("bb", "b");
+        map.put("cc", "c");
+        final Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<String, String> entry = it.next();
+            if ("bb".equals(entry.getKey())) {
+                it.remove();
+            } else {
+                entry.setValue(entry.getValue() + "2");
+            }
+        }
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("aa", "a2");
+        expected.put("cc", "c2");
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    /**
+     * Test {@link I18nTranslations#entrySet()}.
+     */
+    @Test
+    void testEntrySet_Order() {
+        final String[] tags = { "qoq", "qob", "qon", "qoa", "qoo", "qol", "qoe", "qoh" };
+        final I18nTranslations map = new I18nTranslations();
+        final TreeMap<String, String> sorted = new TreeMap<>();
+        for (final String tag : tags) {
+            map.put(tag, tag.toUpperCase());
+            sorted.put(tag, tag.toUpperCase());
+        }
+        assertTrue(map.isCompact());
+        final Map<String, String> expected = new HashMap<>();
+        expected.putAll(sorted);
+        final List<String> expectedKeys = new ArrayList<>(expected.keySet());
+        assertEquals(expectedKeys, new ArrayList<>(map.keySet()));
+        final List<String> forEachKeys = new ArrayList<>();
+        map.forEach((key, value) -> forEachKeys.add(key));
+        assertEquals(expectedKeys, forEachKeys);
+        final Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+        final List<String> iteratedKeys = new ArrayList<>();
+        int index = 0;
+        while (it.hasNext()) {
+            final Map.Entry<String, String> entry = it.next();
+            iteratedKeys.add(entry.getKey());
+            assertEquals(entry.getKey().toUpperCase(), entry.getValue());
+            if (index++ % 2 == 0) {
+                it.remove();
+                expected.remove(entry.getKey());
+            }
+        }
+        assertEquals(expectedKeys, iteratedKeys);
+        assertEquals(expected, map);
+    }
+
+    /**
+     * Test {@link I18nTranslations#entrySet()}.
+     */
+    @Test
+    void testEntrySet_ConcurrentModification() {
+        final I18nTranslations map = new I18nTranslations();
+        map.put("aa", "a");
+        map.put("bb", "b");
+        final Iterator<String> it = map.keySet().iterator();
+        it.next();
+        map.put("cc", "c");
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    /**
+     * Test {@link I18nTranslations#resolve(I18nFallbackChain)}.
+     */
+    @Test
+    void testGet_Chain() {
+        final I18nTranslations map = new I18nTranslations();
+        map.put("xx", "x");
+        map.put("xx-YY", "xy");
+        assertEquals("xy", map.resolve(I18nFallbackChain.of("xx-YY-variant")));
+        assertEquals("x", map.resolve(I18nFallbackChain.of("xx-ZZ")));
+        assertNull(map.resolve(I18nFallbackChain.of("zz-YY")));
+        for (int i = 0; i <= I18nTranslations.COMPACT_MAX_SIZE; i++) {
+            map.put("l" + i, "v" + i);
+        }
+        assertFalse(map.isCompact());
+        assertEquals("xy", map.resolve(I18nFallbackChain.of("xx-YY-variant")));
+        assertEquals("x", map.resolve(I18nFallbackChain.of("xx-ZZ")));
+        assertNull(map.resolve(I18nFallbackChain.of("zz-YY")));
+    }
+
+    /**
+     * Test that language tags are shared between instances.
+     */
+    @Test
+    void testKeys_Shared() {
+        final I18nTranslations map = new I18nTranslations();
+        map.put("xx", "x");
+        final I18nTranslations other = new I18nTranslations();
+        other.put(new String("xx"), "x");
+        assertSame(
+                map.keySet().iterator().next(),
+                other.keySet().iterator().next());
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+    }
+
+    /**
+     * Test {@link java.io.Serializable} implementation.
+     */
+    @Test
+    void testSerializable() throws IOException, ClassNotFoundException {
+        final I18nTranslations map = new I18nTranslations();
+        map.put("aa", "a");
+        map.put("bb", "b");
+        final byte[] serializationResult;
+        try (
+                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                final ObjectOutputStream out = new ObjectOutputStream(baos)){
+            out.writeObject(map);
+            serializationResult = baos.toByteArray();
+        }
+        final Object result;
+        try (
+                final ByteArrayInputStream bais = new ByteArrayInputStream(serializationResult);
+                final ObjectInputStream in = new ObjectInputStream(bais)){
+            result = in.readObject();
+        }
+        assertEquals(HashMap.class, result.getClass());
+        assertEquals(map, result);
+    }
+}
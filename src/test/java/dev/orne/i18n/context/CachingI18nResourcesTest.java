@@ -0,0 +1,321 @@
+package dev.orne.i18n.context;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Locale;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.orne.i18n.I18nConfigurationException;
+import dev.orne.i18n.I18nResources;
+
+/**
+ * Unit tests for {@code CachingI18nResources}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see CachingI18nResources
+ */
+@Tag("ut")
+@ExtendWith(MockitoExtension.class)
+class CachingI18nResourcesTest {
+
+    private static final String MOCK_DEF_MSG = "mock default message";
+    private static final String MOCK_MSG_CODE = "mock message code";
+    private static final String MOCK_MSG_CODE_2 = "mock message code 2";
+    private static final String[] CODES = {
+            MOCK_MSG_CODE,
+            MOCK_MSG_CODE_2
+    };
+    private static final Object[] ARGS = {
+            "arg1",
+            "arg2"
+    };
+    private static final Locale LOCALE = new Locale("xx");
+    private static final Locale LOCALE_2 = new Locale("yy");
+    private static final String RESULT = "mock result";
+    private static final String RESULT_2 = "mock result 2";
+
+    private @Mock I18nResources delegate;
+
+    /**
+     * Test {@link CachingI18nResources#CachingI18nResources(I18nResources, int, long)}.
+     */
+    @Test
+    void testConstructor() {
+        final CachingI18nResources resources = new CachingI18nResources(delegate);
+        assertSame(delegate, resources.getDelegate());
+        assertEquals(CachingI18nResources.DEFAULT_MAX_SIZE, resources.getMaxSize());
+        assertEquals(0, resources.getRefreshMillis());
+        assertEquals(0, resources.size());
+        assertThrows(NullPointerException.class, () -> {
+            new CachingI18nResources(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CachingI18nResources(delegate, 0);
+        });
+    }
+
+    /**
+     * Test {@link CachingI18nResources#getMessage(String, String[], Locale, Object...)}.
+     */
+    @Test
+    void testGetMessage_Cached() {
+        willReturn(RESULT).given(delegate).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        final CachingI18nResources resources = new CachingI18nResources(delegate);
+        assertEquals(RESULT, resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS));
+        assertEquals(RESULT, resources.getMessage(
+                MOCK_DEF_MSG, CODES.clone(), LOCALE, ARGS.clone()));
+        then(delegate).should(times(1)).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        assertEquals(1, resources.size());
+        assertEquals(1, resources.getHitCount());
+        assertEquals(1, resources.getMissCount());
+    }
+
+    /**
+     * Test {@link CachingI18nResources#getMessage(String, String[], Locale, Object...)}.
+     */
+    @Test
+    void testGetMessage_Key() {
+        willReturn(RESULT).given(delegate).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        willReturn(RESULT_2).given(delegate).getMessage(MOCK_DEF_MSG, CODES, LOCALE_2, ARGS);
+        final CachingI18nResources resources = new CachingI18nResources(delegate);
+        assertEquals(RESULT, resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS));
+        assertEquals(RESULT_2, resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE_2, ARGS));
+        assertEquals(2, resources.size());
+        assertEquals(0, resources.getHitCount());
+    }
+
+    /**
+     * Test {@link CachingI18nResources#getMessage(String, String[], Locale, Object...)}.
+     */
+    @Test
+    void testGetMessage_CallerArrayModified() {
+        final String[] codes = CODES.clone();
+        willReturn(RESULT).given(delegate).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        final CachingI18nResources resources = new CachingI18nResources(delegate);
+        assertEquals(RESULT, resources.getMessage(MOCK_DEF_MSG, codes, LOCALE, ARGS));
+        codes[0] = "other";
+        assertEquals(RESULT, resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS));
+        then(delegate).should(times(1)).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+    }
+
+    /**
+     * Test {@link CachingI18nResources#getMessage(String, String[], Locale, Object...)}.
+     */
+    @Test
+    void testGetMessage_Eviction() {
+        final CachingI18nResources resources = new CachingI18nResources(
+                DummyI18nResources.getInstance(), 10);
+        for (int i = 0; i < 50; i++) {
+            assertEquals("hot", resources.getMessage("hot", CODES, LOCALE));
+            assertEquals("cold " + i, resources.getMessage("cold " + i, CODES, LOCALE));
+        }
+        assertTrue(resources.size() <= 10);
+        assertTrue(resources.getEvictionCount() > 0);
+        final long misses = resources.getMissCount();
+        assertEquals("hot", resources.getMessage("hot", CODES, LOCALE));
+        assertEquals(misses, resources.getMissCount());
+    }
+
+    /**
+     * Test {@link CachingI18nResources#getMessage(String, String[], Locale, Object...)}.
+     */
+    @Test
+    void testGetMessage_Refresh()
+    throws InterruptedException {
+        willReturn(RESULT, RESULT_2).given(delegate).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        final CachingI18nResources resources = new CachingI18nResources(delegate, 10, 1);
+        assertEquals(RESULT, resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS));
+        Thread.sleep(10);
+        assertEquals(RESULT_2, resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS));
+        assertEquals(2, resources.getMissCount());
+    }
+
+    /**
+     * Test {@link CachingI18nResources#clear()}.
+     */
+    @Test
+    void testClear() {
+        willReturn(RESULT).given(delegate).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        final CachingI18nResources resources = new CachingI18nResources(delegate);
+        resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        resources.clear();
+        assertEquals(0, resources.size());
+        resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        then(delegate).should(times(2)).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+    }
+
+    /**
+     * Test {@link AbstractI18nContextProvider#invalidate()} with caching
+     * resources.
+     */
+    @Test
+    void testProviderInvalidate() {
+        willReturn(RESULT).given(delegate).getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        final CachingI18nResources resources = new CachingI18nResources(delegate);
+        final SharedI18nContextProvider provider = SharedI18nContextProvider.builder()
+                .setDefaultI18nResources(resources)
+                .build();
+        resources.getMessage(MOCK_DEF_MSG, CODES, LOCALE, ARGS);
+        provider.invalidate();
+        assertEquals(0, resources.size());
+    }
+
+    /**
+     * Test {@link AbstractI18nContextProvider.BuilderImpl#configureI18nResourcesCache(Properties)}.
+     */
+    @Test
+    void testConfigure() {
+        final Properties config = new Properties();
+        config.setProperty(I18nConfiguration.RESOURCES_CACHE_SIZE, "100");
+        config.setProperty(I18nConfiguration.RESOURCES_CACHE_REFRESH, "5000");
+        final SharedI18nContextProvider provider = SharedI18nContextProvider.builder()
+                .setDefaultI18nResources(delegate)
+                .configure(config)
+                .build();
+        final I18nResources result = provider.getDefaultI18nResources();
+        assertInstanceOf(CachingI18nResources.class, result);
+        final CachingI18nResources caching = (CachingI18nResources) result;
+        assertSame(delegate, caching.getDelegate());
+        assertEquals(100, caching.getMaxSize());
+        assertEquals(5000, caching.getRefreshMillis());
+    }
+
+    /**
+     * Test {@link AbstractI18nContextProvider.BuilderImpl#configureI18nResourcesCache(Properties)}.
+     */
+    @Test
+    void testConfigure_Invalid() {
+        final Properties config = new Properties();
+        config.setProperty(I18nConfiguration.RESOURCES_CACHE_SIZE, "many");
+        final SharedI18nContextProvider.Builder builder = SharedI18nContextProvider.builder();
+        assertThrows(I18nConfigurationException.class, () -> {
+            builder.configure(config);
+        });
+    }
+
+    /**
+     * Test {@link AbstractI18nContextProvider.BuilderImpl#configureI18nResourcesCache(Properties)}
+     * with per named resources configuration.
+     */
+    @Test
+    void testConfigure_Named() {
+        final I18nResources before = mock(I18nResources.class);
+        final Properties config = new Properties();
+        config.setProperty(I18nConfiguration.RESOURCES_CACHE_SIZE, "100");
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "alt"
+                + I18nConfiguration.CACHE_SIZE_SUFFIX, "10");
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "alt"
+                + I18nConfiguration.CACHE_REFRESH_SUFFIX, "1000");
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "off"
+                + I18nConfiguration.CACHE_SIZE_SUFFIX, "0");
+        final SharedI18nContextProvider provider = SharedI18nContextProvider.builder()
+                .addI18nResources("before", before)
+                .configure(config)
+                .setDefaultI18nResources(delegate)
+                .addI18nResources("alt", delegate)
+                .addI18nResources("other", delegate)
+                .addI18nResources("off", delegate)
+                .build();
+        CachingI18nResources caching = assertInstanceOf(
+                CachingI18nResources.class, provider.getDefaultI18nResources());
+        assertSame(delegate, caching.getDelegate());
+        assertEquals(100, caching.getMaxSize());
+        assertEquals(0, caching.getRefreshMillis());
+        caching = assertInstanceOf(
+                CachingI18nResources.class, provider.getI18nResources("before"));
+        assertSame(before, caching.getDelegate());
+        assertEquals(100, caching.getMaxSize());
+        caching = assertInstanceOf(
+                CachingI18nResources.class, provider.getI18nResources("alt"));
+        assertSame(delegate, caching.getDelegate());
+        assertEquals(10, caching.getMaxSize());
+        assertEquals(1000, caching.getRefreshMillis());
+        caching = assertInstanceOf(
+                CachingI18nResources.class, provider.getI18nResources("other"));
+        assertEquals(100, caching.getMaxSize());
+        assertSame(delegate, provider.getI18nResources("off"));
+    }
+
+    /**
+     * Test {@link AbstractI18nContextProvider.BuilderImpl#configureI18nResourcesCache(Properties)}
+     * with per named resources configuration of configured named resources.
+     */
+    @Test
+    void testConfigure_NamedBasename() {
+        final Properties config = new Properties();
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "alt",
+                "dev.orne.i18n.test-messages-alt");
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "alt"
+                + I18nConfiguration.CACHE_SIZE_SUFFIX, "10");
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "alt"
+                + I18nConfiguration.CACHE_REFRESH_SUFFIX, "1000");
+        final SharedI18nContextProvider provider = SharedI18nContextProvider.builder()
+                .configure(config)
+                .build();
+        assertEquals(1, provider.getI18nResources().size());
+        final CachingI18nResources caching = assertInstanceOf(
+                CachingI18nResources.class, provider.getI18nResources("alt"));
+        final I18nBundleResources bundle = assertInstanceOf(
+                I18nBundleResources.class, caching.getDelegate());
+        assertEquals("dev.orne.i18n.test-messages-alt", bundle.getBundle().getBaseBundleName());
+        assertEquals(10, caching.getMaxSize());
+        assertEquals(1000, caching.getRefreshMillis());
+    }
+
+    /**
+     * Test {@link AbstractI18nContextProvider.BuilderImpl#configureI18nResourcesCache(Properties)}
+     * with only per named resources configuration.
+     */
+    @Test
+    void testConfigure_NamedOnly() {
+        final Properties config = new Properties();
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "alt"
+                + I18nConfiguration.CACHE_SIZE_SUFFIX, "10");
+        final SharedI18nContextProvider provider = SharedI18nContextProvider.builder()
+                .configure(config)
+                .setDefaultI18nResources(delegate)
+                .addI18nResources("alt", delegate)
+                .build();
+        assertSame(delegate, provider.getDefaultI18nResources());
+        final CachingI18nResources caching = assertInstanceOf(
+                CachingI18nResources.class, provider.getI18nResources("alt"));
+        assertEquals(10, caching.getMaxSize());
+        config.setProperty(I18nConfiguration.NAMED_RESOURCES_PREFIX + "alt"
+                + I18nConfiguration.CACHE_SIZE_SUFFIX, "-1");
+        final SharedI18nContextProvider.Builder builder = SharedI18nContextProvider.builder();
+        assertThrows(I18nConfigurationException.class, () -> {
+            builder.configure(config);
+        });
+    }
+}
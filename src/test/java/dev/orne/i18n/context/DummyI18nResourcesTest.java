@@ -24,6 +24,8 @@ package dev.orne.i18n.context;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Tag;
@@ -208,4 +210,36 @@ class DummyI18nResourcesTest {
                 ARGS);
         assertEquals(MOCK_DEF_MSG_INV_TMPL, result);
     }
+
+    /**
+     * Test {@link DummyI18nResources#writeMessage(Appendable, String, String[], Locale, Object...)}.
+     */
+    @Test
+    void testWriteMessage()
+    throws IOException {
+        final StringBuilder out = new StringBuilder("prefix ");
+        DummyI18nResources.getInstance().writeMessage(
+                out,
+                MOCK_DEF_MSG_TMPL,
+                CODES,
+                MOCK_DEFAULT_LOCALE,
+                ARGS);
+        assertEquals("prefix " + MOCK_DEF_MSG_TMPL_RESULT, out.toString());
+    }
+
+    /**
+     * Test {@link DummyI18nResources#writeMessage(Appendable, String, String[], Locale, Object...)}.
+     */
+    @Test
+    void testWriteMessage_Writer()
+    throws IOException {
+        final StringWriter out = new StringWriter();
+        DummyI18nResources.getInstance().writeMessage(
+                out,
+                MOCK_DEF_MSG_INV_TMPL,
+                CODES,
+                MOCK_DEFAULT_LOCALE,
+                ARGS);
+        assertEquals(MOCK_DEF_MSG_INV_TMPL, out.toString());
+    }
 }
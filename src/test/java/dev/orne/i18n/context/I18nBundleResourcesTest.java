@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 import org.junit.jupiter.api.AfterEach;
@@ -126,6 +127,29 @@ class I18nBundleResourcesTest {
                 I18nBundleResources.forBasename("dev.orne.i18n.missing-messages"));
     }
 
+    /**
+     * Test for {@link I18nBundleResources#getCatalog(Locale)}
+     */
+    @Test
+    void testGetCatalog() {
+        final I18nBundleResources resources = new I18nBundleResources(BASE_NAME);
+        final Map<String, String> result = resources.getCatalog(MOCK_LOCALE);
+        assertEquals(6, result.size());
+        assertEquals("dev.orne.i18n.test.blank", result.keySet().iterator().next());
+        assertEquals("dev/orne/i18n/test-messages_yy.properties", result.get("dev.orne.i18n.test.bundle"));
+        assertEquals("Won't pass", result.get("dev.orne.i18n.test.invalid"));
+        assertEquals("Valid value", result.get("dev.orne.i18n.test.valid"));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            result.put("other", "other");
+        });
+        assertEquals(
+                "dev/orne/i18n/test-messages.properties",
+                resources.getCatalog(new Locale("xx")).get("dev.orne.i18n.test.bundle"));
+        assertThrows(NullPointerException.class, () -> {
+            resources.getCatalog(null);
+        });
+    }
+
     /**
      * Test for {@link I18nBundleResources#getMessage(String, String, Object...)}
      */
@@ -0,0 +1,96 @@
+package dev.orne.i18n.context;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2021 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.MessageFormat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code MessageFormats}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see MessageFormats
+ */
+@Tag("ut")
+class MessageFormatsTest {
+
+    /**
+     * Test {@link MessageFormats#format(Appendable, String, Object...)}.
+     */
+    @Test
+    void testFormat_Plain()
+    throws IOException {
+        final StringBuilder out = new StringBuilder();
+        MessageFormats.format(out, "plain message", "arg");
+        assertEquals("plain message", out.toString());
+    }
+
+    /**
+     * Test {@link MessageFormats#format(Appendable, String, Object...)}.
+     */
+    @Test
+    void testFormat_Params()
+    throws IOException {
+        final String pattern = "It''s {0} of {1,number,integer}";
+        final Object[] params = { "one", 2 };
+        final StringBuilder out = new StringBuilder();
+        MessageFormats.format(out, pattern, params);
+        assertEquals(MessageFormat.format(pattern, params), out.toString());
+    }
+
+    /**
+     * Test {@link MessageFormats#format(Appendable, String, Object...)}.
+     */
+    @Test
+    void testFormat_Invalid()
+    throws IOException {
+        final StringBuilder out = new StringBuilder();
+        MessageFormats.format(out, "invalid {", "arg");
+        assertEquals("invalid {", out.toString());
+    }
+
+    /**
+     * Test {@link MessageFormats#format(Appendable, String, Object...)}.
+     */
+    @Test
+    void testFormat_Writer()
+    throws IOException {
+        final StringBuilder pattern = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            pattern.append("{0}-");
+            expected.append("value-");
+        }
+        final StringWriter out = new StringWriter();
+        MessageFormats.format(out, pattern.toString(), "value");
+        assertEquals(expected.toString(), out.toString());
+    }
+}
@@ -114,6 +114,22 @@ class SharedI18nContextProviderTest {
         assertTrue(provider.isContextValid(otherContext));
     }
 
+    /**
+     * Test {@link SharedI18nContextProvider#invalidate()}.
+     */
+    @Test
+    void testInvalidate() {
+        final SharedI18nContextProvider provider = SharedI18nContextProvider.builder().build();
+        final I18nContext context = provider.getContext();
+        assertEquals(provider.getSessionUUID(), context.getProviderUUID());
+        provider.invalidate();
+        assertFalse(provider.isContextValid(context));
+        final I18nContext result = provider.getContext();
+        assertNotSame(context, result);
+        assertEquals(provider.getSessionUUID(), result.getProviderUUID());
+        assertNotEquals(context.getProviderUUID(), result.getProviderUUID());
+    }
+
     /**
      * Test {@link SharedI18nContextProvider#equals(Object)} and
      * {@link SharedI18nContextProvider#hashCode()}.
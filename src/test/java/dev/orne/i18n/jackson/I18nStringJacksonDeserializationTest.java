@@ -48,19 +48,30 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import dev.orne.i18n.I18N;
 import dev.orne.i18n.I18nBilingualString;
+import dev.orne.i18n.I18nConcurrentStringMap;
 import dev.orne.i18n.I18nFixedString;
+import dev.orne.i18n.I18nFrozenString;
 import dev.orne.i18n.I18nResourcesString;
+import dev.orne.i18n.I18nResourcesStringStructuredContainer;
 import dev.orne.i18n.I18nString;
 import dev.orne.i18n.I18nStringAsObjectContainer;
 import dev.orne.i18n.I18nStringContainer;
 import dev.orne.i18n.I18nStringJacksonDeserializer;
+import dev.orne.i18n.I18nStringLimits;
 import dev.orne.i18n.I18nStringMap;
 import dev.orne.i18n.I18nStringMapAsObjectContainer;
 import dev.orne.i18n.I18nStringMapContainer;
@@ -85,6 +96,9 @@ class I18nStringJacksonDeserializationTest {
     private static final String DEFAULT_TEXT_PROP = "defaultText";
     private static final String I18N_PROP = "i18n";
 
+    private static final ObjectReader STRUCTURED_READER = new ObjectMapper()
+            .readerFor(I18nResourcesStringStructuredContainer.class);
+
     private static ObjectMapper mapper;
     private static JsonNodeFactory nodeFactory;
 
@@ -238,6 +252,129 @@ class I18nStringJacksonDeserializationTest {
         });
     }
 
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nResourcesString}
+     * in structured form.
+     */
+    @Test
+    void testI18nResourcesString_Structured() {
+        final I18nResourcesString expected = I18nResourcesString
+                .forDefault("Default {0}")
+                .ofResources("resources")
+                .withCodes("code.a", "code.b")
+                .withArgs("text", 3, 2.5, true, null)
+                .build();
+        final String json = "{\"resources\":\"resources\",\"defaultText\":\"Default {0}\","
+                + "\"codes\":[\"code.a\",\"code.b\"],\"arguments\":[\"text\",3,2.5,true,null]}";
+        assertThrows(JsonProcessingException.class, () -> {
+            mapper.readValue(json, I18nResourcesString.class);
+        });
+        final I18nResourcesString result = assertDoesNotThrow(() -> {
+            return readStructured(STRUCTURED_READER, json);
+        });
+        assertEquals(expected, result);
+        final I18nResourcesString defaultResult = assertDoesNotThrow(() -> {
+            return readStructured(STRUCTURED_READER, "{\"defaultText\":\"Default\",\"codes\":[\"code.a\"]}");
+        });
+        assertEquals(
+                I18nResourcesString.forDefault("Default").withCode("code.a").build(),
+                defaultResult);
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nResourcesString}
+     * in structured form without required properties.
+     */
+    @Test
+    void testI18nResourcesString_StructuredMissing() {
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(STRUCTURED_READER, "{\"codes\":[\"code.a\"]}");
+        });
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(STRUCTURED_READER, "{\"defaultText\":\"Default\"}");
+        });
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(STRUCTURED_READER, "{\"defaultText\":\"Default\",\"codes\":\"code.a\"}");
+        });
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(STRUCTURED_READER, "{\"defaultText\":\"Default\",\"codes\":[\"code.a\"],"
+                    + "\"arguments\":[{}]}");
+        });
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nResourcesString}
+     * in structured form with limits.
+     */
+    @Test
+    void testI18nResourcesString_StructuredLimits() {
+        final I18nStringLimits limits = I18nStringLimits.unlimited()
+                .withMaxCodes(2)
+                .withMaxArguments(1)
+                .withMaxTextLength(10);
+        final ObjectReader limitedReader = STRUCTURED_READER
+                .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, limits);
+        assertEquals(
+                I18nResourcesString.forDefault("Default").withCodes("code.a", "code.b").withArg("text").build(),
+                assertDoesNotThrow(() -> readStructured(limitedReader,
+                        "{\"defaultText\":\"Default\",\"codes\":[\"code.a\",\"code.b\"],"
+                        + "\"arguments\":[\"text\"]}")));
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(limitedReader, "{\"defaultText\":\"Default\","
+                    + "\"codes\":[\"code.a\",\"code.b\",\"code.c\"]}");
+        });
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(limitedReader, "{\"defaultText\":\"Default\",\"codes\":[\"code.a\"],"
+                    + "\"arguments\":[1,2]}");
+        });
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(limitedReader, "{\"defaultText\":\"Default text\",\"codes\":[\"code.a\"]}");
+        });
+        assertThrows(JsonProcessingException.class, () -> {
+            readStructured(limitedReader, "{\"defaultText\":\"Default\",\"codes\":[\"code.a\"],"
+                    + "\"arguments\":[\"long argument\"]}");
+        });
+    }
+
+    /**
+     * Reads the {@code I18nResourcesString} in structured form of a
+     * {@code I18nResourcesStringStructuredContainer}.
+     * 
+     * @param reader The container reader
+     * @param json The JSON of the structured form
+     * @return The read instance
+     * @throws JsonProcessingException If an error occurs
+     */
+    private static I18nResourcesString readStructured(
+            final @NotNull ObjectReader reader,
+            final @NotNull String json)
+    throws JsonProcessingException {
+        return reader.<I18nResourcesStringStructuredContainer>readValue(
+                "{\"bean\":" + json + "}").getBean();
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nResourcesString}
+     * in structured form in containers.
+     */
+    @Test
+    void testStructuredContainer_I18nResourcesString() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault("Default {0}")
+                .withCode("code.a")
+                .withArg("text")
+                .build();
+        final I18nResourcesStringStructuredContainer container =
+                new I18nResourcesStringStructuredContainer();
+        container.setBean(bean);
+        final I18nResourcesStringStructuredContainer result = assertDoesNotThrow(() -> {
+            return mapper.readValue(
+                    mapper.writeValueAsString(container),
+                    I18nResourcesStringStructuredContainer.class);
+        });
+        assertEquals(container, result);
+    }
+
     /**
      * Test Jackson JSON deserialization support for {@code I18nStringMap}.
      */
@@ -283,6 +420,22 @@ class I18nStringJacksonDeserializationTest {
         assertEquals(bean, result);
     }
 
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nFrozenString}.
+     */
+    @Test
+    void testI18nFrozenString_Object() {
+        final String defaultText = RandomStringUtils.random(RND_STR_LENGTH);
+        final String xxText = RandomStringUtils.random(RND_STR_LENGTH);
+        final I18nStringMap bean = new I18nStringMap(defaultText)
+                .set("xx", xxText);
+        final String json = nodeToJson(createMapNode(bean));
+        final I18nFrozenString result = assertDoesNotThrow(() -> {
+            return mapper.readValue(json, I18nFrozenString.class);
+        });
+        assertEquals(bean.freeze(), result);
+    }
+
     /**
      * Test Jackson JSON deserialization support for {@code I18nUnknownString}.
      */
@@ -627,6 +780,104 @@ class I18nStringJacksonDeserializationTest {
         assertEquals(bean, result.getBean());
     }
 
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * with scalar translations.
+     */
+    @Test
+    void testI18nStringMap_ScalarTranslations() {
+        final String json = "{\"defaultText\":1,\"i18n\":{\"xx\":2,\"yy\":true}}";
+        final I18nStringMap result = assertDoesNotThrow(() -> {
+            return mapper.readValue(json, I18nStringMap.class);
+        });
+        assertEquals(new I18nStringMap("1").set("xx", "2").set("yy", "true"), result);
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * with null translations.
+     */
+    @Test
+    void testI18nStringMap_NullTranslation() {
+        final String json = "{\"defaultText\":\"text\",\"i18n\":{\"xx\":null}}";
+        assertThrows(JsonMappingException.class, () -> {
+            mapper.readValue(json, I18nStringMap.class);
+        });
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * with unknown properties.
+     */
+    @Test
+    void testI18nStringMap_UnknownProperty() {
+        final String json = "{\"defaultText\":\"text\",\"other\":{\"xx\":[1]},\"i18n\":{\"xx\":\"xx text\"}}";
+        assertThrows(JsonMappingException.class, () -> {
+            mapper.readValue(json, I18nStringMap.class);
+        });
+        final ObjectMapper lenientMapper = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        final I18nStringMap result = assertDoesNotThrow(() -> {
+            return lenientMapper.readValue(json, I18nStringMap.class);
+        });
+        assertEquals(new I18nStringMap("text").set("xx", "xx text"), result);
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * with a property naming strategy.
+     */
+    @Test
+    void testI18nStringMap_NamingStrategy() {
+        final String json = "{\"default_text\":\"text\",\"i18n\":{\"xx\":\"xx text\"}}";
+        final ObjectMapper snakeMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        final I18nStringMap result = assertDoesNotThrow(() -> {
+            return snakeMapper.readValue(json, I18nStringMap.class);
+        });
+        assertEquals(new I18nStringMap("text").set("xx", "xx text"), result);
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nString}
+     * with a deserializer instance shared between mappers with different
+     * property naming strategies.
+     */
+    @Test
+    void testI18nString_SharedNamingStrategy() {
+        final I18nStringJacksonDeserializer deserializer = new I18nStringJacksonDeserializer();
+        final ObjectMapper plainMapper = new ObjectMapper()
+                .registerModule(new SimpleModule()
+                        .addDeserializer(I18nString.class, deserializer));
+        final ObjectMapper snakeMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
+                .registerModule(new SimpleModule()
+                        .addDeserializer(I18nString.class, deserializer));
+        final I18nStringMap expected = new I18nStringMap("text").set("xx", "xx text");
+        assertEquals(expected, assertDoesNotThrow(() -> plainMapper.readValue(
+                "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"xx text\"}}",
+                I18nString.class)));
+        assertEquals(expected, assertDoesNotThrow(() -> snakeMapper.readValue(
+                "{\"default_text\":\"text\",\"i18n\":{\"xx\":\"xx text\"}}",
+                I18nString.class)));
+        assertEquals(expected, assertDoesNotThrow(() -> plainMapper.readValue(
+                "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"xx text\"}}",
+                I18nString.class)));
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for
+     * {@code I18nConcurrentStringMap}.
+     */
+    @Test
+    void testI18nConcurrentStringMap_Object() {
+        final String json = "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"xx text\"}}";
+        final I18nConcurrentStringMap result = assertDoesNotThrow(() -> {
+            return mapper.readValue(json, I18nConcurrentStringMap.class);
+        });
+        assertEquals(new I18nStringMap("text").set("xx", "xx text").freeze(), result.snapshot());
+    }
+
     protected @NotNull String nodeToJson(
             final @NotNull JsonNode node) {
         final StringWriter writer = new StringWriter();
@@ -639,6 +890,140 @@ class I18nStringJacksonDeserializationTest {
         return writer.toString();
     }
 
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nString}
+     * in compact layout.
+     */
+    @Test
+    void testAsObjectContainer_Compact() {
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("xx", "xx text")
+                .set("yy", "yy text");
+        final String json = "{\"bean\":[\"default\",{\"xx\":\"xx text\",\"yy\":\"yy text\"}]}";
+        final I18nStringAsObjectContainer result = assertDoesNotThrow(() -> {
+            return mapper.readValue(json, I18nStringAsObjectContainer.class);
+        });
+        assertEquals(bean, result.getBean());
+        final I18nStringMapContainer mapResult = assertDoesNotThrow(() -> {
+            return mapper.readValue(json, I18nStringMapContainer.class);
+        });
+        assertEquals(bean, mapResult.getBean());
+        final I18nFrozenString frozenResult = assertDoesNotThrow(() -> {
+            return mapper.readValue("[\"default\",{\"xx\":\"xx text\",\"yy\":\"yy text\"}]",
+                    I18nFrozenString.class);
+        });
+        assertTrue(bean.isEquivalent(frozenResult));
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * with invalid compact layouts.
+     */
+    @Test
+    void testI18nStringMap_CompactInvalid() {
+        for (final String json : new String[] {
+                "[]",
+                "[\"default\"]",
+                "[null,{}]",
+                "[\"default\",null]",
+                "[\"default\",\"xx\"]",
+                "[\"default\",{},\"yy\"]" }) {
+            assertThrows(JsonMappingException.class, () -> {
+                mapper.readValue(json, I18nStringMap.class);
+            }, json);
+        }
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * with limits deserialization attribute.
+     */
+    @Test
+    void testI18nStringMap_LimitsAttribute() {
+        final I18nStringLimits limits = I18nStringLimits.unlimited()
+                .withMaxLanguages(2)
+                .withMaxTextLength(10)
+                .withLocales(new Locale("xx"), new Locale("yy", "YY"));
+        final I18nStringMap result = assertDoesNotThrow(() -> mapper.readerFor(I18nStringMap.class)
+                .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, limits)
+                .readValue("{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"xx text\",\"yy-YY\":\"yy text\"}}"));
+        assertEquals(new I18nStringMap("text").set("xx", "xx text").set("yy-YY", "yy text"), result);
+        for (final String json : new String[] {
+                "{\"defaultText\":\"long default text\",\"i18n\":{}}",
+                "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"long xx text\"}}",
+                "{\"defaultText\":\"text\",\"i18n\":{\"xx\":12345678901}}",
+                "{\"defaultText\":\"text\",\"i18n\":{\"zz\":\"zz text\"}}",
+                "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"xx text\",\"yy\":\"yy text\",\"yy-YY\":\"yy text\"}}",
+                "[\"text\",{\"zz\":\"zz text\"}]",
+                "\"long default text\"" }) {
+            assertThrows(JsonMappingException.class, () -> {
+                mapper.readerFor(I18nStringMap.class)
+                        .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, limits)
+                        .readValue(json);
+            }, json);
+        }
+        final String duplicated = "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"a\",\"yy\":\"b\",\"xx\":\"c\"}}";
+        assertDoesNotThrow(() -> mapper.readerFor(I18nStringMap.class)
+                .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, limits)
+                .readValue(duplicated));
+        final ObjectMapper beanMapper = new ObjectMapper()
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
+        assertThrows(JsonMappingException.class, () -> {
+            beanMapper.readerFor(I18nStringMap.class)
+                    .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, limits)
+                    .readValue("{\"defaultText\":\"text\",\"i18n\":{\"zz\":\"zz text\"}}");
+        });
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * through bean deserialization with limits deserialization attribute,
+     * checking the limits before reading the rest of the input.
+     */
+    @Test
+    void testI18nStringMap_BeanLimitsAttribute() {
+        final I18nStringLimits limits = I18nStringLimits.unlimited()
+                .withMaxLanguages(2)
+                .withMaxTextLength(10);
+        final ObjectMapper beanMapper = new ObjectMapper()
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
+        final I18nStringMap result = assertDoesNotThrow(() -> beanMapper.readerFor(I18nStringMap.class)
+                .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, limits)
+                .readValue("{\"DefaultText\":\"text\",\"i18n\":{\"xx\":\"xx text\",\"yy\":\"yy text\"}}"));
+        assertEquals(new I18nStringMap("text").set("xx", "xx text").set("yy", "yy text"), result);
+        for (final String json : new String[] {
+                "{\"defaultText\":\"long default text\",\"i18n\":{",
+                "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"long xx text\",",
+                "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"a\",\"yy\":\"b\",\"zz\":\"c" }) {
+            assertThrows(MismatchedInputException.class, () -> {
+                beanMapper.readerFor(I18nStringMap.class)
+                        .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, limits)
+                        .readValue(json);
+            }, json);
+        }
+    }
+
+    /**
+     * Test Jackson JSON deserialization support for {@code I18nStringMap}
+     * with shared limits.
+     */
+    @Test
+    void testI18nStringMap_SharedLimits() {
+        final String json = "{\"defaultText\":\"text\",\"i18n\":{\"xx\":\"xx text\"}}";
+        I18nStringLimits.setShared(I18nStringLimits.unlimited().withMaxLanguages(0));
+        try {
+            assertThrows(JsonMappingException.class, () -> {
+                mapper.readValue(json, I18nString.class);
+            });
+            assertDoesNotThrow(() -> mapper.readerFor(I18nString.class)
+                    .withAttribute(I18nStringJacksonDeserializer.LIMITS_ATTRIBUTE, I18nStringLimits.unlimited())
+                    .readValue(json));
+        } finally {
+            I18nStringLimits.setShared(null);
+        }
+        assertDoesNotThrow(() -> mapper.readValue(json, I18nString.class));
+    }
+
     /**
      * Test {@link I18nStringJacksonDeserializer#deserialize(JsonParser, DeserializationContext)}.
      */
@@ -0,0 +1,170 @@
+package dev.orne.i18n.jackson;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2021 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+
+import dev.orne.i18n.I18nFixedString;
+import dev.orne.i18n.I18nFrozenString;
+import dev.orne.i18n.I18nString;
+import dev.orne.i18n.I18nStringAsObjectContainer;
+import dev.orne.i18n.I18nStringContainer;
+import dev.orne.i18n.I18nStringJacksonModule;
+import dev.orne.i18n.I18nStringMap;
+import dev.orne.i18n.I18nStringMapAsObjectContainer;
+
+/**
+ * Unit tests for {@code I18nStringJacksonModule}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nStringJacksonModule
+ */
+@Tag("ut")
+class I18nStringJacksonModuleTest {
+
+    private static final String MOCK_JSON =
+            "{\"defaultText\":\"default\",\"i18n\":{\"xx\":\"xx text\"}}";
+    private static final I18nStringMap MOCK_VALUE = new I18nStringMap("default")
+            .set("xx", "xx text");
+
+    /**
+     * Test {@link ObjectMapper#findAndRegisterModules()} support.
+     */
+    @Test
+    void testFindAndRegisterModules() {
+        final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        assertTrue(mapper.getRegisteredModuleIds().contains(
+                I18nStringJacksonModule.class.getName()));
+    }
+
+    /**
+     * Test deserialization with the module registered.
+     */
+    @Test
+    void testDeserialize() {
+        final ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new I18nStringJacksonModule());
+        assertEquals(MOCK_VALUE, assertDoesNotThrow(
+                () -> mapper.readValue(MOCK_JSON, I18nString.class)));
+        assertEquals(MOCK_VALUE, assertDoesNotThrow(
+                () -> mapper.readValue(MOCK_JSON, I18nStringMap.class)));
+        assertEquals(MOCK_VALUE.freeze(), assertDoesNotThrow(
+                () -> mapper.readValue(MOCK_JSON, I18nFrozenString.class)));
+        assertEquals(I18nFixedString.from("text"), assertDoesNotThrow(
+                () -> mapper.readValue("\"text\"", I18nFixedString.class)));
+        final I18nStringMapAsObjectContainer container = assertDoesNotThrow(
+                () -> mapper.readValue("{\"bean\":" + MOCK_JSON + "}", I18nStringMapAsObjectContainer.class));
+        assertEquals(MOCK_VALUE, container.getBean());
+    }
+
+    /**
+     * Test deserialization with the same module instance registered in
+     * mappers with different configurations.
+     */
+    @Test
+    void testDeserialize_SharedModule() {
+        final I18nStringJacksonModule module = new I18nStringJacksonModule();
+        final ObjectMapper plainMapper = new ObjectMapper()
+                .registerModule(module);
+        final ObjectMapper snakeMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
+                .registerModule(module);
+        final ObjectMapper insensitiveMapper = new ObjectMapper()
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
+                .registerModule(module);
+        assertEquals(MOCK_VALUE, assertDoesNotThrow(
+                () -> plainMapper.readValue(MOCK_JSON, I18nStringMap.class)));
+        assertEquals(MOCK_VALUE, assertDoesNotThrow(
+                () -> snakeMapper.readValue(
+                        MOCK_JSON.replace("defaultText", "default_text"),
+                        I18nStringMap.class)));
+        assertEquals(MOCK_VALUE, assertDoesNotThrow(
+                () -> insensitiveMapper.readValue(
+                        MOCK_JSON.replace("defaultText", "DEFAULTTEXT"),
+                        I18nStringMap.class)));
+        assertEquals(MOCK_VALUE, assertDoesNotThrow(
+                () -> plainMapper.readValue(MOCK_JSON, I18nStringMap.class)));
+    }
+
+    /**
+     * Test serialization with the module registered.
+     */
+    @Test
+    void testSerialize() {
+        final ObjectMapper plainMapper = new ObjectMapper();
+        final ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new I18nStringJacksonModule());
+        final I18nStringAsObjectContainer objectContainer = new I18nStringAsObjectContainer();
+        objectContainer.setBean(MOCK_VALUE);
+        final I18nStringContainer container = new I18nStringContainer();
+        container.setBean(MOCK_VALUE);
+        assertEquals(
+                assertDoesNotThrow(() -> plainMapper.writeValueAsString(objectContainer)),
+                assertDoesNotThrow(() -> mapper.writeValueAsString(objectContainer)));
+        assertEquals(
+                assertDoesNotThrow(() -> plainMapper.writeValueAsString(container)),
+                assertDoesNotThrow(() -> mapper.writeValueAsString(container)));
+    }
+
+    /**
+     * Test concurrent deserialization with a shared mapper.
+     *
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testConcurrentDeserialize()
+    throws Exception {
+        final ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new I18nStringJacksonModule());
+        final String json = "{\"bean\":" + MOCK_JSON + "}";
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<I18nStringMapAsObjectContainer>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(
+                        () -> mapper.readValue(json, I18nStringMapAsObjectContainer.class)));
+            }
+            for (final Future<I18nStringMapAsObjectContainer> result : results) {
+                assertEquals(MOCK_VALUE, result.get(10, TimeUnit.SECONDS).getBean());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -25,7 +25,16 @@ package dev.orne.i18n.jackson;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.validation.constraints.NotNull;
 
@@ -36,17 +45,26 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 import dev.orne.i18n.I18N;
 import dev.orne.i18n.I18nBilingualString;
 import dev.orne.i18n.I18nFixedString;
 import dev.orne.i18n.I18nFixedStringAsObjectContainer;
 import dev.orne.i18n.I18nFixedStringContainer;
+import dev.orne.i18n.I18nLanguageProjection;
 import dev.orne.i18n.I18nResourcesString;
 import dev.orne.i18n.I18nResourcesStringAsObjectContainer;
 import dev.orne.i18n.I18nResourcesStringContainer;
+import dev.orne.i18n.I18nResourcesStringJacksonSerializer;
+import dev.orne.i18n.I18nResourcesStringStructuredContainer;
 import dev.orne.i18n.I18nString;
 import dev.orne.i18n.I18nStringAsObjectContainer;
 import dev.orne.i18n.I18nStringContainer;
@@ -204,6 +222,50 @@ class I18nStringJacksonSerializationTest {
         assertStringNode(text, beanNode);
     }
 
+    /**
+     * Test Jackson JSON serialization support for repeated
+     * {@code I18nResourcesString} values.
+     */
+    @Test
+    void testI18nResourcesString_Repeated() {
+        final String defaultText = RandomStringUtils.random(RND_STR_LENGTH);
+        final I18nResourcesString bean = spy(I18nResourcesString
+                .forDefault(defaultText)
+                .withCode(RandomStringUtils.random(RND_STR_LENGTH))
+                .build());
+        final String text = RandomStringUtils.random(RND_STR_LENGTH);
+        willReturn(text).given(bean).get();
+        final String json = toJson(Arrays.asList(bean, bean, bean));
+        assertNotNull(json);
+        final JsonNode tree = jsonToTree(json);
+        assertEquals(3, tree.size());
+        for (final JsonNode node : tree) {
+            assertStringNode(text, node);
+        }
+        then(bean).should(times(1)).get();
+        toJson(Arrays.asList(bean, bean));
+        then(bean).should(times(2)).get();
+    }
+
+    /**
+     * Test Jackson JSON serialization support for repeated memoized
+     * {@code I18nResourcesString} values.
+     */
+    @Test
+    void testI18nResourcesString_RepeatedMemoized() {
+        final String defaultText = RandomStringUtils.random(RND_STR_LENGTH);
+        final I18nResourcesString bean = spy(I18nResourcesString
+                .forDefault(defaultText)
+                .withCode(RandomStringUtils.random(RND_STR_LENGTH))
+                .build()
+                .memoize());
+        final String text = RandomStringUtils.random(RND_STR_LENGTH);
+        willReturn(text).given(bean).get();
+        final String json = toJson(Arrays.asList(bean, bean, bean));
+        assertNotNull(json);
+        then(bean).should(times(3)).get();
+    }
+
     /**
      * Test Jackson JSON serialization support for {@code I18nStringMap}
      * in containers.
@@ -555,6 +617,361 @@ class I18nStringJacksonSerializationTest {
         assertEquals(3, i18nNode.size());
     }
 
+    /**
+     * Test Jackson JSON serialization support for {@code I18nStringMap}
+     * in containers with a property naming strategy.
+     */
+    @Test
+    void testAsObjectContainer_NamingStrategy() {
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("xx", "xx text");
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final String json = assertDoesNotThrow(() -> new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
+                .writeValueAsString(container));
+        assertEquals("{\"bean\":{\"default_text\":\"default\",\"i18n\":{\"xx\":\"xx text\"}}}", json);
+    }
+
+    /**
+     * Test Jackson JSON serialization support for {@code I18nStringMap}
+     * in containers with a non default inclusion rule.
+     */
+    @Test
+    void testAsObjectContainer_Inclusion() {
+        final I18nStringMap bean = new I18nStringMap("");
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final String json = assertDoesNotThrow(() -> new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
+                .writeValueAsString(container));
+        assertEquals("{\"bean\":{}}", json);
+    }
+
+    /**
+     * Test Jackson JSON serialization support for {@code I18nStringMap}
+     * in containers with a non default inclusion rule and languages
+     * serialization attribute.
+     */
+    @Test
+    void testAsObjectContainer_InclusionLanguagesAttribute() {
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("xx", "xx text")
+                .set("yy", "yy text");
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final ObjectMapper inclusionMapper = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        final String json = assertDoesNotThrow(() -> inclusionMapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.LANGUAGES_ATTRIBUTE, "xx")
+                .writeValueAsString(container));
+        assertEquals("{\"bean\":{\"defaultText\":\"default\",\"i18n\":{\"xx\":\"xx text\"}}}", json);
+        final String emptyJson = assertDoesNotThrow(() -> inclusionMapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.LANGUAGES_ATTRIBUTE, "ww")
+                .writeValueAsString(container));
+        assertEquals("{\"bean\":{\"defaultText\":\"default\"}}", emptyJson);
+        assertEquals(2, bean.getI18n().size());
+    }
+
+    /**
+     * Test Jackson JSON serialization support for {@code I18nStringMap}
+     * in containers with ordered map entries.
+     */
+    @Test
+    void testAsObjectContainer_OrderedEntries() {
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("zz", "zz text")
+                .set("xx", "xx text")
+                .set("yy", "yy text");
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final String json = assertDoesNotThrow(() -> new ObjectMapper()
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValueAsString(container));
+        assertEquals("{\"bean\":{\"defaultText\":\"default\",\"i18n\":"
+                + "{\"xx\":\"xx text\",\"yy\":\"yy text\",\"zz\":\"zz text\"}}}", json);
+    }
+
+    /**
+     * Test Jackson JSON serialization support for {@code I18nStringMap}
+     * in containers, comparing the translations order with the output of
+     * previous versions, serializing a {@code HashMap} copy of the
+     * translations.
+     */
+    @Test
+    void testAsObjectContainer_SerializationOrder() {
+        final String[] tags = { "qoa", "qob", "qoc", "qod", "qoe", "qof", "qog",
+                "qoh", "qoi", "qoj", "qok", "qol", "qom", "qon", "qoo", "qoq" };
+        final ObjectMapper snakeMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        for (final int size : new int[] { 3, 8, 12, 16 }) {
+            final I18nStringMap bean = new I18nStringMap("default");
+            final Map<String, String> translations = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                bean.set(tags[i], tags[i] + " text");
+                translations.put(tags[i], tags[i] + " text");
+            }
+            final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+            container.setBean(bean);
+            final Map<String, Object> expectedBean = new LinkedHashMap<>();
+            expectedBean.put(DEFAULT_TEXT_PROP, "default");
+            expectedBean.put(I18N_PROP, new HashMap<>(translations));
+            final Map<String, Object> expected = new LinkedHashMap<>();
+            expected.put("bean", expectedBean);
+            assertEquals(
+                    assertDoesNotThrow(() -> mapper.writeValueAsString(expected)),
+                    toJson(container));
+            final Map<String, Object> expectedSnakeBean = new LinkedHashMap<>();
+            expectedSnakeBean.put("default_text", "default");
+            expectedSnakeBean.put(I18N_PROP, new HashMap<>(translations));
+            expected.put("bean", expectedSnakeBean);
+            assertEquals(
+                    assertDoesNotThrow(() -> mapper.writeValueAsString(expected)),
+                    assertDoesNotThrow(() -> snakeMapper.writeValueAsString(container)));
+        }
+    }
+
+    /**
+     * Test Jackson JSON serialization support for {@code I18nStringMap}
+     * in containers with locale serialization attribute.
+     */
+    @Test
+    void testContainer_LocaleAttribute() {
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("xx", "xx text")
+                .set("yy", "yy text");
+        final I18nStringContainer container = new I18nStringContainer();
+        container.setBean(bean);
+        final String json = assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.LOCALE_ATTRIBUTE, new Locale("xx"))
+                .writeValueAsString(container));
+        assertEquals("{\"bean\":\"xx text\"}", json);
+        final String tagJson = assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.LOCALE_ATTRIBUTE, "yy-YY")
+                .writeValueAsString(container));
+        assertEquals("{\"bean\":\"yy text\"}", tagJson);
+    }
+
+    /**
+     * Test Jackson JSON serialization support for
+     * {@code I18nResourcesString} as objects in containers with locale
+     * serialization attribute, in a thread with a different I18N context.
+     */
+    @Test
+    void testAsObjectContainer_LocaleAttributeWorkerThread()
+    throws Exception {
+        final I18nResourcesString bean = spy(I18nResourcesString
+                .forDefault("default")
+                .withCode("code")
+                .build());
+        willReturn("xx text").given(bean).get(new Locale("xx"));
+        willReturn("yy text").given(bean).get(new Locale("yy"));
+        willReturn("yy text").given(bean).get();
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final ObjectMapper snakeMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String[]> result = executor.submit(() -> {
+                I18N.setLocale(new Locale("yy"));
+                try {
+                    return new String[] {
+                        mapper.writer()
+                            .withAttribute(I18nStringJacksonSerializer.LOCALE_ATTRIBUTE, "xx")
+                            .writeValueAsString(container),
+                        snakeMapper.writer()
+                            .withAttribute(I18nStringJacksonSerializer.LOCALE_ATTRIBUTE, "xx")
+                            .writeValueAsString(container)
+                    };
+                } finally {
+                    I18nContextProvider.getInstance().clearContext();
+                }
+            });
+            final String[] json = result.get(10, TimeUnit.SECONDS);
+            assertEquals("{\"bean\":{\"defaultText\":\"default\",\"i18n\":{\"xx\":\"xx text\"}}}", json[0]);
+            assertEquals("{\"bean\":{\"default_text\":\"default\",\"i18n\":{\"xx\":\"xx text\"}}}", json[1]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test for {@link I18nStringJacksonSerializer} serialization
+     * in containers with languages serialization attribute.
+     */
+    @Test
+    void testAsObjectContainer_LanguagesAttribute() {
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("xx", "xx text")
+                .set("xx-YY", "xx-YY text")
+                .set("yy", "yy text")
+                .set("zz", "zz text");
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final String json = assertDoesNotThrow(() -> mapper.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .withAttribute(I18nStringJacksonSerializer.LANGUAGES_ATTRIBUTE, "xx-YY")
+                .writeValueAsString(container));
+        assertEquals(
+                "{\"bean\":{\"defaultText\":\"default\",\"i18n\":{\"xx\":\"xx text\",\"xx-YY\":\"xx-YY text\"}}}",
+                json);
+        final String listJson = assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.LANGUAGES_ATTRIBUTE,
+                        Arrays.asList(new Locale("zz"), "ww"))
+                .writeValueAsString(container));
+        assertEquals(
+                "{\"bean\":{\"defaultText\":\"default\",\"i18n\":{\"zz\":\"zz text\"}}}",
+                listJson);
+        final String projectionJson = assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.LANGUAGES_ATTRIBUTE,
+                        I18nLanguageProjection.of("ww"))
+                .writeValueAsString(container));
+        assertEquals(
+                "{\"bean\":{\"defaultText\":\"default\",\"i18n\":{}}}",
+                projectionJson);
+        assertEquals(4, bean.getI18n().size());
+    }
+
+    /**
+     * Test for {@link I18nResourcesStringJacksonSerializer} serialization
+     * in containers.
+     */
+    @Test
+    void testStructuredContainer_I18nResourcesString() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault("Default {0}")
+                .ofResources("resources")
+                .withCodes("code.a", "code.b")
+                .withArgs("text", 3, null)
+                .build();
+        final I18nResourcesStringStructuredContainer container =
+                new I18nResourcesStringStructuredContainer();
+        container.setBean(bean);
+        final String json = toJson(container);
+        assertEquals(
+                "{\"bean\":{\"resources\":\"resources\",\"defaultText\":\"Default {0}\","
+                + "\"codes\":[\"code.a\",\"code.b\"],\"arguments\":[\"text\",3,null]}}",
+                json);
+        final I18nResourcesString defaultBean = I18nResourcesString
+                .forDefault("Default")
+                .withCode("code.a")
+                .build();
+        container.setBean(defaultBean);
+        assertEquals(
+                "{\"bean\":{\"defaultText\":\"Default\",\"codes\":[\"code.a\"]}}",
+                toJson(container));
+    }
+
+    /**
+     * Test for {@link I18nStringJacksonSerializer} serialization
+     * in containers with structured serialization attribute.
+     */
+    @Test
+    void testContainer_StructuredAttribute() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault("Default {0}")
+                .withCode("code.a")
+                .withArg(3)
+                .build();
+        final I18nStringContainer container = new I18nStringContainer();
+        container.setBean(bean);
+        final String expected = "{\"bean\":{\"defaultText\":\"Default {0}\","
+                + "\"codes\":[\"code.a\"],\"arguments\":[3]}}";
+        assertEquals(expected, assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.STRUCTURED_ATTRIBUTE, true)
+                .writeValueAsString(container)));
+        final I18nStringAsObjectContainer objectContainer = new I18nStringAsObjectContainer();
+        objectContainer.setBean(bean);
+        assertEquals(expected, assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.STRUCTURED_ATTRIBUTE, "true")
+                .writeValueAsString(objectContainer)));
+        container.setBean(new I18nStringMap("default"));
+        assertEquals("{\"bean\":\"default\"}", assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.STRUCTURED_ATTRIBUTE, true)
+                .writeValueAsString(container)));
+    }
+
+    /**
+     * Test for {@link I18nStringJacksonSerializer} serialization
+     * in containers with compact serialization attribute.
+     */
+    @Test
+    void testAsObjectContainer_CompactAttribute() {
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("yy", "yy text")
+                .set("xx", "xx text");
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        assertEquals(
+                "{\"bean\":[\"default\",{\"xx\":\"xx text\",\"yy\":\"yy text\"}]}",
+                assertDoesNotThrow(() -> mapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .withAttribute(I18nStringJacksonSerializer.COMPACT_ATTRIBUTE, true)
+                    .writeValueAsString(container)));
+        assertEquals(
+                "{\"bean\":[\"default\",{\"xx\":\"xx text\"}]}",
+                assertDoesNotThrow(() -> mapper.writer()
+                    .withAttribute(I18nStringJacksonSerializer.COMPACT_ATTRIBUTE, "true")
+                    .withAttribute(I18nStringJacksonSerializer.LANGUAGES_ATTRIBUTE, "xx")
+                    .writeValueAsString(container)));
+        final JsonNode tree = assertDoesNotThrow(() -> mapper.valueToTree(container));
+        assertTrue(tree.get(I18nStringContainer.BEAN_PROPERTY).isObject());
+        final StringWriter writer = new StringWriter();
+        assertDoesNotThrow(() -> {
+            final JsonGenerator binaryGenerator = new JsonGeneratorDelegate(
+                    mapper.createGenerator(writer)) {
+                @Override
+                public boolean canWriteBinaryNatively() {
+                    return true;
+                }
+            };
+            mapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValue(binaryGenerator, container);
+        });
+        assertEquals(
+                "{\"bean\":{\"defaultText\":\"default\",\"i18n\":{\"xx\":\"xx text\",\"yy\":\"yy text\"}}}",
+                writer.toString());
+        final I18nStringContainer textContainer = new I18nStringContainer();
+        textContainer.setBean(bean);
+        assertEquals("{\"bean\":\"default\"}", assertDoesNotThrow(() -> mapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.COMPACT_ATTRIBUTE, true)
+                .writeValueAsString(textContainer)));
+    }
+
+    /**
+     * Test for {@link I18nStringJacksonSerializer} serialization
+     * in containers with binary data formats.
+     */
+    @Test
+    void testAsObjectContainer_Smile() {
+        final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        final I18nStringMap bean = new I18nStringMap("default")
+                .set("xx", "xx text")
+                .set("yy", "yy text");
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final byte[] objectData = assertDoesNotThrow(() -> smileMapper.writeValueAsBytes(container));
+        final JsonNode objectTree = assertDoesNotThrow(() -> smileMapper.readTree(objectData));
+        assertTrue(objectTree.get(I18nStringContainer.BEAN_PROPERTY).isObject());
+        final I18nStringAsObjectContainer objectResult = assertDoesNotThrow(
+                () -> smileMapper.readValue(objectData, I18nStringAsObjectContainer.class));
+        assertEquals(bean, objectResult.getBean());
+        final byte[] data = assertDoesNotThrow(() -> smileMapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.COMPACT_ATTRIBUTE, true)
+                .writeValueAsBytes(container));
+        final JsonNode tree = assertDoesNotThrow(() -> smileMapper.readTree(data));
+        assertTrue(tree.get(I18nStringContainer.BEAN_PROPERTY).isArray());
+        assertTrue(objectData.length > data.length);
+        final I18nStringAsObjectContainer result = assertDoesNotThrow(
+                () -> smileMapper.readValue(data, I18nStringAsObjectContainer.class));
+        assertEquals(bean, result.getBean());
+        assertArrayEquals(objectData, assertDoesNotThrow(() -> smileMapper.writer()
+                .withAttribute(I18nStringJacksonSerializer.COMPACT_ATTRIBUTE, false)
+                .writeValueAsBytes(container)));
+    }
+
     protected String toJson(final Object bean) {
         return assertDoesNotThrow(() -> {
             return mapper.writeValueAsString(bean);
@@ -41,12 +41,17 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import dev.orne.i18n.I18N;
+import dev.orne.i18n.I18nConcurrentStringMap;
+import dev.orne.i18n.I18nConcurrentStringMapContainer;
 import dev.orne.i18n.I18nFixedString;
 import dev.orne.i18n.I18nFixedStringContainer;
+import dev.orne.i18n.I18nResourcesString;
 import dev.orne.i18n.I18nResourcesStringAsObjectContainer;
+import dev.orne.i18n.I18nResourcesStringStructuredContainer;
 import dev.orne.i18n.I18nString;
 import dev.orne.i18n.I18nStringAsObjectContainer;
 import dev.orne.i18n.I18nStringContainer;
+import dev.orne.i18n.I18nStringLimits;
 import dev.orne.i18n.I18nStringMap;
 import dev.orne.i18n.I18nStringMapAsObjectContainer;
 import dev.orne.i18n.I18nStringMapContainer;
@@ -423,6 +428,30 @@ class I18nStringJavaxJaxbDeserializationTest {
         assertEquals(bean, result.getBean());
     }
 
+    /**
+     * Test JAXB XML unmarshalling support for
+     * {@code I18nConcurrentStringMap} in containers, through its type
+     * adapter.
+     */
+    @Test
+    void testConcurrentContainer_I18nStringMap() {
+        final String defaultText = randomXmlText();
+        final I18nStringMap bean = new I18nStringMap(defaultText)
+                .set("xx", randomXmlText())
+                .set("yy", randomXmlText());
+        final I18nStringAsObjectContainer container = new I18nStringAsObjectContainer();
+        container.setBean(bean);
+        final String xml = toXml(container);
+        assertNotNull(xml);
+        final I18nConcurrentStringMapContainer result = fromXml(xml, I18nConcurrentStringMapContainer.class);
+        assertNotNull(result);
+        assertInstanceOf(I18nConcurrentStringMap.class, result.getBean());
+        assertTrue(bean.isEquivalent(result.getBean()));
+        final I18nConcurrentStringMapAdapter.Full adapter = new I18nConcurrentStringMapAdapter.Full();
+        final I18nConcurrentStringMap copy = adapter.unmarshal(adapter.marshal(result.getBean()));
+        assertTrue(bean.isEquivalent(copy));
+    }
+
     /**
      * Test JAXB XML unmarshalling support for null {@code I18nStringMap}
      * in containers.
@@ -478,6 +507,107 @@ class I18nStringJavaxJaxbDeserializationTest {
         assertEquals(bean, result.getBean());
     }
 
+    /**
+     * Test JAXB XML unmarshalling support for {@code I18nResourcesString}
+     * in structured form in containers.
+     */
+    @Test
+    void testStructuredContainer_I18nResourcesString() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(randomXmlText())
+                .ofResources("resources")
+                .withCodes("code.a", "code.b")
+                .withArgs("text", null)
+                .build();
+        final I18nResourcesStringStructuredContainer container =
+                new I18nResourcesStringStructuredContainer();
+        container.setBean(bean);
+        final String xml = toXml(container);
+        assertNotNull(xml);
+        final I18nResourcesStringStructuredContainer result = fromXml(
+                xml,
+                I18nResourcesStringStructuredContainer.class);
+        assertNotNull(result);
+        assertEquals(container, result);
+    }
+
+    /**
+     * Test JAXB XML unmarshalling support for {@code I18nResourcesString}
+     * in structured form with text arguments.
+     */
+    @Test
+    void testStructuredContainer_I18nResourcesString_Arguments() {
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(randomXmlText())
+                .withCode("code.a")
+                .withArg(3)
+                .build();
+        final I18nResourcesStringStructuredContainer container =
+                new I18nResourcesStringStructuredContainer();
+        container.setBean(bean);
+        final I18nResourcesStringStructuredContainer result = fromXml(
+                toXml(container),
+                I18nResourcesStringStructuredContainer.class);
+        assertNotNull(result);
+        assertNotNull(result.getBean());
+        assertEquals(bean.getDefaultText(), result.getBean().getDefaultText());
+        assertArrayEquals(bean.getCodes(), result.getBean().getCodes());
+        assertArrayEquals(new Object[] { "3" }, result.getBean().getArguments());
+    }
+
+    /**
+     * Test {@link JaxbUtils#fromXml(XmlI18nString, I18nStringLimits)}.
+     */
+    @Test
+    void testFromXml_Limits() {
+        final I18nStringLimits limits = I18nStringLimits.unlimited()
+                .withMaxLanguages(1)
+                .withMaxTextLength(10)
+                .withLocales(new Locale("xx"));
+        final XmlI18nString value = createXml("text", "xx", "xx text");
+        assertEquals(
+                new I18nStringMap("text").set("xx", "xx text"),
+                JaxbUtils.fromXml(value, limits));
+        assertThrows(IllegalArgumentException.class, () -> {
+            JaxbUtils.fromXml(createXml("long default text"), limits);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            JaxbUtils.fromXml(createXml("text", "xx", "long xx text"), limits);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            JaxbUtils.fromXml(createXml("text", "zz", "zz text"), limits);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            JaxbUtils.fromXml(createXml("text", "xx", "xx text", "xx-YY", "xx text"),
+                    limits.withLanguages(null));
+        });
+        I18nStringLimits.setShared(limits.withMaxLanguages(0));
+        try {
+            assertThrows(IllegalArgumentException.class, () -> {
+                JaxbUtils.fromXml(value);
+            });
+        } finally {
+            I18nStringLimits.setShared(null);
+        }
+        assertEquals(
+                new I18nStringMap("text").set("xx", "xx text"),
+                JaxbUtils.fromXml(value));
+    }
+
+    protected static XmlI18nString createXml(
+            final @NotNull String defaultText,
+            final @NotNull String... translations) {
+        final XmlI18nString result = new XmlI18nString();
+        result.getContent().add(defaultText);
+        for (int i = 0; i < translations.length; i += 2) {
+            final XmlI18nStringTranslation translation = new XmlI18nStringTranslation();
+            translation.setLang(translations[i]);
+            translation.setValue(translations[i + 1]);
+            result.getContent().add(translation);
+        }
+        return result;
+    }
+
     protected static String toXml(
             final @NotNull Object bean) {
         return assertDoesNotThrow(() -> {
@@ -50,12 +50,16 @@ import org.xml.sax.InputSource;
 
 import dev.orne.i18n.I18N;
 import dev.orne.i18n.I18nBilingualString;
+import dev.orne.i18n.I18nConcurrentStringMap;
+import dev.orne.i18n.I18nConcurrentStringMapContainer;
 import dev.orne.i18n.I18nFixedString;
 import dev.orne.i18n.I18nFixedStringAsObjectContainer;
 import dev.orne.i18n.I18nFixedStringContainer;
+import dev.orne.i18n.I18nLanguageProjection;
 import dev.orne.i18n.I18nResourcesString;
 import dev.orne.i18n.I18nResourcesStringAsObjectContainer;
 import dev.orne.i18n.I18nResourcesStringContainer;
+import dev.orne.i18n.I18nResourcesStringStructuredContainer;
 import dev.orne.i18n.I18nString;
 import dev.orne.i18n.I18nStringAsObjectContainer;
 import dev.orne.i18n.I18nStringContainer;
@@ -179,6 +183,27 @@ class I18nStringJavaxJaxbSerializationTest {
         assertHasNoTranslations(text, beanNode);
     }
 
+    /**
+     * Test JAXB XML marshalling support for {@code I18nConcurrentStringMap}
+     * in containers, through its type adapter.
+     */
+    @Test
+    void testConcurrentContainer_I18nConcurrentStringMap() {
+        I18N.setLocale(MOCK_LOCALE);
+        final String defaultText = randomXmlText();
+        final String xxText = randomXmlText();
+        final I18nConcurrentStringMap bean = new I18nConcurrentStringMap(defaultText)
+                .set("xx", xxText)
+                .set("yy", randomXmlText());
+        final I18nConcurrentStringMapContainer container = new I18nConcurrentStringMapContainer();
+        container.setBean(bean);
+        final String xml = toXml(container);
+        assertNotNull(xml);
+        final Element tree = xmlToRootElement(xml);
+        final Element beanNode = assertContainerNode(tree);
+        assertHasNoTranslations(xxText, beanNode);
+    }
+
     /**
      * Test JAXB XML marshalling support for {@code I18nBilingualString}
      * in containers.
@@ -571,6 +596,69 @@ class I18nStringJavaxJaxbSerializationTest {
         assertEquals(3, translations.size());
     }
 
+    /**
+     * Test JAXB XML marshalling support for {@code I18nResourcesString}
+     * in structured form in containers.
+     */
+    @Test
+    void testStructuredContainer_I18nResourcesString() {
+        final String defaultText = randomXmlText();
+        final I18nResourcesString bean = I18nResourcesString
+                .forDefault(defaultText)
+                .ofResources("resources")
+                .withCodes("code.a", "code.b")
+                .withArgs("text", 3)
+                .build();
+        final I18nResourcesStringStructuredContainer container =
+                new I18nResourcesStringStructuredContainer();
+        container.setBean(bean);
+        final String xml = toXml(container);
+        assertNotNull(xml);
+        final Element tree = xmlToRootElement(xml);
+        final Element beanNode = assertContainerNode(tree);
+        assertNotNull(beanNode);
+        assertEquals("resources", beanNode.getAttribute(I18nXmlSchema.RESOURCES_STRING_RESOURCES_ATTR));
+        final List<Element> childs = getChildElements(beanNode);
+        assertEquals(5, childs.size());
+        for (final Element child : childs) {
+            assertEquals(I18nXmlSchema.NS, child.getNamespaceURI().toString());
+        }
+        assertEquals(I18nXmlSchema.RESOURCES_STRING_DEFAULT_TEXT_ELEMENT, childs.get(0).getLocalName());
+        assertEquals(defaultText, StringEscapeUtils.unescapeXml(childs.get(0).getTextContent()));
+        assertEquals(I18nXmlSchema.RESOURCES_STRING_CODE_ELEMENT, childs.get(1).getLocalName());
+        assertEquals("code.a", childs.get(1).getTextContent());
+        assertEquals(I18nXmlSchema.RESOURCES_STRING_CODE_ELEMENT, childs.get(2).getLocalName());
+        assertEquals("code.b", childs.get(2).getTextContent());
+        assertEquals(I18nXmlSchema.RESOURCES_STRING_ARGUMENT_ELEMENT, childs.get(3).getLocalName());
+        assertEquals("text", childs.get(3).getTextContent());
+        assertEquals(I18nXmlSchema.RESOURCES_STRING_ARGUMENT_ELEMENT, childs.get(4).getLocalName());
+        assertEquals("3", childs.get(4).getTextContent());
+    }
+
+    /**
+     * Test {@link JaxbUtils#toFullXml(I18nString, I18nLanguageProjection)}.
+     */
+    @Test
+    void testToFullXml_Projection() {
+        final String defaultText = randomXmlText();
+        final String xxText = randomXmlText();
+        final String xxYyText = randomXmlText();
+        final String zzText = randomXmlText();
+        final I18nStringMap bean = new I18nStringMap(defaultText)
+                .set("xx", xxText)
+                .set("xx-YY", xxYyText)
+                .set("zz", zzText);
+        final I18nStringMap expected = new I18nStringMap(defaultText)
+                .set("xx", xxText)
+                .set("xx-YY", xxYyText);
+        final XmlI18nString xml = JaxbUtils.toFullXml(
+                bean,
+                I18nLanguageProjection.of("xx-YY"));
+        assertTrue(expected.isEquivalent(JaxbUtils.fromXml(xml)));
+        assertTrue(bean.isEquivalent(JaxbUtils.fromXml(JaxbUtils.toFullXml(bean, null))));
+        assertNull(JaxbUtils.toFullXml(null, I18nLanguageProjection.of("xx")));
+    }
+
     protected static String toXml(
             final @NotNull Object bean) {
         return assertDoesNotThrow(() -> {
@@ -0,0 +1,285 @@
+package dev.orne.i18n.spring;
+
+/*-
+ * #%L
+ * Orne I18N
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.orne.i18n.I18nResources;
+import dev.orne.i18n.context.CachingI18nResources;
+import dev.orne.i18n.context.ContextTestUtils;
+import dev.orne.i18n.context.DummyI18nResources;
+import dev.orne.i18n.context.I18nBundleResources;
+import dev.orne.i18n.context.I18nContext;
+import dev.orne.i18n.context.I18nContextProvider;
+
+/**
+ * Unit tests for {@code I18nSpringCatalogExporter}.
+ *
+ * @author <a href="https://github.com/ihernaez">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.2
+ * @see I18nSpringCatalogExporter
+ */
+@Tag("ut")
+@ExtendWith(MockitoExtension.class)
+class I18nSpringCatalogExporterTest {
+
+    private static final String BASE_NAME = "dev.orne.i18n.test-messages";
+    private static final String RESOURCES_KEY = "mock resources";
+    private static final Locale LOCALE = new Locale("yy");
+
+    private @Mock I18nContextProvider mockProvider;
+    private @Mock I18nContext mockContext;
+
+    @AfterEach
+    void resetConfiguration() {
+        ContextTestUtils.reset();
+    }
+
+    void mockStrategy(
+            final UUID session,
+            final String key,
+            final I18nResources resources) {
+        ContextTestUtils.setProvider(mockProvider);
+        willReturn(mockContext).given(mockProvider).getContext();
+        willReturn(session).given(mockContext).getProviderUUID();
+        willReturn(resources).given(mockContext).getI18nResources(key);
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#I18nSpringCatalogExporter(ObjectMapper, int)}.
+     */
+    @Test
+    void testConstructor() {
+        assertEquals(
+                I18nSpringCatalogExporter.DEFAULT_MAX_SIZE,
+                new I18nSpringCatalogExporter().getMaxSize());
+        assertEquals(10, new I18nSpringCatalogExporter(new ObjectMapper(), 10).getMaxSize());
+        assertThrows(NullPointerException.class, () -> {
+            new I18nSpringCatalogExporter(null, 10);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new I18nSpringCatalogExporter(new ObjectMapper(), 0);
+        });
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport() throws Exception {
+        final I18nBundleResources resources = new I18nBundleResources(BASE_NAME);
+        mockStrategy(UUID.randomUUID(), null, resources);
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter();
+        final ResponseEntity<byte[]> result = exporter.export(null, LOCALE, new HttpHeaders());
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertArrayEquals(
+                new ObjectMapper().writeValueAsBytes(resources.getCatalog(LOCALE)),
+                result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertNull(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, result.getHeaders().getFirst(HttpHeaders.VARY));
+        final String etag = result.getHeaders().getETag();
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\""));
+        assertTrue(etag.endsWith("\""));
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport_Gzip() throws Exception {
+        final I18nBundleResources resources = new I18nBundleResources(BASE_NAME);
+        mockStrategy(UUID.randomUUID(), RESOURCES_KEY, resources);
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter();
+        final ResponseEntity<byte[]> plain = exporter.export(RESOURCES_KEY, LOCALE, new HttpHeaders());
+        final HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+        final ResponseEntity<byte[]> result = exporter.export(RESOURCES_KEY, LOCALE, headers);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("gzip", result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(plain.getBody(), gunzip(result.getBody()));
+        assertNotEquals(plain.getHeaders().getETag(), result.getHeaders().getETag());
+        final HttpHeaders rejected = new HttpHeaders();
+        rejected.add(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate");
+        assertNull(exporter.export(RESOURCES_KEY, LOCALE, rejected)
+                .getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport_NotModified() {
+        final I18nBundleResources resources = new I18nBundleResources(BASE_NAME);
+        mockStrategy(UUID.randomUUID(), null, resources);
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter();
+        final String etag = exporter.export(null, LOCALE, new HttpHeaders())
+                .getHeaders().getETag();
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        final ResponseEntity<byte[]> result = exporter.export(null, LOCALE, headers);
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertEquals(etag, result.getHeaders().getETag());
+        assertNull(result.getBody());
+        headers.setIfNoneMatch("\"other\"");
+        assertEquals(HttpStatus.OK, exporter.export(null, LOCALE, headers).getStatusCode());
+        headers.setIfNoneMatch("W/" + etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, exporter.export(null, LOCALE, headers).getStatusCode());
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport_Concurrent() throws Exception {
+        final CountDownLatch exporting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final I18nBundleResources resources = spy(new I18nBundleResources(BASE_NAME));
+        willAnswer(invocation -> {
+            exporting.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).given(resources).getCatalog(LOCALE);
+        mockStrategy(UUID.randomUUID(), null, resources);
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<ResponseEntity<byte[]>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> exporter.export(null, LOCALE, new HttpHeaders())));
+            assertTrue(exporting.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> exporter.export(null, LOCALE, new HttpHeaders())));
+            }
+            release.countDown();
+            final byte[] body = results.get(0).get(10, TimeUnit.SECONDS).getBody();
+            for (final Future<ResponseEntity<byte[]>> result : results) {
+                assertSame(body, result.get(10, TimeUnit.SECONDS).getBody());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        then(resources).should(times(1)).getCatalog(LOCALE);
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport_Reused() {
+        final I18nBundleResources resources = spy(new I18nBundleResources(BASE_NAME));
+        final UUID session = UUID.randomUUID();
+        mockStrategy(session, null, resources);
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter();
+        final byte[] body = exporter.export(null, LOCALE, new HttpHeaders()).getBody();
+        assertSame(body, exporter.export(null, LOCALE, new HttpHeaders()).getBody());
+        then(resources).should(times(1)).getCatalog(LOCALE);
+        willReturn(UUID.randomUUID()).given(mockContext).getProviderUUID();
+        final byte[] rebuilt = exporter.export(null, LOCALE, new HttpHeaders()).getBody();
+        assertNotSame(body, rebuilt);
+        assertArrayEquals(body, rebuilt);
+        then(resources).should(times(2)).getCatalog(LOCALE);
+        exporter.clear();
+        exporter.export(null, LOCALE, new HttpHeaders());
+        then(resources).should(times(3)).getCatalog(LOCALE);
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport_MaxSize() {
+        final I18nBundleResources resources = spy(new I18nBundleResources(BASE_NAME));
+        mockStrategy(UUID.randomUUID(), null, resources);
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter(new ObjectMapper(), 1);
+        exporter.export(null, LOCALE, new HttpHeaders());
+        exporter.export(null, Locale.ROOT, new HttpHeaders());
+        exporter.export(null, LOCALE, new HttpHeaders());
+        then(resources).should(times(2)).getCatalog(LOCALE);
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport_Caching() {
+        final I18nBundleResources resources = new I18nBundleResources(BASE_NAME);
+        mockStrategy(UUID.randomUUID(), null, new CachingI18nResources(resources));
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter();
+        assertEquals(HttpStatus.OK, exporter.export(null, LOCALE, new HttpHeaders()).getStatusCode());
+    }
+
+    /**
+     * Test {@link I18nSpringCatalogExporter#export(String, Locale, HttpHeaders)}.
+     */
+    @Test
+    void testExport_Unsupported() {
+        mockStrategy(UUID.randomUUID(), null, DummyI18nResources.getInstance());
+        final I18nSpringCatalogExporter exporter = new I18nSpringCatalogExporter();
+        assertThrows(UnsupportedOperationException.class, () -> {
+            exporter.export(null, LOCALE, new HttpHeaders());
+        });
+    }
+
+    private static byte[] gunzip(
+            final byte[] data)
+    throws Exception {
+        try (final InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.util.Locale;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -37,6 +38,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
 
 import dev.orne.i18n.context.ContextTestUtils;
 import dev.orne.i18n.context.I18nContext;
@@ -352,4 +355,55 @@ class I18nSpringResourcesTest {
         then(source).should(order, times(1)).getMessage(MOCK_MSG_CODE_3, ARGS, MOCK_LOCALE);
         then(source).shouldHaveNoMoreInteractions();
     }
+
+    /**
+     * Test for {@link I18nSpringResources#getCatalog(Locale)}
+     */
+    @Test
+    void testGetCatalog() {
+        final ResourceBundleMessageSource bundleSource = new ResourceBundleMessageSource();
+        bundleSource.setBasenames(
+                "dev.orne.i18n.test-messages",
+                "dev.orne.i18n.missing-messages");
+        final I18nSpringResources resources = new I18nSpringResources(bundleSource);
+        final Map<String, String> result = resources.getCatalog(new Locale("yy"));
+        assertEquals(6, result.size());
+        assertEquals("dev.orne.i18n.test.blank", result.keySet().iterator().next());
+        assertEquals("dev/orne/i18n/test-messages_yy.properties", result.get("dev.orne.i18n.test.bundle"));
+        assertEquals("Valid value", result.get("dev.orne.i18n.test.valid"));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            result.put("other", "other");
+        });
+    }
+
+    /**
+     * Test for {@link I18nSpringResources#getCatalog(Locale)}
+     */
+    @Test
+    void testGetCatalog_Unsupported() {
+        final I18nSpringResources resources = new I18nSpringResources(source);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            resources.getCatalog(MOCK_LOCALE);
+        });
+        then(source).shouldHaveNoInteractions();
+    }
+
+    /**
+     * Test for {@link I18nSpringResources#getCatalog(Locale)}
+     */
+    @Test
+    void testGetCatalog_Reloadable() {
+        final ReloadableResourceBundleMessageSource reloadableSource =
+                new ReloadableResourceBundleMessageSource();
+        reloadableSource.setBasenames("classpath:dev/orne/i18n/test-messages");
+        final I18nSpringResources resources = new I18nSpringResources(reloadableSource);
+        assertEquals("Valid value", resources.getCatalog(new Locale("yy"))
+                .get("dev.orne.i18n.test.valid"));
+        reloadableSource.setBasenames(
+                "classpath:dev/orne/i18n/test-messages",
+                "WEB-INF/messages");
+        assertThrows(UnsupportedOperationException.class, () -> {
+            resources.getCatalog(new Locale("yy"));
+        });
+    }
 }